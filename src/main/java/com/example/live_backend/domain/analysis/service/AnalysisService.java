@@ -31,7 +31,7 @@ public class AnalysisService {
         );
 
         LocalDateTime monthStartDateTime = monthStartDate.atStartOfDay();
-        LocalDateTime monthEndDateTime = monthEndDate.atTime(LocalTime.MAX);
+        LocalDateTime monthEndDateTime = monthEndDate.plusDays(1).atStartOfDay();
 
         long completed = cloverMissionRecordRepository.countCompletedInPeriod(
                 memberId, CloverMissionStatus.COMPLETED, monthStartDateTime, monthEndDateTime
@@ -47,7 +47,7 @@ public class AnalysisService {
         LocalDate weekEndDate = date.with(DayOfWeek.SUNDAY);
 
         LocalDateTime weekStartDateTime = weekStartDate.atStartOfDay();
-        LocalDateTime weekEndDateTime = weekEndDate.atTime(LocalTime.MAX);
+        LocalDateTime weekEndDateTime = weekEndDate.plusDays(1).atStartOfDay();
 
         List<CloverMissionRecord> completedList = cloverMissionRecordRepository.findCompletedInPeriod(
                 memberId, CloverMissionStatus.COMPLETED, weekStartDateTime, weekEndDateTime);
@@ -67,10 +67,10 @@ public class AnalysisService {
         YearMonth prev = ym.minusMonths(1);
 
         LocalDateTime currStartDateTime = ym.atDay(1).atStartOfDay();
-        LocalDateTime currEndDateTime = ym.atEndOfMonth().atTime(LocalTime.MAX);
+        LocalDateTime currEndDateTime = ym.plusMonths(1).atDay(1).atStartOfDay();
 
         LocalDateTime prevStartDateTime = prev.atDay(1).atStartOfDay();
-        LocalDateTime prevEndDateTime = prev.atEndOfMonth().atTime(LocalTime.MAX);
+        LocalDateTime prevEndDateTime = ym.atDay(1).atStartOfDay();
 
         Map<MissionCategory, Long> current = toCategoryCountMap(
                 cloverMissionRecordRepository.countCompletedByCategoryInPeriod(
@@ -0,0 +1,51 @@
+package com.example.live_backend.domain.board.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 boards 에서 옮겨진 삭제 게시글 (BoardArchiveJob 이 INSERT ... SELECT 로 기록)
+ */
+@Entity
+@Table(name = "boards_archive", indexes = @Index(name = "idx_boards_archive_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedBoard {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(length = 100)
+    private String relatedOrganization;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    private Long viewCount;
+
+    private Long uniqueViewerCount;
+
+    private Long commentCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
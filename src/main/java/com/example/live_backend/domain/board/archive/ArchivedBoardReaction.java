@@ -0,0 +1,44 @@
+package com.example.live_backend.domain.board.archive;
+
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * board_reactions 에서 옮겨진 반응 (취소된 반응, 또는 보관된 게시글의 모든 반응)
+ */
+@Entity
+@Table(name = "board_reactions_archive", indexes = {
+        @Index(name = "idx_board_reactions_archive_board_id", columnList = "board_id"),
+        @Index(name = "idx_board_reactions_archive_archived_at", columnList = "archived_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedBoardReaction {
+
+    @Id
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", nullable = false)
+    private ReactionType reactionType;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
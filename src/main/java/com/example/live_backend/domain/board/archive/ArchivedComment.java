@@ -0,0 +1,49 @@
+package com.example.live_backend.domain.board.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 comments 에서 옮겨진 댓글 (삭제된 댓글, 또는 보관된 게시글의 모든 댓글)
+ */
+@Entity
+@Table(name = "comments_archive", indexes = {
+        @Index(name = "idx_comments_archive_board_id", columnList = "board_id"),
+        @Index(name = "idx_comments_archive_archived_at", columnList = "archived_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    private Long parentCommentId;
+
+    @Column(nullable = false)
+    private Boolean isDeleted;
+
+    private Long likeCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,37 @@
+package com.example.live_backend.domain.board.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 댓글과 함께 comment_likes 에서 옮겨진 좋아요
+ */
+@Entity
+@Table(name = "comment_likes_archive", indexes = {
+        @Index(name = "idx_comment_likes_archive_comment_id", columnList = "comment_id"),
+        @Index(name = "idx_comment_likes_archive_archived_at", columnList = "archived_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedCommentLike {
+
+    @Id
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,21 @@
+package com.example.live_backend.domain.board.archive;
+
+/**
+ * 보관 배치 하나에서 옮긴 테이블별 행 수
+ */
+public record ArchivedRows(int boards, int comments, int commentLikes, int reactions) {
+
+    public static final ArchivedRows EMPTY = new ArchivedRows(0, 0, 0, 0);
+
+    public ArchivedRows plus(ArchivedRows other) {
+        return new ArchivedRows(
+                boards + other.boards,
+                comments + other.comments,
+                commentLikes + other.commentLikes,
+                reactions + other.reactions);
+    }
+
+    public int total() {
+        return boards + comments + commentLikes + reactions;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.live_backend.domain.board.archive;
+
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제된 게시글/댓글/반응 보관 작업
+ * 삭제된 지 board.archive.retention-days 가 지난 행을 ID 순으로 board.archive.batch-size 개씩 보관 테이블로 옮겨
+ * 조회 쿼리와 인덱스에서 죽은 행을 걷어냅니다. 단계마다 진행 위치(JobCheckpoint)를 배치와 함께 커밋하므로
+ * 실행당 최대 board.archive.max-batches-per-run 배치까지만 처리하고 나머지는 다음 실행에서 이어갑니다.
+ * board.archive.purge-after-days 가 0보다 크면 그 기간이 지난 보관 행은 영구 삭제합니다.
+ */
+@Slf4j
+@Component
+public class BoardArchiveJob {
+
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final BoardArchiveWriter boardArchiveWriter;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration purgeAfter;
+    private final Clock clock;
+
+    private final Counter archivedBoards;
+    private final Counter archivedComments;
+    private final Counter archivedCommentLikes;
+    private final Counter archivedReactions;
+    private final Counter purgedRows;
+    private final Map<BoardArchiveStep, Timer> batchTimers = new EnumMap<>(BoardArchiveStep.class);
+
+    public BoardArchiveJob(
+            BoardArchiveRepository boardArchiveRepository,
+            BoardArchiveWriter boardArchiveWriter,
+            JobCheckpointRepository jobCheckpointRepository,
+            @Value("${board.archive.retention-days:30}") long retentionDays,
+            @Value("${board.archive.batch-size:500}") int batchSize,
+            @Value("${board.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+            @Value("${board.archive.purge-after-days:0}") long purgeAfterDays,
+            MeterRegistry meterRegistry) {
+        this(boardArchiveRepository, boardArchiveWriter, jobCheckpointRepository, retentionDays, batchSize,
+                maxBatchesPerRun, purgeAfterDays, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    BoardArchiveJob(BoardArchiveRepository boardArchiveRepository, BoardArchiveWriter boardArchiveWriter,
+                    JobCheckpointRepository jobCheckpointRepository, long retentionDays, int batchSize,
+                    int maxBatchesPerRun, long purgeAfterDays, MeterRegistry meterRegistry, Clock clock) {
+        this.boardArchiveRepository = boardArchiveRepository;
+        this.boardArchiveWriter = boardArchiveWriter;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgeAfter = Duration.ofDays(purgeAfterDays);
+        this.clock = clock;
+
+        this.archivedBoards = archivedCounter(meterRegistry, "boards");
+        this.archivedComments = archivedCounter(meterRegistry, "comments");
+        this.archivedCommentLikes = archivedCounter(meterRegistry, "comment_likes");
+        this.archivedReactions = archivedCounter(meterRegistry, "board_reactions");
+        this.purgedRows = Counter.builder("board.archive.purged")
+                .description("보관 테이블에서 영구 삭제한 행 수")
+                .register(meterRegistry);
+        for (BoardArchiveStep step : BoardArchiveStep.values()) {
+            batchTimers.put(step, Timer.builder("board.archive.batch")
+                    .description("보관 배치 하나의 처리 시간")
+                    .tag("step", step.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(cron = "${board.archive.cron:0 30 3 * * *}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(retention);
+        long startedAt = System.nanoTime();
+
+        ArchivedRows total = ArchivedRows.EMPTY;
+        for (BoardArchiveStep step : BoardArchiveStep.values()) {
+            try {
+                total = total.plus(runStep(step, cutoff, now));
+            } catch (RuntimeException e) {
+                log.error("[BoardArchiveJob] 보관 단계 실패 - 다음 실행에서 이어갑니다. step: {}", step, e);
+            }
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("[BoardArchiveJob] 보관 완료 - boards: {}, comments: {}, commentLikes: {}, reactions: {}, rows/s: {}",
+                total.boards(), total.comments(), total.commentLikes(), total.reactions(),
+                Math.round(total.total() / seconds));
+
+        if (!purgeAfter.isZero()) {
+            purge(now.minus(purgeAfter));
+        }
+    }
+
+    private ArchivedRows runStep(BoardArchiveStep step, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        long afterId = jobCheckpointRepository.findLastProcessedId(step.getJobName());
+        ArchivedRows archived = ArchivedRows.EMPTY;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = findArchivableIds(step, cutoff, afterId);
+            if (ids.isEmpty()) {
+                boardArchiveWriter.complete(step);
+                return archived;
+            }
+
+            ArchivedRows rows = batchTimers.get(step).record(() -> boardArchiveWriter.archive(step, ids, archivedAt));
+            record(rows);
+            archived = archived.plus(rows);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        log.info("[BoardArchiveJob] 실행당 최대 배치 수 도달 - step: {}, afterId: {}", step, afterId);
+        return archived;
+    }
+
+    private List<Long> findArchivableIds(BoardArchiveStep step, LocalDateTime cutoff, long afterId) {
+        return switch (step) {
+            case BOARDS -> boardArchiveRepository.findArchivableBoardIds(cutoff, afterId, batchSize);
+            case COMMENTS -> boardArchiveRepository.findArchivableCommentIds(cutoff, afterId, batchSize);
+            case REACTIONS -> boardArchiveRepository.findArchivableReactionIds(cutoff, afterId, batchSize);
+        };
+    }
+
+    private void purge(LocalDateTime archivedBefore) {
+        int purged = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int deleted = boardArchiveRepository.purgeArchived(archivedBefore, batchSize);
+                purgedRows.increment(deleted);
+                purged += deleted;
+                if (deleted == 0) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("[BoardArchiveJob] 보관 행 영구 삭제 실패 - purged: {}", purged, e);
+            return;
+        }
+
+        if (purged > 0) {
+            log.info("[BoardArchiveJob] 보관 행 영구 삭제 완료 - archivedBefore: {}, purged: {}", archivedBefore, purged);
+        }
+    }
+
+    private void record(ArchivedRows rows) {
+        archivedBoards.increment(rows.boards());
+        archivedComments.increment(rows.comments());
+        archivedCommentLikes.increment(rows.commentLikes());
+        archivedReactions.increment(rows.reactions());
+    }
+
+    private static Counter archivedCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("board.archive.rows")
+                .description("보관 테이블로 옮긴 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
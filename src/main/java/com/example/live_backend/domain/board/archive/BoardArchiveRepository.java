@@ -0,0 +1,161 @@
+package com.example.live_backend.domain.board.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 삭제된 게시글/댓글/반응을 보관 테이블로 옮기는 JDBC 쿼리
+ * 옮기는 메서드는 INSERT ... SELECT 후 같은 조건으로 DELETE 하므로 호출하는 쪽 트랜잭션 안에서 실행해야 합니다.
+ * 삭제 시각 컬럼이 없던 시절에 삭제된 행은 마지막 수정 시각을 삭제 시각으로 봅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardArchiveRepository {
+
+    private static final String ARCHIVABLE_BOARD_IDS_SQL =
+            "SELECT ID FROM BOARDS " +
+            "WHERE IS_DELETED = TRUE AND ID > :afterId AND COALESCE(DELETED_AT, MODIFIED_AT) < :cutoff " +
+            "ORDER BY ID LIMIT :limit";
+
+    // 보관 대상이 아닌 대댓글이 남아 있는 댓글은 제외 (대댓글이 먼저 보관된 뒤 다음 실행에서 옮김)
+    private static final String ARCHIVABLE_COMMENT_IDS_SQL =
+            "SELECT c.ID FROM COMMENTS c " +
+            "WHERE c.IS_DELETED = TRUE AND c.ID > :afterId AND COALESCE(c.DELETED_AT, c.MODIFIED_AT) < :cutoff " +
+            "  AND NOT EXISTS (SELECT 1 FROM COMMENTS r WHERE r.PARENT_COMMENT_ID = c.ID " +
+            "                  AND NOT (r.IS_DELETED = TRUE AND COALESCE(r.DELETED_AT, r.MODIFIED_AT) < :cutoff)) " +
+            "ORDER BY c.ID LIMIT :limit";
+
+    private static final String ARCHIVABLE_REACTION_IDS_SQL =
+            "SELECT ID FROM BOARD_REACTIONS WHERE DELETED_AT < :cutoff AND ID > :afterId ORDER BY ID LIMIT :limit";
+
+    private static final String BOARD_COLUMNS =
+            "ID, TITLE, CONTENT, CATEGORY_ID, RELATED_ORGANIZATION, AUTHOR_ID, VIEW_COUNT, UNIQUE_VIEWER_COUNT, " +
+            "COMMENT_COUNT, CREATED_AT, MODIFIED_AT, DELETED_AT";
+    private static final String COMMENT_COLUMNS =
+            "ID, CONTENT, BOARD_ID, AUTHOR_ID, PARENT_COMMENT_ID, IS_DELETED, LIKE_COUNT, CREATED_AT, MODIFIED_AT, DELETED_AT";
+    private static final String COMMENT_LIKE_COLUMNS =
+            "ID, COMMENT_ID, MEMBER_ID, CREATED_AT, MODIFIED_AT";
+    private static final String REACTION_COLUMNS =
+            "ID, BOARD_ID, MEMBER_ID, REACTION_TYPE, CREATED_AT, MODIFIED_AT, DELETED_AT";
+
+    private static final String BOARD_COMMENT_IDS = "SELECT ID FROM COMMENTS WHERE BOARD_ID IN (:boardIds)";
+
+    private static final List<String> ARCHIVE_TABLES = List.of(
+            "BOARDS_ARCHIVE", "COMMENTS_ARCHIVE", "COMMENT_LIKES_ARCHIVE", "BOARD_REACTIONS_ARCHIVE");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findArchivableBoardIds(LocalDateTime cutoff, long afterId, int limit) {
+        return findIds(ARCHIVABLE_BOARD_IDS_SQL, cutoff, afterId, limit);
+    }
+
+    public List<Long> findArchivableCommentIds(LocalDateTime cutoff, long afterId, int limit) {
+        return findIds(ARCHIVABLE_COMMENT_IDS_SQL, cutoff, afterId, limit);
+    }
+
+    public List<Long> findArchivableReactionIds(LocalDateTime cutoff, long afterId, int limit) {
+        return findIds(ARCHIVABLE_REACTION_IDS_SQL, cutoff, afterId, limit);
+    }
+
+    /**
+     * 삭제된 게시글과 그 게시글의 모든 댓글, 좋아요, 반응을 옮기고 집계/이미지 연결/조회자 스케치는 지웁니다.
+     */
+    public ArchivedRows archiveBoards(List<Long> boardIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("boardIds", boardIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+
+        int commentLikes = move("COMMENT_LIKES", COMMENT_LIKE_COLUMNS,
+                "COMMENT_ID IN (" + BOARD_COMMENT_IDS + ")", params);
+        int comments = moveComments("BOARD_ID IN (:boardIds)", params);
+        int reactions = move("BOARD_REACTIONS", REACTION_COLUMNS, "BOARD_ID IN (:boardIds)", params);
+
+        jdbcTemplate.update("DELETE FROM BOARD_REACTION_COUNTS WHERE BOARD_ID IN (:boardIds)", params);
+        jdbcTemplate.update("DELETE FROM BOARD_VIEWER_SKETCHES WHERE BOARD_ID IN (:boardIds)", params);
+        jdbcTemplate.update("DELETE FROM BOARD_IMAGES WHERE BOARD_ID IN (:boardIds)", params);
+        int boards = move("BOARDS", BOARD_COLUMNS, "ID IN (:boardIds) AND IS_DELETED = TRUE", params);
+
+        return new ArchivedRows(boards, comments, commentLikes, reactions);
+    }
+
+    /**
+     * 삭제된 댓글과 그 대댓글, 좋아요를 옮깁니다.
+     */
+    public ArchivedRows archiveComments(List<Long> commentIds, LocalDateTime archivedAt) {
+        Set<Long> targetIds = new LinkedHashSet<>(commentIds);
+        targetIds.addAll(jdbcTemplate.queryForList(
+                "SELECT ID FROM COMMENTS WHERE PARENT_COMMENT_ID IN (:commentIds)",
+                new MapSqlParameterSource("commentIds", commentIds), Long.class));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("commentIds", targetIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+
+        int commentLikes = move("COMMENT_LIKES", COMMENT_LIKE_COLUMNS, "COMMENT_ID IN (:commentIds)", params);
+        int comments = moveComments("ID IN (:commentIds) AND IS_DELETED = TRUE", params);
+
+        return new ArchivedRows(0, comments, commentLikes, 0);
+    }
+
+    public ArchivedRows archiveReactions(List<Long> reactionIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("reactionIds", reactionIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+
+        int reactions = move("BOARD_REACTIONS", REACTION_COLUMNS,
+                "ID IN (:reactionIds) AND DELETED_AT IS NOT NULL", params);
+
+        return new ArchivedRows(0, 0, 0, reactions);
+    }
+
+    /**
+     * 보관 테이블에서 archivedBefore 이전에 옮겨진 행을 테이블마다 최대 limit 개씩 영구 삭제
+     */
+    public int purgeArchived(LocalDateTime archivedBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("archivedBefore", Timestamp.valueOf(archivedBefore))
+                .addValue("limit", limit);
+
+        int purged = 0;
+        for (String table : ARCHIVE_TABLES) {
+            purged += jdbcTemplate.update(
+                    "DELETE FROM " + table + " WHERE ARCHIVED_AT < :archivedBefore LIMIT :limit", params);
+        }
+        return purged;
+    }
+
+    private List<Long> findIds(String sql, LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("afterId", afterId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    // 대댓글이 부모 댓글을 참조하므로 대댓글부터 지움
+    private int moveComments(String condition, MapSqlParameterSource params) {
+        int archived = copy("COMMENTS", COMMENT_COLUMNS, condition, params);
+        jdbcTemplate.update("DELETE FROM COMMENTS WHERE " + condition + " AND PARENT_COMMENT_ID IS NOT NULL", params);
+        jdbcTemplate.update("DELETE FROM COMMENTS WHERE " + condition, params);
+        return archived;
+    }
+
+    private int move(String table, String columns, String condition, MapSqlParameterSource params) {
+        int archived = copy(table, columns, condition, params);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + condition, params);
+        return archived;
+    }
+
+    private int copy(String table, String columns, String condition, MapSqlParameterSource params) {
+        return jdbcTemplate.update(
+                "INSERT INTO " + table + "_ARCHIVE (" + columns + ", ARCHIVED_AT) " +
+                "SELECT " + columns + ", :archivedAt FROM " + table + " WHERE " + condition, params);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.live_backend.domain.board.archive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보관 작업 단계 (순서대로 실행, 단계마다 진행 위치를 따로 기록)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BoardArchiveStep {
+    BOARDS("board-archive.boards"),
+    COMMENTS("board-archive.comments"),
+    REACTIONS("board-archive.reactions");
+
+    private final String jobName;
+}
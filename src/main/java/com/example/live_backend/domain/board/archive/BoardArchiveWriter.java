@@ -0,0 +1,49 @@
+package com.example.live_backend.domain.board.archive;
+
+import com.example.live_backend.global.batch.JobCheckpoint;
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 배치 하나를 한 트랜잭션으로 처리
+ * 행 이동과 진행 위치 기록이 함께 커밋되므로, 중단되더라도 다음 실행은 마지막으로 커밋된 배치 다음부터 이어갑니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardArchiveWriter {
+
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    @Transactional
+    public ArchivedRows archive(BoardArchiveStep step, List<Long> ids, LocalDateTime archivedAt) {
+        JobCheckpoint checkpoint = lockCheckpoint(step);
+
+        ArchivedRows archived = switch (step) {
+            case BOARDS -> boardArchiveRepository.archiveBoards(ids, archivedAt);
+            case COMMENTS -> boardArchiveRepository.archiveComments(ids, archivedAt);
+            case REACTIONS -> boardArchiveRepository.archiveReactions(ids, archivedAt);
+        };
+
+        checkpoint.advance(ids.get(ids.size() - 1));
+        return archived;
+    }
+
+    /**
+     * 단계를 끝까지 처리한 경우 진행 위치 초기화 (다음 실행은 처음부터)
+     */
+    @Transactional
+    public void complete(BoardArchiveStep step) {
+        lockCheckpoint(step).reset();
+    }
+
+    private JobCheckpoint lockCheckpoint(BoardArchiveStep step) {
+        return jobCheckpointRepository.findForUpdate(step.getJobName())
+                .orElseGet(() -> jobCheckpointRepository.save(JobCheckpoint.start(step.getJobName())));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.live_backend.domain.board.controller;
 
 import com.example.live_backend.domain.board.controller.docs.BoardControllerDocs;
+import com.example.live_backend.domain.board.controller.etag.BoardDetailETagResolver;
+import com.example.live_backend.domain.board.controller.etag.BoardHomeFeedETagResolver;
 import com.example.live_backend.domain.board.dto.request.BoardCreateRequestDto;
 import com.example.live_backend.domain.board.dto.request.BoardUpdateRequestDto;
 import com.example.live_backend.domain.board.dto.request.BoardReactionRequestDto;
@@ -8,6 +10,8 @@ import com.example.live_backend.domain.board.dto.response.BoardDetailResponseDto
 import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
 import com.example.live_backend.domain.board.dto.response.BoardCategoryHomeResponseDto;
 import com.example.live_backend.domain.board.dto.response.CategoryResponseDto;
+import com.example.live_backend.domain.board.dto.response.PopularKeywordResponseDto;
+import com.example.live_backend.global.etag.ConditionalGet;
 import com.example.live_backend.global.page.CursorTemplate;
 import com.example.live_backend.global.error.response.ResponseHandler;
 import com.example.live_backend.global.security.annotation.AdminApi;
@@ -15,10 +19,14 @@ import com.example.live_backend.global.security.annotation.PublicApi;
 import com.example.live_backend.global.security.annotation.AuthenticatedApi;
 import com.example.live_backend.global.security.PrincipalDetails;
 import com.example.live_backend.domain.board.service.BoardService;
+import com.example.live_backend.domain.board.viewer.ViewerFingerprint;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
@@ -61,19 +69,30 @@ public class BoardController implements BoardControllerDocs {
 
 	@Override
 	@PublicApi(reason = "게시글 상세 조회는 누구나 가능합니다")
+	@ConditionalGet(BoardDetailETagResolver.class)
 	@GetMapping("/{boardId}")
 	public ResponseHandler<BoardDetailResponseDto> getBoardDetail(
 		@PathVariable Long boardId,
-		@AuthenticationPrincipal PrincipalDetails userDetails) {
+		@AuthenticationPrincipal PrincipalDetails userDetails,
+		HttpServletRequest request) {
 		Long memberId = Optional.ofNullable(userDetails)
 			.map(PrincipalDetails::getMemberId)
 			.orElse(null);
-		BoardDetailResponseDto response = boardService.getBoardDetail(boardId, memberId);
+		String viewerFingerprint = memberId == null ? ViewerFingerprint.from(request) : null;
+		BoardDetailResponseDto response = boardService.getBoardDetail(boardId, memberId, viewerFingerprint);
 		return ResponseHandler.success(response);
 	}
 
+	@Override
+	@PublicApi(reason = "게시글 실시간 집계 구독은 누구나 가능합니다")
+	@GetMapping(value = "/{boardId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeLive(@PathVariable Long boardId) {
+		return boardService.subscribeLive(boardId);
+	}
+
 	@Override
 	@PublicApi(reason = "홈 화면 게시글 조회는 누구나 가능합니다")
+	@ConditionalGet(BoardHomeFeedETagResolver.class)
 	@GetMapping("/home")
 	public ResponseHandler<List<BoardCategoryHomeResponseDto>> getBoardsForHome(
 		@RequestParam(defaultValue = "latest") String sortBy) {
@@ -81,19 +100,51 @@ public class BoardController implements BoardControllerDocs {
 		return ResponseHandler.success(response);
 	}
 
+	@Override
+	@PublicApi(reason = "게시글 목록 조회는 누구나 가능합니다")
+	@GetMapping
+	public ResponseHandler<CursorTemplate<String, BoardListResponseDto>> getBoardsByCategory(
+		@RequestParam String category,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") Integer size,
+		@RequestParam(defaultValue = "latest") String sortBy) {
+		CursorTemplate<String, BoardListResponseDto> response =
+			boardService.getBoardsByCategoryWithCursor(category, cursor, size, sortBy);
+		return ResponseHandler.success(response);
+	}
+
 	@Override
 	@PublicApi(reason = "게시글 검색은 누구나 가능합니다")
 	@GetMapping("/search")
-	public ResponseHandler<CursorTemplate<Long, BoardListResponseDto>> searchBoards(
+	public ResponseHandler<CursorTemplate<String, BoardListResponseDto>> searchBoards(
 		@RequestParam String keyword,
-		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(defaultValue = "20") Integer size,
 		@RequestParam(defaultValue = "latest") String sortBy) {
-		CursorTemplate<Long, BoardListResponseDto> response =
+		CursorTemplate<String, BoardListResponseDto> response =
 			boardService.searchBoardsWithCursor(keyword, cursor, size, sortBy);
 		return ResponseHandler.success(response);
 	}
 
+	@Override
+	@PublicApi(reason = "인기 검색어 조회는 누구나 가능합니다")
+	@GetMapping("/search/popular")
+	public ResponseHandler<List<PopularKeywordResponseDto>> getPopularSearchKeywords(
+		@RequestParam(defaultValue = "10") Integer size) {
+		List<PopularKeywordResponseDto> response = boardService.getPopularSearchKeywords(size);
+		return ResponseHandler.success(response);
+	}
+
+	@Override
+	@PublicApi(reason = "인기 게시글 조회는 누구나 가능합니다")
+	@GetMapping("/trending")
+	public ResponseHandler<List<BoardListResponseDto>> getTrendingBoards(
+		@RequestParam(required = false) String category,
+		@RequestParam(defaultValue = "10") Integer size) {
+		List<BoardListResponseDto> response = boardService.getTrendingBoards(category, size);
+		return ResponseHandler.success(response);
+	}
+
 	@Override
 	@PublicApi(reason = "카테고리 목록 조회는 누구나 가능합니다")
 	@GetMapping("/categories")
@@ -6,6 +6,7 @@ import com.example.live_backend.domain.board.dto.request.CommentUpdateRequestDto
 import com.example.live_backend.domain.board.dto.response.CommentResponseDto;
 import com.example.live_backend.domain.board.service.CommentService;
 import com.example.live_backend.global.error.response.ResponseHandler;
+import com.example.live_backend.global.page.CursorTemplate;
 import com.example.live_backend.global.security.PrincipalDetails;
 import com.example.live_backend.global.security.annotation.AuthenticatedApi;
 import com.example.live_backend.global.security.annotation.PublicApi;
@@ -15,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 
 @Tag(name = "댓글", description = "댓글 관련 API")
@@ -29,16 +29,36 @@ public class CommentController implements CommentControllerDocs {
     @Override
     @PublicApi(reason = "댓글 목록 조회는 누구나 가능합니다")
     @GetMapping("/boards/{boardId}/comments")
-    public ResponseHandler<List<CommentResponseDto>> getComments(
+    public ResponseHandler<CursorTemplate<Long, CommentResponseDto>> getComments(
             @PathVariable Long boardId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") Integer size,
             @AuthenticationPrincipal PrincipalDetails userDetails) {
         Long memberId = Optional.ofNullable(userDetails)
                 .map(PrincipalDetails::getMemberId)
                 .orElse(null);
-        List<CommentResponseDto> comments = commentService.getCommentsByBoardId(boardId, memberId);
+        CursorTemplate<Long, CommentResponseDto> comments =
+                commentService.getCommentsByBoardId(boardId, memberId, cursor, size);
         return ResponseHandler.success(comments);
     }
 
+    @Override
+    @PublicApi(reason = "대댓글 목록 조회는 누구나 가능합니다")
+    @GetMapping("/boards/{boardId}/comments/{parentCommentId}/replies")
+    public ResponseHandler<CursorTemplate<Long, CommentResponseDto>> getReplies(
+            @PathVariable Long boardId,
+            @PathVariable Long parentCommentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @AuthenticationPrincipal PrincipalDetails userDetails) {
+        Long memberId = Optional.ofNullable(userDetails)
+                .map(PrincipalDetails::getMemberId)
+                .orElse(null);
+        CursorTemplate<Long, CommentResponseDto> replies =
+                commentService.getReplies(boardId, parentCommentId, memberId, cursor, size);
+        return ResponseHandler.success(replies);
+    }
+
     @Override
     @AuthenticatedApi(reason = "댓글 작성은 로그인한 사용자만 가능합니다")
     @PostMapping("/boards/{boardId}/comments")
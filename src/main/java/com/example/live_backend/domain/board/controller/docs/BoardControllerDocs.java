@@ -6,7 +6,9 @@ import com.example.live_backend.domain.board.dto.request.BoardReactionRequestDto
 import com.example.live_backend.domain.board.dto.response.BoardDetailResponseDto;
 import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
 import com.example.live_backend.domain.board.dto.response.BoardCategoryHomeResponseDto;
+import com.example.live_backend.domain.board.dto.response.BoardLiveCountsResponseDto;
 import com.example.live_backend.domain.board.dto.response.CategoryResponseDto;
+import com.example.live_backend.domain.board.dto.response.PopularKeywordResponseDto;
 import com.example.live_backend.global.page.CursorTemplate;
 import com.example.live_backend.global.error.response.ResponseHandler;
 import com.example.live_backend.global.security.PrincipalDetails;
@@ -16,8 +18,10 @@ import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -67,7 +71,22 @@ public interface BoardControllerDocs {
 	ResponseHandler<BoardDetailResponseDto> getBoardDetail(
 		@Parameter(description = "게시글 ID", required = true) @PathVariable Long boardId,
 		@Parameter(hidden = true)
-		@AuthenticationPrincipal PrincipalDetails userDetails
+		@AuthenticationPrincipal PrincipalDetails userDetails,
+		@Parameter(hidden = true) HttpServletRequest request
+	);
+
+	@Operation(summary = "게시글 실시간 집계 구독 (SSE)",
+		description = "연결 직후 현재 반응/댓글 수를 counts 이벤트로 보내고, 이후 변경이 있으면 주기마다 최대 한 번 counts 이벤트를 보냅니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "구독 성공", content = @Content(
+			mediaType = "text/event-stream",
+			schema = @Schema(implementation = BoardLiveCountsResponseDto.class)
+		)),
+		@ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+		@ApiResponse(responseCode = "503", description = "게시글별 또는 전체 구독자 수 상한 초과")
+	})
+	SseEmitter subscribeLive(
+		@Parameter(description = "게시글 ID", required = true) @PathVariable Long boardId
 	);
 
 	@Operation(summary = "홈 화면용 카테고리별 게시글 조회", description = "각 카테고리별 최신 10개의 게시글을 조회합니다.")
@@ -79,18 +98,54 @@ public interface BoardControllerDocs {
 		@RequestParam(defaultValue = "latest") String sortBy
 	);
 
+	@Operation(summary = "카테고리별 게시글 조회 (커서 기반)", description = "카테고리의 게시글을 최신순 또는 조회수순으로 조회합니다. 커서 기반 무한 스크롤을 지원합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = CursorTemplate.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서")
+	})
+	ResponseHandler<CursorTemplate<String, BoardListResponseDto>> getBoardsByCategory(
+		@Parameter(description = "카테고리 이름", required = true) @RequestParam String category,
+		@Parameter(description = "이전 응답의 nextCursor (정렬 기준이 같아야 함)", required = false)  @RequestParam(required = false) String cursor,
+		@Parameter(description = "조회 크기", example = "20")  @RequestParam(defaultValue = "20") Integer size,
+		@Parameter(description = "정렬 기준 (latest: 최신순, views: 조회수순, unique: 고유 조회자순)", example = "latest") 
+		@RequestParam(defaultValue = "latest") String sortBy
+	);
+
 	@Operation(summary = "게시글 검색 (커서 기반)", description = "키워드로 게시글을 검색합니다. 커서 기반 무한 스크롤을 지원합니다.")
-	@ApiResponse(responseCode = "200", description = "검색 성공",
-		content = @Content(schema = @Schema(implementation = CursorTemplate.class))
-	)
-	ResponseHandler<CursorTemplate<Long, BoardListResponseDto>> searchBoards(
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "검색 성공",
+			content = @Content(schema = @Schema(implementation = CursorTemplate.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서")
+	})
+	ResponseHandler<CursorTemplate<String, BoardListResponseDto>> searchBoards(
 		@Parameter(description = "검색 키워드", required = true) @RequestParam String keyword,
-		@Parameter(description = "커서 ID", required = false)  @RequestParam(required = false) Long cursor,
+		@Parameter(description = "이전 응답의 nextCursor (정렬 기준이 같아야 함)", required = false)  @RequestParam(required = false) String cursor,
 		@Parameter(description = "조회 크기", example = "20")  @RequestParam(defaultValue = "20") Integer size,
-		@Parameter(description = "정렬 기준 (latest: 최신순, views: 조회수순)", example = "latest") 
+		@Parameter(description = "정렬 기준 (latest: 최신순, views: 조회수순, unique: 고유 조회자순)", example = "latest") 
 		@RequestParam(defaultValue = "latest") String sortBy
 	);
 
+	@Operation(summary = "인기 검색어 조회", description = "최근 검색 횟수 추정값이 많은 순으로 검색어를 조회합니다. (검색어는 소문자/공백 정리된 형태)")
+	@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+		array = @ArraySchema(schema = @Schema(implementation = PopularKeywordResponseDto.class))
+	))
+	ResponseHandler<List<PopularKeywordResponseDto>> getPopularSearchKeywords(
+		@Parameter(description = "조회 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") Integer size
+	);
+
+	@Operation(summary = "인기 게시글 조회", description = "최근 조회수, 반응, 댓글에 시간 감쇠를 적용한 점수 순으로 게시글을 조회합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+			array = @ArraySchema(schema = @Schema(implementation = BoardListResponseDto.class))
+		)),
+		@ApiResponse(responseCode = "400", description = "잘못된 카테고리")
+	})
+	ResponseHandler<List<BoardListResponseDto>> getTrendingBoards(
+		@Parameter(description = "카테고리 이름 (없으면 전체)", required = false) @RequestParam(required = false) String category,
+		@Parameter(description = "조회 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") Integer size
+	);
+
 	@Operation(summary = "카테고리 목록 조회", description = "사용 중인 카테고리 목록을 조회합니다.")
 	@ApiResponse(responseCode = "200", description = "조회 성공",
 		content = @Content(schema = @Schema(implementation = CategoryResponseDto.class))
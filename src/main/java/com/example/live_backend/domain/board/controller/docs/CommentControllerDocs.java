@@ -4,6 +4,7 @@ import com.example.live_backend.domain.board.dto.request.CommentCreateRequestDto
 import com.example.live_backend.domain.board.dto.request.CommentUpdateRequestDto;
 import com.example.live_backend.domain.board.dto.response.CommentResponseDto;
 import com.example.live_backend.global.error.response.ResponseHandler;
+import com.example.live_backend.global.page.CursorTemplate;
 import com.example.live_backend.global.security.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,16 +16,31 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "댓글", description = "댓글 관련 API")
 public interface CommentControllerDocs {
 
-    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록을 조회합니다.")
+    @Operation(summary = "댓글 목록 조회 (커서 기반)", description = "게시글의 댓글을 작성순으로 조회합니다. 대댓글은 대댓글 수만 포함되며 대댓글 목록 API로 따로 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(schema = @Schema(implementation = CommentResponseDto.class)))
-    ResponseHandler<List<CommentResponseDto>> getComments(
+            content = @Content(schema = @Schema(implementation = CursorTemplate.class)))
+    ResponseHandler<CursorTemplate<Long, CommentResponseDto>> getComments(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long boardId,
+            @Parameter(description = "커서 ID", required = false) @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails userDetails
+    );
+
+    @Operation(summary = "대댓글 목록 조회 (커서 기반)", description = "댓글의 대댓글을 작성순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorTemplate.class))),
+            @ApiResponse(responseCode = "404", description = "부모 댓글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "400", description = "게시글과 부모 댓글이 일치하지 않음")
+    })
+    ResponseHandler<CursorTemplate<Long, CommentResponseDto>> getReplies(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long boardId,
+            @Parameter(description = "부모 댓글 ID", required = true) @PathVariable Long parentCommentId,
+            @Parameter(description = "커서 ID", required = false) @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails userDetails
     );
 
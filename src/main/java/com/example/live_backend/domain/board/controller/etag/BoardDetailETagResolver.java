@@ -0,0 +1,78 @@
+package com.example.live_backend.domain.board.controller.etag;
+
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.domain.board.service.BoardService;
+import com.example.live_backend.domain.board.viewer.ViewerFingerprint;
+import com.example.live_backend.global.etag.ETagResolver;
+import com.example.live_backend.global.security.PrincipalDetails;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 상세 ETag
+ * 수정 시각, 댓글 수, 반응 종류별 수에 요청 회원을 더해 계산합니다. (응답의 내 반응 목록이 회원마다 다름)
+ * 조회 수는 포함하지 않으므로 304 응답에서는 클라이언트가 가진 조회 수가 그대로 쓰입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardDetailETagResolver implements ETagResolver {
+
+	private static final String VERSION_ATTRIBUTE = BoardDetailETagResolver.class.getName() + ".version";
+
+	private final BoardService boardService;
+
+	@Override
+	public String resolve(HttpServletRequest request) {
+		Long boardId = getBoardId(request);
+		if (boardId == null) {
+			return null;
+		}
+
+		BoardRepository.BoardVersion version = boardService.getBoardDetailVersion(boardId);
+		if (version == null) {
+			return null;
+		}
+		request.setAttribute(VERSION_ATTRIBUTE, version);
+
+		Long memberId = getMemberId();
+		return "board:" + boardId + ":" + version.getVersion() + ":" + (memberId != null ? memberId : "anonymous");
+	}
+
+	@Override
+	public void onNotModified(HttpServletRequest request) {
+		BoardRepository.BoardVersion version = (BoardRepository.BoardVersion)request.getAttribute(VERSION_ATTRIBUTE);
+		Long memberId = getMemberId();
+		String viewerFingerprint = memberId == null ? ViewerFingerprint.from(request) : null;
+		boardService.recordView(getBoardId(request), version.getCategoryId(), memberId, viewerFingerprint);
+	}
+
+	private Long getBoardId(HttpServletRequest request) {
+		@SuppressWarnings("unchecked")
+		Map<String, String> pathVariables =
+			(Map<String, String>)request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		if (pathVariables == null || pathVariables.get("boardId") == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(pathVariables.get("boardId"));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private Long getMemberId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+			return principal.getMemberId();
+		}
+		return null;
+	}
+}
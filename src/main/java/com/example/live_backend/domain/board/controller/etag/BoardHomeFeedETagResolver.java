@@ -0,0 +1,25 @@
+package com.example.live_backend.domain.board.controller.etag;
+
+import org.springframework.stereotype.Component;
+
+import com.example.live_backend.domain.board.service.BoardService;
+import com.example.live_backend.global.etag.ETagResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 홈 화면 ETag (정렬 기준별 스냅샷 내용 해시)
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardHomeFeedETagResolver implements ETagResolver {
+
+	private final BoardService boardService;
+
+	@Override
+	public String resolve(HttpServletRequest request) {
+		String sortBy = request.getParameter("sortBy");
+		return "home:" + boardService.getBoardsForHomeVersion(sortBy != null ? sortBy : "latest");
+	}
+}
@@ -0,0 +1,36 @@
+package com.example.live_backend.domain.board.dto.cursor;
+
+import com.example.live_backend.domain.board.repository.BoardSummaryRow;
+import com.example.live_backend.global.page.CursorCodec;
+
+/**
+ * 게시글 목록 keyset 위치 (최신순이면 count 는 null, 조회수순은 조회수, 고유 조회자순은 고유 조회자 수)
+ */
+public record BoardCursor(Long count, Long id) {
+
+    public static final BoardCursor FIRST = new BoardCursor(null, null);
+
+    public static BoardCursor of(BoardSummaryRow board, BoardSortType sortType) {
+        return switch (sortType) {
+            case VIEWS -> new BoardCursor(board.viewCount(), board.id());
+            case UNIQUE_VIEWERS -> new BoardCursor(board.uniqueViewerCount(), board.id());
+            case LATEST -> new BoardCursor(null, board.id());
+        };
+    }
+
+    public static BoardCursor decode(String cursor, BoardSortType sortType) {
+        long[] keys = CursorCodec.decode(cursor, sortType.getCode(), sortType.getKeyCount());
+        if (keys == null) {
+            return FIRST;
+        }
+        return sortType.getKeyCount() == 2
+                ? new BoardCursor(keys[0], keys[1])
+                : new BoardCursor(null, keys[0]);
+    }
+
+    public String encode(BoardSortType sortType) {
+        return sortType.getKeyCount() == 2
+                ? CursorCodec.encode(sortType.getCode(), count, id)
+                : CursorCodec.encode(sortType.getCode(), id);
+    }
+}
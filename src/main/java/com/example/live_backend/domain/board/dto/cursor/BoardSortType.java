@@ -0,0 +1,38 @@
+package com.example.live_backend.domain.board.dto.cursor;
+
+/**
+ * 게시글 목록 정렬 기준
+ * 최신순은 생성 순서대로 증가하는 ID 단일 키, 조회수순/고유 조회자순은 (집계값, ID) 복합 키로 페이지를 나눕니다.
+ */
+public enum BoardSortType {
+
+    LATEST('L', 1),
+    VIEWS('V', 2),
+    UNIQUE_VIEWERS('U', 2);
+
+    private final char code;
+    private final int keyCount;
+
+    BoardSortType(char code, int keyCount) {
+        this.code = code;
+        this.keyCount = keyCount;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public static BoardSortType from(String sortBy) {
+        if ("views".equals(sortBy)) {
+            return VIEWS;
+        }
+        if ("unique".equals(sortBy)) {
+            return UNIQUE_VIEWERS;
+        }
+        return LATEST;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.live_backend.domain.board.dto.response;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import java.util.List;
 
 @Getter
+@EqualsAndHashCode
 public class BoardCategoryHomeResponseDto {
     private final String category;
     private final List<BoardListResponseDto> boards;
@@ -19,6 +19,7 @@ public class BoardDetailResponseDto {
     private final List<ImageResponseDto> images;
     private final String authorNickname;
     private final Long viewCount;
+    private final Long uniqueViewerCount;
     private final Long commentCount;
     private final Map<ReactionType, Long> reactionCounts;
     private final List<ReactionType> userReactions;
@@ -26,6 +27,7 @@ public class BoardDetailResponseDto {
     private final LocalDateTime modifiedAt;
 
     public BoardDetailResponseDto(Board board, String authorNickname, 
+                                  Long viewCount,
                                   Long commentCount,
                                   Map<ReactionType, Long> reactionCounts,
                                   List<ReactionType> userReactions) {
@@ -38,7 +40,8 @@ public class BoardDetailResponseDto {
                 .map(ImageResponseDto::new)
                 .collect(Collectors.toList());
         this.authorNickname = authorNickname;
-        this.viewCount = board.getViewCount();
+        this.viewCount = viewCount;
+        this.uniqueViewerCount = board.getUniqueViewerCount();
         this.commentCount = commentCount;
         this.reactionCounts = reactionCounts;
         this.userReactions = userReactions;
@@ -0,0 +1,29 @@
+package com.example.live_backend.domain.board.dto.response;
+
+import com.example.live_backend.domain.board.entity.BoardReactionCounter;
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게시글 실시간 집계 (SSE counts 이벤트 본문)
+ */
+@Getter
+public class BoardLiveCountsResponseDto {
+    private final Long boardId;
+    private final Map<ReactionType, Long> reactionCounts;
+    private final Long commentCount;
+
+    public BoardLiveCountsResponseDto(Long boardId, Collection<BoardReactionCounter> counters, Long commentCount) {
+        this.boardId = boardId;
+        this.reactionCounts = new EnumMap<>(ReactionType.class);
+        for (ReactionType type : ReactionType.values()) {
+            this.reactionCounts.put(type, 0L);
+        }
+        counters.forEach(counter -> this.reactionCounts.put(counter.getReactionType(), counter.getReactionCount()));
+        this.commentCount = commentCount;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.live_backend.domain.board.dto.response;
 
 import com.example.live_backend.domain.board.entity.Category;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
+@EqualsAndHashCode
 public class CategoryResponseDto {
     private final Long id;
     private final String name;
@@ -12,4 +14,9 @@ public class CategoryResponseDto {
         this.id = category.getId();
         this.name = category.getName();
     }
+
+    public CategoryResponseDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 } 
\ No newline at end of file
@@ -16,10 +16,24 @@ public class CommentResponseDto {
     private final Long likeCount;
     private final Boolean isLiked;
     private final Boolean isMyComment;
+    private final Long replyCount;
     private final List<CommentResponseDto> replies;
 
     public CommentResponseDto(Comment comment, String authorNickname, Long likeCount, 
                              Boolean isLiked, Boolean isMyComment, List<CommentResponseDto> replies) {
+        this(comment, authorNickname, likeCount, isLiked, isMyComment, (long) replies.size(), replies);
+    }
+
+    /**
+     * 대댓글은 별도 커서로 조회하므로 목록에는 대댓글 수만 포함
+     */
+    public CommentResponseDto(Comment comment, String authorNickname, Long likeCount,
+                             Boolean isLiked, Boolean isMyComment, Long replyCount) {
+        this(comment, authorNickname, likeCount, isLiked, isMyComment, replyCount, List.of());
+    }
+
+    private CommentResponseDto(Comment comment, String authorNickname, Long likeCount, Boolean isLiked,
+                              Boolean isMyComment, Long replyCount, List<CommentResponseDto> replies) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.authorNickname = authorNickname;
@@ -28,6 +42,7 @@ public class CommentResponseDto {
         this.likeCount = likeCount;
         this.isLiked = isLiked;
         this.isMyComment = isMyComment;
+        this.replyCount = replyCount;
         this.replies = replies;
     }
 
@@ -0,0 +1,14 @@
+package com.example.live_backend.domain.board.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class PopularKeywordResponseDto {
+    private final String keyword;
+    private final Long count; // 최근 검색 횟수 추정값
+
+    public PopularKeywordResponseDto(String keyword, Long count) {
+        this.keyword = keyword;
+        this.count = count;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.live_backend.domain.board.entity;
 
 import com.example.live_backend.domain.BaseEntity;
+import com.example.live_backend.domain.board.preview.BoardPreview;
 import com.example.live_backend.domain.memeber.entity.Member;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,11 +9,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "boards")
+// 목록 정렬 기준별 keyset 페이지네이션 인덱스 (최신순: ID, 조회수순/고유 조회자순: 집계 + ID)
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_category_id", columnList = "category_id, is_deleted, id"),
+        @Index(name = "idx_boards_category_views", columnList = "category_id, is_deleted, view_count, id"),
+        @Index(name = "idx_boards_views", columnList = "is_deleted, view_count, id"),
+        @Index(name = "idx_boards_category_unique_viewers", columnList = "category_id, is_deleted, unique_viewer_count, id"),
+        @Index(name = "idx_boards_unique_viewers", columnList = "is_deleted, unique_viewer_count, id"),
+        // 삭제된 게시글 보관 이동 (BoardArchiveJob)
+        @Index(name = "idx_boards_deleted", columnList = "is_deleted, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board extends BaseEntity {
@@ -27,6 +38,14 @@ public class Board extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록용 본문 미리보기 (BoardPreview 로 생성, NULL 이면 BoardPreviewBackfill 이 채움)
+    @Column(length = BoardPreview.COLUMN_LENGTH)
+    private String preview;
+
+    // 목록용 썸네일 (첫 번째 이미지 URL)
+    @Column(length = 500)
+    private String thumbnailImageUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
@@ -34,9 +53,18 @@ public class Board extends BaseEntity {
     @Column(length = 100)
     private String relatedOrganization; // 관련 기관
 
-    @Column(nullable = false)
+    // 아래 집계 컬럼은 UPDATE 쿼리로만 증감하므로, 엔티티 변경 감지가 읽어 둔 값을 덮어쓰지 않도록 갱신 대상에서 제외
+    @Column(nullable = false, updatable = false)
     private Long viewCount = 0L;
 
+    // 고유 조회자 추정값 (BoardUniqueViewerCounter 가 HyperLogLog 스케치로 주기적으로 갱신)
+    @Column(nullable = false, updatable = false)
+    private Long uniqueViewerCount = 0L;
+
+    // 삭제되지 않은 댓글/대댓글 수 (CommentService 가 같은 트랜잭션에서 증감, BoardCommentCountReconciler 가 매일 보정)
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardImage> boardImages = new ArrayList<>();
 
@@ -47,6 +75,9 @@ public class Board extends BaseEntity {
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    // 삭제 시각 (보관 기간 판단 기준, 이 컬럼 추가 전에 삭제된 게시글은 NULL)
+    private LocalDateTime deletedAt;
+
     @Builder
     public Board(String title, String content, Category category, String relatedOrganization, Member author) {
         this.title = title;
@@ -55,6 +86,8 @@ public class Board extends BaseEntity {
         this.relatedOrganization = relatedOrganization;
         this.author = author;
         this.viewCount = 0L;
+        this.commentCount = 0L;
+        this.uniqueViewerCount = 0L;
         this.isDeleted = false;
         this.boardImages = new ArrayList<>();
     }
@@ -66,11 +99,16 @@ public class Board extends BaseEntity {
         this.relatedOrganization = relatedOrganization;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
+    /**
+     * 목록용 미리보기 갱신 (본문 또는 이미지가 바뀔 때)
+     */
+    public void updatePreview(String preview, String thumbnailImageUrl) {
+        this.preview = preview;
+        this.thumbnailImageUrl = thumbnailImageUrl;
     }
 
     public void delete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
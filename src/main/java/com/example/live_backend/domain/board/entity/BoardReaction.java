@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "board_reactions", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"board_id", "member_id", "reaction_type"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"board_id", "member_id", "reaction_type"}),
+       // 취소된 반응 보관 이동 (BoardArchiveJob)
+       indexes = @Index(name = "idx_board_reactions_deleted_at", columnList = "deleted_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardReaction extends BaseEntity {
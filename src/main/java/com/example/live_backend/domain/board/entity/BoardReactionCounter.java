@@ -0,0 +1,33 @@
+package com.example.live_backend.domain.board.entity;
+
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글별 반응 수 집계 (board_reactions 의 비정규화 테이블)
+ * 반응 토글 시 같은 트랜잭션에서 증감되며, BoardReactionCountReconciler 가 주기적으로 원본과 맞춥니다.
+ */
+@Entity
+@Table(name = "board_reaction_counts",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"board_id", "reaction_type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardReactionCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", nullable = false)
+    private ReactionType reactionType;
+
+    @Column(name = "reaction_count", nullable = false)
+    private Long reactionCount;
+}
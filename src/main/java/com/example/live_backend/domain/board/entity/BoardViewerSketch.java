@@ -0,0 +1,24 @@
+package com.example.live_backend.domain.board.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글별 고유 조회자 HyperLogLog 스케치 (희소 형식이면 수십 바이트, 최대 약 4KB)
+ * BoardUniqueViewerCounter 가 주기적으로 병합/저장하며, 추정값은 boards.unique_viewer_count 에 반영됩니다.
+ */
+@Entity
+@Table(name = "board_viewer_sketches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardViewerSketch {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+}
@@ -8,11 +8,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+// 삭제된 댓글 보관 이동 (BoardArchiveJob)
+@Table(name = "comments", indexes = @Index(name = "idx_comments_deleted", columnList = "is_deleted, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
@@ -45,6 +47,14 @@ public class Comment extends BaseEntity {
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    // 삭제 시각 (보관 기간 판단 기준, 이 컬럼 추가 전에 삭제된 댓글은 NULL)
+    private LocalDateTime deletedAt;
+
+    // comment_likes 집계 (좋아요 토글 시 같은 트랜잭션에서 증감, CommentLikeCountReconciler 가 매일 보정)
+    // UPDATE 쿼리로만 증감하므로 엔티티 변경 감지로는 갱신하지 않음
+    @Column(nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
     @Builder
     public Comment(String content, Board board, Member author, Comment parentComment) {
         this.content = content;
@@ -52,6 +62,7 @@ public class Comment extends BaseEntity {
         this.author = author;
         this.parentComment = parentComment;
         this.isDeleted = false;
+        this.likeCount = 0L;
         this.replies = new ArrayList<>();
         this.commentLikes = new ArrayList<>();
     }
@@ -62,6 +73,7 @@ public class Comment extends BaseEntity {
 
     public void delete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public boolean isParentComment() {
@@ -0,0 +1,209 @@
+package com.example.live_backend.domain.board.live;
+
+import com.example.live_backend.domain.board.dto.response.BoardLiveCountsResponseDto;
+import com.example.live_backend.domain.board.entity.BoardReactionCounter;
+import com.example.live_backend.domain.board.repository.BoardReactionCounterRepository;
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 실시간 집계 구독 허브 (프로세스 내 fan-out)
+ * 반응/댓글 변경은 게시글 ID만 표시해 두고, board.live.push-interval-ms 마다 한 번 모아서
+ * 변경된 게시글의 집계를 한 번씩 조회해 구독자 전체에 보냅니다. (게시글당 주기마다 최대 1회 push)
+ * 구독은 Servlet 비동기 응답(SseEmitter)이라 유휴 연결이 스레드를 점유하지 않으며,
+ * 프록시 유휴 타임아웃과 끊긴 연결 정리를 위해 board.live.heartbeat-interval-ms 마다 주석 이벤트를 보냅니다.
+ * 연결 수는 게시글별 board.live.max-subscribers-per-board, 전체 board.live.max-subscribers 로 제한하며 넘으면 BOARD_LIVE_BUSY 로 거절합니다.
+ * 집계 조회가 실패한 주기의 변경 게시글은 다음 주기에 다시 보냅니다.
+ */
+@Slf4j
+@Component
+public class BoardLiveHub {
+
+    private static final String COUNTS_EVENT = "counts";
+
+    private final BoardRepository boardRepository;
+    private final BoardReactionCounterRepository boardReactionCounterRepository;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribersPerBoard;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Set<Long> changedBoardIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter pushedCounter;
+
+    public BoardLiveHub(
+            BoardRepository boardRepository,
+            BoardReactionCounterRepository boardReactionCounterRepository,
+            @Value("${board.live.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${board.live.max-subscribers-per-board:1000}") int maxSubscribersPerBoard,
+            @Value("${board.live.max-subscribers:10000}") int maxSubscribers,
+            MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.boardReactionCounterRepository = boardReactionCounterRepository;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxSubscribersPerBoard = maxSubscribersPerBoard;
+        this.maxSubscribers = maxSubscribers;
+
+        Gauge.builder("board.live.subscribers", this, BoardLiveHub::getSubscriberCount)
+                .description("실시간 집계 구독 연결 수")
+                .register(meterRegistry);
+        this.pushedCounter = Counter.builder("board.live.pushed")
+                .description("구독자에게 보낸 집계 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 구독 (현재 집계를 첫 이벤트로 보냄, 구독자 수 상한을 넘으면 BOARD_LIVE_BUSY)
+     */
+    public SseEmitter subscribe(Long boardId, BoardLiveCountsResponseDto currentCounts) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException(ErrorCode.BOARD_LIVE_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Set<SseEmitter> boardEmitters = subscribers.compute(boardId, (id, emitters) -> {
+            Set<SseEmitter> current = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            if (current.size() < maxSubscribersPerBoard) {
+                current.add(emitter);
+            }
+            return current;
+        });
+        if (!boardEmitters.contains(emitter)) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException(ErrorCode.BOARD_LIVE_BUSY);
+        }
+
+        emitter.onCompletion(() -> unsubscribe(boardId, emitter));
+        emitter.onTimeout(() -> unsubscribe(boardId, emitter));
+        emitter.onError(e -> unsubscribe(boardId, emitter));
+
+        send(boardId, emitter, () -> countsEvent(currentCounts));
+        return emitter;
+    }
+
+    /**
+     * 반응/댓글 변경 알림 (트랜잭션 안에서 호출되면 커밋 후 반영, 구독자가 없으면 무시)
+     */
+    public void onChanged(Long boardId) {
+        afterCommit(() -> {
+            if (subscribers.containsKey(boardId)) {
+                changedBoardIds.add(boardId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${board.live.push-interval-ms:1000}")
+    public void push() {
+        if (changedBoardIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = new ArrayList<>(changedBoardIds);
+        changedBoardIds.removeAll(boardIds);
+
+        Map<Long, List<BoardReactionCounter>> countersByBoardId;
+        List<BoardRepository.BoardCommentCount> commentCounts;
+        try {
+            countersByBoardId = boardReactionCounterRepository
+                    .findByBoardIdIn(boardIds).stream()
+                    .collect(Collectors.groupingBy(BoardReactionCounter::getBoardId));
+            commentCounts = boardRepository.findCommentCountsByIdIn(boardIds);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 보내도록 구독자가 남아 있는 게시글을 되돌림
+            boardIds.stream().filter(subscribers::containsKey).forEach(changedBoardIds::add);
+            log.warn("[BoardLiveHub] 집계 조회 실패 - {}건은 다음 주기에 다시 보냅니다.", boardIds.size(), e);
+            return;
+        }
+        commentCounts.forEach(row -> {
+            BoardLiveCountsResponseDto counts = new BoardLiveCountsResponseDto(
+                    row.getId(), countersByBoardId.getOrDefault(row.getId(), List.of()), row.getCommentCount());
+            broadcast(row.getId(), () -> countsEvent(counts));
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${board.live.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.keySet().forEach(boardId -> broadcast(boardId, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void broadcast(Long boardId, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<SseEmitter> emitters = subscribers.get(boardId);
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(boardId, emitter, event));
+        }
+    }
+
+    // SseEventBuilder 는 build 시 내부 상태가 바뀌므로 연결마다 새로 만듭니다.
+    private void send(Long boardId, SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> event) {
+        try {
+            emitter.send(event.get());
+            pushedCounter.increment();
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(boardId, emitter);
+            log.debug("[BoardLiveHub] 구독 연결 종료 - boardId: {}", boardId, e);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder countsEvent(BoardLiveCountsResponseDto counts) {
+        return SseEmitter.event().name(COUNTS_EVENT).data(counts);
+    }
+
+    private void unsubscribe(Long boardId, SseEmitter emitter) {
+        subscribers.computeIfPresent(boardId, (id, emitters) -> {
+            // 완료/타임아웃/오류 콜백이 여러 번 불려도 한 번만 차감
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.live_backend.domain.board.preview;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록용 미리보기 생성
+ * 본문에서 HTML 태그와 마크다운 기호를 제거하고 공백을 정리한 뒤 앞에서 MAX_LENGTH 자(코드 포인트)만 남깁니다.
+ * 잘린 경우 말줄임표(…)를 붙입니다.
+ */
+public final class BoardPreview {
+
+    public static final int MAX_LENGTH = 150;
+    // Board.preview 컬럼 길이 (말줄임표 포함)
+    public static final int COLUMN_LENGTH = MAX_LENGTH + 1;
+
+    private static final String ELLIPSIS = "…";
+
+    private static final Pattern HTML_BLOCK = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_LINE_PREFIX = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern MARKDOWN_EMPHASIS = Pattern.compile("[*_~`]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private BoardPreview() {
+    }
+
+    public static String summarize(String content) {
+        if (content == null) {
+            return "";
+        }
+
+        String text = HTML_BLOCK.matcher(content).replaceAll(" ");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = decodeEntities(text);
+        text = MARKDOWN_IMAGE.matcher(text).replaceAll(" ");
+        text = MARKDOWN_LINK.matcher(text).replaceAll("$1");
+        text = MARKDOWN_LINE_PREFIX.matcher(text).replaceAll("");
+        text = MARKDOWN_EMPHASIS.matcher(text).replaceAll("");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH)).trim() + ELLIPSIS;
+    }
+
+    /**
+     * 썸네일 URL (첫 번째 이미지, 없으면 null)
+     */
+    public static String thumbnailOf(List<String> imageUrls) {
+        return imageUrls == null || imageUrls.isEmpty() ? null : imageUrls.get(0);
+    }
+
+    private static String decodeEntities(String text) {
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+}
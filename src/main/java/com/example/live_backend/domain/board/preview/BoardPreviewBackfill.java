@@ -0,0 +1,57 @@
+package com.example.live_backend.domain.board.preview;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록용 미리보기 채우기
+ * preview 컬럼이 추가되기 전에 작성된 게시글의 미리보기와 썸네일을 기동 직후 ID 순으로 나눠 채웁니다.
+ * 이후 작성/수정되는 게시글은 BoardService 가 저장 시점에 미리보기를 만듭니다.
+ */
+@Slf4j
+@Component
+public class BoardPreviewBackfill {
+
+    private final BoardRepository boardRepository;
+    private final int batchSize;
+
+    public BoardPreviewBackfill(
+            BoardRepository boardRepository,
+            @Value("${board.preview.backfill-batch-size:500}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int filled = 0;
+
+        try {
+            List<BoardPreviewSource> sources;
+            while (!(sources = boardRepository.findMissingPreviews(afterId, batchSize)).isEmpty()) {
+                Map<Long, String> previews = new LinkedHashMap<>();
+                sources.forEach(source -> previews.put(source.boardId(), BoardPreview.summarize(source.content())));
+                boardRepository.updatePreviews(previews);
+
+                filled += sources.size();
+                afterId = sources.get(sources.size() - 1).boardId();
+            }
+        } catch (RuntimeException e) {
+            log.error("[BoardPreviewBackfill] 미리보기 채우기 실패 - afterId: {}, filled: {}", afterId, filled, e);
+            return;
+        }
+
+        if (filled > 0) {
+            log.info("[BoardPreviewBackfill] 미리보기 채우기 완료 - filled: {}", filled);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.live_backend.domain.board.preview;
+
+/**
+ * 미리보기가 비어 있는 게시글의 본문 (BoardPreviewBackfill 용)
+ */
+public record BoardPreviewSource(Long boardId, String content) {
+}
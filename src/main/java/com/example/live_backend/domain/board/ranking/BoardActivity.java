@@ -0,0 +1,15 @@
+package com.example.live_backend.domain.board.ranking;
+
+import java.time.Instant;
+
+/**
+ * 인기 게시글 점수에 반영할 활동 (amount 만큼의 동일 활동이 occurredAt 에 발생)
+ */
+public record BoardActivity(
+        Long boardId,
+        Long categoryId,
+        BoardActivityType type,
+        long amount,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.live_backend.domain.board.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 게시글 점수에 반영되는 활동 종류와 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BoardActivityType {
+    VIEW(1.0),
+    REACTION(3.0),
+    COMMENT(5.0);
+
+    private final double weight;
+}
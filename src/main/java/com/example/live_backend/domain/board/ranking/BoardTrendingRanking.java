@@ -0,0 +1,219 @@
+package com.example.live_backend.domain.board.ranking;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * 인기 게시글 랭킹
+ * 조회/반응/댓글 활동에 지수 감쇠(반감기 board.trending.half-life-hours)를 적용한 점수로 게시글을 정렬합니다.
+ * 모든 점수는 같은 기준 시각(anchor)으로 환산해 저장하므로, 시간이 지나도 재정렬 없이 새 활동만 더하면 됩니다.
+ * 카테고리별 skip list는 최대 board.trending.max-entries-per-category 개로 제한되며, 하위 게시글부터 제외됩니다.
+ * 기동 시와 매일 board.trending.rebuild-cron 에 최근 반응/댓글로 재구축해 기준 시각을 갱신합니다 (조회는 발생 시각이 저장되지 않아 이후 기록분만 반영).
+ * 활동 기록과 제거는 트랜잭션 안에서 호출되면 커밋 후에 반영하므로, 롤백된 조회/댓글/삭제는 랭킹에 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class BoardTrendingRanking {
+
+    private static final Duration REBUILD_WINDOW = Duration.ofDays(7);
+
+    private final BoardRepository boardRepository;
+    private final double decayRatePerMillis;
+    private final int maxEntriesPerCategory;
+    private final Clock clock;
+
+    private volatile Ranking ranking;
+
+    // 재구축 중 들어온 변경 사항 (재구축 완료 후 새 랭킹에 다시 적용)
+    private List<Consumer<Ranking>> pendingChanges;
+
+    public BoardTrendingRanking(
+            BoardRepository boardRepository,
+            @Value("${board.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${board.trending.max-entries-per-category:500}") int maxEntriesPerCategory) {
+        this(boardRepository, halfLifeHours, maxEntriesPerCategory, Clock.systemDefaultZone());
+    }
+
+    BoardTrendingRanking(BoardRepository boardRepository, double halfLifeHours, int maxEntriesPerCategory, Clock clock) {
+        this.boardRepository = boardRepository;
+        this.decayRatePerMillis = Math.log(2) / Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis();
+        this.maxEntriesPerCategory = maxEntriesPerCategory;
+        this.clock = clock;
+        this.ranking = new Ranking(clock.instant());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${board.trending.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        Instant since = clock.instant().minus(REBUILD_WINDOW);
+        synchronized (this) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Ranking rebuilt = new Ranking(since);
+        try {
+            boardRepository.scanTrendingActivities(since, rebuilt::add);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingChanges = null;
+            }
+            log.error("[BoardTrendingRanking] 인기 게시글 랭킹 구축 실패 - 기존 랭킹을 유지합니다.", e);
+            return;
+        }
+
+        synchronized (this) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            ranking = rebuilt;
+        }
+        log.info("[BoardTrendingRanking] 인기 게시글 랭킹 구축 완료 - boards: {}", rebuilt.entries.size());
+    }
+
+    public void recordView(Long boardId, Long categoryId) {
+        BoardActivity activity = new BoardActivity(boardId, categoryId, BoardActivityType.VIEW, 1, clock.instant());
+        afterCommit(() -> record(activity));
+    }
+
+    /**
+     * 반응 추가(+1) 또는 취소(-1)
+     */
+    public void recordReaction(Long boardId, Long categoryId, int delta) {
+        BoardActivity activity = new BoardActivity(boardId, categoryId, BoardActivityType.REACTION, delta, clock.instant());
+        afterCommit(() -> record(activity));
+    }
+
+    public void recordComment(Long boardId, Long categoryId) {
+        BoardActivity activity = new BoardActivity(boardId, categoryId, BoardActivityType.COMMENT, 1, clock.instant());
+        afterCommit(() -> record(activity));
+    }
+
+    public void remove(Long boardId) {
+        afterCommit(() -> removeNow(boardId));
+    }
+
+    /**
+     * 점수 상위 게시글 ID (categoryId 가 null 이면 전체)
+     */
+    public List<Long> topBoardIds(Long categoryId, int limit) {
+        Ranking current = ranking;
+        NavigableSet<Entry> entries = categoryId != null
+                ? current.byCategory.get(categoryId)
+                : current.global;
+        if (entries == null) {
+            return List.of();
+        }
+
+        return entries.stream()
+                .limit(limit)
+                .map(Entry::boardId)
+                .toList();
+    }
+
+    private synchronized void removeNow(Long boardId) {
+        ranking.remove(boardId);
+        if (pendingChanges != null) {
+            pendingChanges.add(r -> r.remove(boardId));
+        }
+    }
+
+    private synchronized void record(BoardActivity activity) {
+        if (activity.boardId() == null || activity.categoryId() == null) {
+            return;
+        }
+        ranking.add(activity);
+        if (pendingChanges != null) {
+            pendingChanges.add(r -> r.add(activity));
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private record Entry(Long boardId, Long categoryId, double score) {
+
+        static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+                .thenComparing(Entry::boardId, Comparator.reverseOrder());
+    }
+
+    /**
+     * 기준 시각(anchor) 하나에 대한 점수 집합
+     * 쓰기는 BoardTrendingRanking 의 락 안에서만, 읽기는 락 없이 skip list를 순회합니다.
+     */
+    private final class Ranking {
+
+        private final Instant anchor;
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<Long, NavigableSet<Entry>> byCategory = new ConcurrentHashMap<>();
+        private final NavigableSet<Entry> global = new ConcurrentSkipListSet<>(Entry.ORDER);
+
+        private Ranking(Instant anchor) {
+            this.anchor = anchor;
+        }
+
+        private void add(BoardActivity activity) {
+            long elapsedMillis = activity.occurredAt().toEpochMilli() - anchor.toEpochMilli();
+            double delta = activity.type().getWeight() * activity.amount()
+                    * Math.exp(decayRatePerMillis * elapsedMillis);
+
+            Entry previous = entries.get(activity.boardId());
+            double score = Math.max((previous != null ? previous.score() : 0.0) + delta, 0.0);
+            remove(activity.boardId());
+            if (score <= 0.0) {
+                return;
+            }
+
+            Entry entry = new Entry(activity.boardId(), activity.categoryId(), score);
+            NavigableSet<Entry> categoryEntries = byCategory.computeIfAbsent(
+                    activity.categoryId(), id -> new ConcurrentSkipListSet<>(Entry.ORDER));
+            entries.put(entry.boardId(), entry);
+            categoryEntries.add(entry);
+            global.add(entry);
+
+            while (categoryEntries.size() > maxEntriesPerCategory) {
+                remove(categoryEntries.last().boardId());
+            }
+        }
+
+        private void remove(Long boardId) {
+            Entry entry = entries.remove(boardId);
+            if (entry == null) {
+                return;
+            }
+            NavigableSet<Entry> categoryEntries = byCategory.get(entry.categoryId());
+            if (categoryEntries != null) {
+                categoryEntries.remove(entry);
+            }
+            global.remove(entry);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.live_backend.domain.board.reaction;
+
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import com.example.live_backend.global.lock.StripedLocks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 게시글 반응 토글
+ * 누른 반응 행을 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 생성/활성/취소해 같은 반응 연타가
+ * 유니크 제약 위반으로 실패하지 않게 하고, 새 반응이 활성화되면 회원의 다른 활성 반응을 취소합니다.
+ * (게시글, 회원)별 프로세스 내 락을 트랜잭션 커밋까지 잡아 같은 회원의 동시 토글을 순서대로 처리하며,
+ * 집계 행은 반응 종류 순서로 갱신해 서로 다른 회원 간 교착을 피합니다. 인스턴스 간 교착은 재시도합니다.
+ */
+@Slf4j
+@Component
+public class BoardReactionToggler {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // 새 행이면 활성 상태로 생성, 있으면 활성 <-> 취소 전환
+    private static final String TOGGLE_SQL =
+            "INSERT INTO BOARD_REACTIONS (BOARD_ID, MEMBER_ID, REACTION_TYPE, CREATED_AT, MODIFIED_AT) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "DELETED_AT = CASE WHEN DELETED_AT IS NULL THEN CURRENT_TIMESTAMP(6) ELSE NULL END, " +
+            "MODIFIED_AT = CURRENT_TIMESTAMP(6)";
+    private static final String ACTIVE_TYPES_SQL =
+            "SELECT REACTION_TYPE FROM BOARD_REACTIONS " +
+            "WHERE BOARD_ID = ? AND MEMBER_ID = ? AND DELETED_AT IS NULL FOR UPDATE";
+    private static final String DEACTIVATE_OTHERS_SQL =
+            "UPDATE BOARD_REACTIONS SET DELETED_AT = CURRENT_TIMESTAMP(6), MODIFIED_AT = CURRENT_TIMESTAMP(6) " +
+            "WHERE BOARD_ID = ? AND MEMBER_ID = ? AND REACTION_TYPE <> ? AND DELETED_AT IS NULL";
+    private static final String ADD_COUNT_SQL =
+            "INSERT INTO BOARD_REACTION_COUNTS (BOARD_ID, REACTION_TYPE, REACTION_COUNT) " +
+            "VALUES (?, ?, GREATEST(?, 0)) " +
+            "ON DUPLICATE KEY UPDATE REACTION_COUNT = GREATEST(REACTION_COUNT + ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLocks locks;
+
+    public BoardReactionToggler(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${board.reaction.lock-stripes:256}") int lockStripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locks = new StripedLocks(lockStripes);
+    }
+
+    /**
+     * 반응 토글 (호출하는 쪽 트랜잭션 밖에서 불러야 락이 커밋까지 유지됨)
+     */
+    public ReactionToggleResult toggle(Long boardId, Long memberId, ReactionType reactionType) {
+        Lock lock = locks.get(boardId, memberId);
+        lock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> apply(boardId, memberId, reactionType));
+                } catch (PessimisticLockingFailureException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.warn("[BoardReactionToggler] 반응 토글 락 충돌 - 재시도합니다. boardId: {}, memberId: {}, attempt: {}",
+                            boardId, memberId, attempt);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReactionToggleResult apply(Long boardId, Long memberId, ReactionType reactionType) {
+        jdbcTemplate.update(TOGGLE_SQL, boardId, memberId, reactionType.name());
+
+        List<ReactionType> activeTypes = jdbcTemplate.queryForList(ACTIVE_TYPES_SQL, String.class, boardId, memberId)
+                .stream()
+                .map(ReactionType::valueOf)
+                .toList();
+        boolean active = activeTypes.contains(reactionType);
+
+        List<ReactionType> deactivated = new ArrayList<>();
+        if (active) {
+            activeTypes.stream()
+                    .filter(type -> type != reactionType)
+                    .forEach(deactivated::add);
+            if (!deactivated.isEmpty()) {
+                jdbcTemplate.update(DEACTIVATE_OTHERS_SQL, boardId, memberId, reactionType.name());
+            }
+        }
+
+        Map<ReactionType, Integer> countDeltas = new EnumMap<>(ReactionType.class);
+        countDeltas.put(reactionType, active ? 1 : -1);
+        deactivated.forEach(type -> countDeltas.put(type, -1));
+        List<Object[]> countArgs = new ArrayList<>();
+        countDeltas.forEach((type, delta) -> countArgs.add(new Object[]{boardId, type.name(), delta, delta}));
+        jdbcTemplate.batchUpdate(ADD_COUNT_SQL, countArgs);
+
+        return new ReactionToggleResult(active, List.copyOf(deactivated));
+    }
+}
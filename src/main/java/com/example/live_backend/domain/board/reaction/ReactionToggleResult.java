@@ -0,0 +1,24 @@
+package com.example.live_backend.domain.board.reaction;
+
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+
+import java.util.List;
+
+/**
+ * 반응 토글 결과
+ *
+ * @param active      누른 반응이 토글 후 활성 상태인지
+ * @param deactivated 새 반응으로 바꾸면서 취소된 기존 반응
+ */
+public record ReactionToggleResult(boolean active, List<ReactionType> deactivated) {
+
+    /**
+     * 활성 반응 수 변화 (+1 새 반응, -1 취소, 0 다른 반응으로 변경)
+     */
+    public int reactionDelta() {
+        if (!active) {
+            return -1;
+        }
+        return deactivated.isEmpty() ? 1 : 0;
+    }
+}
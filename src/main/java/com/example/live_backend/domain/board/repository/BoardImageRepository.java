@@ -2,6 +2,29 @@ package com.example.live_backend.domain.board.repository;
 
 import com.example.live_backend.domain.board.entity.BoardImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BoardImageRepository extends JpaRepository<BoardImage, Long> {
-} 
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardImageRepository extends JpaRepository<BoardImage, Long>, BoardImageRepositoryCustom {
+
+    /**
+     * 게시글에 연결된 이미지 (등록 순서, 첫 번째가 썸네일)
+     */
+    @Query("SELECT bi.id AS id, i.id AS imageId, i.s3Url AS s3Url FROM BoardImage bi JOIN bi.image i " +
+           "WHERE bi.board.id = :boardId ORDER BY bi.id ASC")
+    List<BoardImageLink> findLinksByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("DELETE FROM BoardImage bi WHERE bi.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface BoardImageLink {
+        Long getId();
+        Long getImageId();
+        String getS3Url();
+    }
+}
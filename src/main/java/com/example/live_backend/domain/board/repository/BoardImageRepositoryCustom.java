@@ -0,0 +1,7 @@
+package com.example.live_backend.domain.board.repository;
+
+import java.util.List;
+
+public interface BoardImageRepositoryCustom {
+    void insertLinks(Long boardId, List<Long> imageIds);
+}
@@ -0,0 +1,40 @@
+package com.example.live_backend.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardImageRepositoryImpl implements BoardImageRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글-이미지 연결 일괄 등록 (목록 순서대로 ID가 증가하므로 순서가 유지됨)
+     */
+    @Override
+    @Transactional
+    public void insertLinks(Long boardId, List<Long> imageIds) {
+        if (imageIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO BOARD_IMAGES (BOARD_ID, IMAGE_ID, CREATED_AT, MODIFIED_AT) VALUES (?, ?, ?, ?)",
+                imageIds,
+                imageIds.size(),
+                (ps, imageId) -> {
+                    ps.setLong(1, boardId);
+                    ps.setLong(2, imageId);
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+    }
+}
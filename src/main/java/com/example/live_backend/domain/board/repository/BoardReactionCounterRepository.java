@@ -0,0 +1,46 @@
+package com.example.live_backend.domain.board.repository;
+
+import com.example.live_backend.domain.board.entity.BoardReactionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface BoardReactionCounterRepository extends JpaRepository<BoardReactionCounter, Long> {
+
+    List<BoardReactionCounter> findByBoardId(Long boardId);
+
+    List<BoardReactionCounter> findByBoardIdIn(List<Long> boardIds);
+
+    /**
+     * 게시글 ID 구간의 반응 수를 board_reactions 원본 기준으로 재계산
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO BOARD_REACTION_COUNTS (BOARD_ID, REACTION_TYPE, REACTION_COUNT) " +
+                   "SELECT br.BOARD_ID, br.REACTION_TYPE, COUNT(*) FROM BOARD_REACTIONS br " +
+                   "WHERE br.BOARD_ID BETWEEN :fromBoardId AND :toBoardId AND br.DELETED_AT IS NULL " +
+                   "GROUP BY br.BOARD_ID, br.REACTION_TYPE " +
+                   "ON DUPLICATE KEY UPDATE REACTION_COUNT = VALUES(REACTION_COUNT)",
+           nativeQuery = true)
+    int recomputeCounts(@Param("fromBoardId") Long fromBoardId, @Param("toBoardId") Long toBoardId);
+
+    /**
+     * 게시글 ID 구간에서 활성 반응이 더 이상 없는 집계를 0으로 정리
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE BOARD_REACTION_COUNTS c SET c.REACTION_COUNT = 0 " +
+                   "WHERE c.BOARD_ID BETWEEN :fromBoardId AND :toBoardId AND c.REACTION_COUNT <> 0 " +
+                   "AND NOT EXISTS (SELECT 1 FROM BOARD_REACTIONS br " +
+                   "                WHERE br.BOARD_ID = c.BOARD_ID AND br.REACTION_TYPE = c.REACTION_TYPE " +
+                   "                AND br.DELETED_AT IS NULL)",
+           nativeQuery = true)
+    int resetOrphanCounts(@Param("fromBoardId") Long fromBoardId, @Param("toBoardId") Long toBoardId);
+
+    @Query(value = "SELECT COALESCE(MAX(ID), 0) FROM BOARDS", nativeQuery = true)
+    long findMaxBoardId();
+}
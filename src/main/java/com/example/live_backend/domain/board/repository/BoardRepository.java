@@ -3,40 +3,118 @@ package com.example.live_backend.domain.board.repository;
 import com.example.live_backend.domain.board.entity.Board;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
+    // 목록 조회는 본문(content) 없이 목록 응답에 필요한 컬럼만 조회
+    String SUMMARY_SELECT = "SELECT new com.example.live_backend.domain.board.repository.BoardSummaryRow(" +
+           "b.id, b.title, c.id, c.name, b.relatedOrganization, b.preview, b.thumbnailImageUrl, b.author.id, " +
+           "b.viewCount, b.uniqueViewerCount, b.commentCount, b.createdAt) " +
+           "FROM Board b JOIN b.category c ";
+
     @Query("SELECT b FROM Board b WHERE b.isDeleted = false AND b.id = :id")
     Optional<Board> findByIdAndNotDeleted(@Param("id") Long id);
 
 
 
-    @Query("SELECT b FROM Board b JOIN FETCH b.category WHERE b.isDeleted = false AND b.category.name = :categoryName " +
+    @Query(SUMMARY_SELECT + "WHERE b.isDeleted = false AND c.name = :categoryName " +
            "AND (:cursor IS NULL OR b.id < :cursor) " +
            "ORDER BY b.id DESC")
-    List<Board> findByCategoryWithCursor(@Param("categoryName") String categoryName, 
+    List<BoardSummaryRow> findByCategoryWithCursor(@Param("categoryName") String categoryName, 
                                         @Param("cursor") Long cursor, 
                                         Pageable pageable);
 
-    @Query("SELECT b FROM Board b JOIN FETCH b.category WHERE b.isDeleted = false AND b.category.name = :categoryName " +
-           "ORDER BY b.createdAt DESC")
-    List<Board> findLatestBoardsByCategory(@Param("categoryName") String categoryName, Pageable pageable);
-
-    @Query("SELECT b FROM Board b JOIN FETCH b.category WHERE b.isDeleted = false AND b.category.name = :categoryName " +
-           "ORDER BY b.viewCount DESC, b.createdAt DESC")
-    List<Board> findBoardsByCategoryOrderByViews(@Param("categoryName") String categoryName, Pageable pageable);
-
-    @Query("SELECT b FROM Board b JOIN FETCH b.category WHERE b.isDeleted = false AND b.category.name = :categoryName " +
+    @Query(SUMMARY_SELECT + "WHERE b.isDeleted = false AND c.name = :categoryName " +
            "AND (:cursor IS NULL OR b.viewCount < :cursor OR (b.viewCount = :cursor AND b.id < :cursorId)) " +
            "ORDER BY b.viewCount DESC, b.id DESC")
-    List<Board> findByCategoryWithCursorOrderByViews(@Param("categoryName") String categoryName, 
+    List<BoardSummaryRow> findByCategoryWithCursorOrderByViews(@Param("categoryName") String categoryName, 
                                                      @Param("cursor") Long cursor,
                                                      @Param("cursorId") Long cursorId, 
                                                      Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE b.isDeleted = false AND c.name = :categoryName " +
+           "AND (:cursor IS NULL OR b.uniqueViewerCount < :cursor OR (b.uniqueViewerCount = :cursor AND b.id < :cursorId)) " +
+           "ORDER BY b.uniqueViewerCount DESC, b.id DESC")
+    List<BoardSummaryRow> findByCategoryWithCursorOrderByUniqueViewers(@Param("categoryName") String categoryName,
+                                                             @Param("cursor") Long cursor,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    /**
+     * 댓글 수 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = " +
+           "CASE WHEN b.commentCount + :delta < 0 THEN 0 ELSE b.commentCount + :delta END " +
+           "WHERE b.id = :boardId")
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    /**
+     * 게시글 ID 구간의 댓글 수를 comments 원본 기준으로 보정하고, 보정된 게시글 수를 반환
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE BOARDS b " +
+                   "JOIN (SELECT bb.ID, COUNT(c.ID) AS ACTUAL FROM BOARDS bb " +
+                   "      LEFT JOIN COMMENTS c ON c.BOARD_ID = bb.ID AND c.IS_DELETED = FALSE " +
+                   "      WHERE bb.ID BETWEEN :fromBoardId AND :toBoardId GROUP BY bb.ID) counted " +
+                   "  ON counted.ID = b.ID " +
+                   "SET b.COMMENT_COUNT = counted.ACTUAL " +
+                   "WHERE b.COMMENT_COUNT <> counted.ACTUAL",
+           nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromBoardId") Long fromBoardId, @Param("toBoardId") Long toBoardId);
+
+    /**
+     * 댓글이 있는데 집계가 0인 게시글 존재 여부 (집계 컬럼 최초 배포 확인용, 0 또는 1)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM COMMENTS c " +
+                   "JOIN BOARDS b ON b.ID = c.BOARD_ID " +
+                   "WHERE c.IS_DELETED = FALSE AND b.COMMENT_COUNT = 0 LIMIT 1) missing",
+           nativeQuery = true)
+    long countMissingCommentCounts();
+
+    @Query(value = "SELECT COALESCE(MAX(ID), 0) FROM BOARDS", nativeQuery = true)
+    long findMaxId();
+
+    /**
+     * 게시글 상세 버전 (ETag 계산용)
+     * 본문과 연관 엔티티를 읽지 않고 수정 시각, 댓글 수, 반응 종류별 수만 이어 붙입니다.
+     */
+    @Query(value = "SELECT b.CATEGORY_ID AS categoryId, " +
+                   "CONCAT_WS(':', b.MODIFIED_AT, b.COMMENT_COUNT, " +
+                   "  (SELECT GROUP_CONCAT(c.REACTION_TYPE, '=', c.REACTION_COUNT ORDER BY c.REACTION_TYPE) " +
+                   "   FROM BOARD_REACTION_COUNTS c WHERE c.BOARD_ID = b.ID)) AS version " +
+                   "FROM BOARDS b WHERE b.ID = :boardId AND b.IS_DELETED = FALSE",
+           nativeQuery = true)
+    Optional<BoardVersion> findVersionById(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글 수정 시각 갱신 (이미지 연결만 바뀌어 엔티티 변경이 없을 때)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.modifiedAt = CURRENT_TIMESTAMP WHERE b.id = :boardId")
+    int touchModifiedAt(@Param("boardId") Long boardId);
+
+    @Query("SELECT b.id AS id, b.commentCount AS commentCount FROM Board b " +
+           "WHERE b.id IN :boardIds AND b.isDeleted = false")
+    List<BoardCommentCount> findCommentCountsByIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    interface BoardCommentCount {
+        Long getId();
+        Long getCommentCount();
+    }
+
+    interface BoardVersion {
+        Long getCategoryId();
+        String getVersion();
+    }
+
 } 
\ No newline at end of file
@@ -1,11 +1,27 @@
 package com.example.live_backend.domain.board.repository;
 
-import com.example.live_backend.domain.board.entity.Board;
-
+import com.example.live_backend.domain.board.preview.BoardPreviewSource;
+import com.example.live_backend.domain.board.ranking.BoardActivity;
+import com.example.live_backend.domain.board.search.BoardSearchDocument;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface BoardRepositoryCustom {
-    List<Board> searchBoardsWithCursor(String keyword, Long cursor, int size);
-    List<Board> searchBoardsWithCursorOrderByViews(String keyword, Long viewCountCursor, Long idCursor, int size);
+    List<BoardSummaryRow> searchBoardsWithCursor(String keyword, Long cursor, int size);
+    List<BoardSummaryRow> searchBoardsWithCursorOrderByViews(String keyword, Long viewCountCursor, Long idCursor, int size);
+    List<BoardSummaryRow> searchBoardsWithCursorOrderByUniqueViewers(String keyword, Long countCursor, Long idCursor, int size);
+    void addViewCounts(Map<Long, Long> viewCountDeltas);
+    void updateUniqueViewerCounts(Map<Long, Long> uniqueViewerCounts);
+    List<BoardSummaryRow> findHomeFeedRows(boolean orderByViews, int limitPerCategory);
+    List<BoardSummaryRow> findBoardsByIdsOrderByIdDesc(Collection<Long> boardIds);
+    List<BoardSummaryRow> findBoardsByIdsWithCursorOrderByViews(Collection<Long> boardIds, Long viewCountCursor, Long idCursor, int size);
+    List<BoardSummaryRow> findBoardsByIdsWithCursorOrderByUniqueViewers(Collection<Long> boardIds, Long countCursor, Long idCursor, int size);
+    List<BoardPreviewSource> findMissingPreviews(Long afterId, int limit);
+    void updatePreviews(Map<Long, String> previews);
+    void scanSearchDocuments(Consumer<BoardSearchDocument> consumer);
+    void scanTrendingActivities(Instant since, Consumer<BoardActivity> consumer);
 } 
\ No newline at end of file
@@ -1,28 +1,86 @@
 package com.example.live_backend.domain.board.repository;
 
-import com.example.live_backend.domain.board.entity.Board;
-
+import com.example.live_backend.domain.board.preview.BoardPreviewSource;
+import com.example.live_backend.domain.board.ranking.BoardActivity;
+import com.example.live_backend.domain.board.ranking.BoardActivityType;
+import com.example.live_backend.domain.board.search.BoardSearchDocument;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static com.example.live_backend.domain.board.entity.QBoard.board;
+import static com.example.live_backend.domain.board.entity.QCategory.category;
 
 
 @Repository
 @RequiredArgsConstructor
 public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private static final String HOME_FEED_SQL =
+            "SELECT ranked.ID, ranked.TITLE, ranked.CATEGORY_ID, c.NAME AS CATEGORY_NAME, " +
+            "       ranked.RELATED_ORGANIZATION, ranked.PREVIEW, ranked.THUMBNAIL_IMAGE_URL, ranked.AUTHOR_ID, " +
+            "       ranked.VIEW_COUNT, ranked.UNIQUE_VIEWER_COUNT, ranked.COMMENT_COUNT, ranked.CREATED_AT " +
+            "FROM (SELECT b.ID, b.TITLE, b.CATEGORY_ID, b.RELATED_ORGANIZATION, b.PREVIEW, b.THUMBNAIL_IMAGE_URL, " +
+            "             b.AUTHOR_ID, b.VIEW_COUNT, b.UNIQUE_VIEWER_COUNT, b.COMMENT_COUNT, b.CREATED_AT, " +
+            "             ROW_NUMBER() OVER (PARTITION BY b.CATEGORY_ID ORDER BY %s) AS RN " +
+            "      FROM BOARDS b WHERE b.IS_DELETED = FALSE) ranked " +
+            "JOIN CATEGORIES c ON c.ID = ranked.CATEGORY_ID " +
+            "WHERE ranked.RN <= ? " +
+            "ORDER BY c.ID ASC, ranked.RN ASC";
+
+    // 검색 색인의 ID 목록을 IN 절로 넘길 때 쿼리 하나에 넣는 최대 개수
+    private static final int ID_CHUNK_SIZE = 1_000;
+
+    private static final String HOME_FEED_ORDER_LATEST = "b.CREATED_AT DESC, b.ID DESC";
+    private static final String HOME_FEED_ORDER_VIEWS = "b.VIEW_COUNT DESC, b.CREATED_AT DESC, b.ID DESC";
+
+    private static final String MISSING_PREVIEWS_SQL =
+            "SELECT ID, CONTENT FROM BOARDS WHERE PREVIEW IS NULL AND ID > ? ORDER BY ID LIMIT ?";
+    // 썸네일은 첫 번째 이미지 연결 기준, 그 사이 BoardService 가 채운 미리보기는 덮어쓰지 않음
+    private static final String UPDATE_PREVIEW_SQL =
+            "UPDATE BOARDS b SET b.PREVIEW = ?, " +
+            "       b.THUMBNAIL_IMAGE_URL = (SELECT i.S3_URL FROM BOARD_IMAGES bi JOIN IMAGES i ON i.ID = bi.IMAGE_ID " +
+            "                                WHERE bi.BOARD_ID = b.ID ORDER BY bi.ID LIMIT 1) " +
+            "WHERE b.ID = ? AND b.PREVIEW IS NULL";
+
+    private static final String SEARCH_DOCUMENTS_SQL =
+            "SELECT ID, TITLE, CONTENT FROM BOARDS WHERE IS_DELETED = FALSE";
+    private static final int SEARCH_DOCUMENTS_FETCH_SIZE = 500;
+
+    private static final String TRENDING_REACTION_SQL =
+            "SELECT br.BOARD_ID, b.CATEGORY_ID, 1 AS AMOUNT, COALESCE(br.MODIFIED_AT, br.CREATED_AT) AS OCCURRED_AT " +
+            "FROM BOARD_REACTIONS br JOIN BOARDS b ON b.ID = br.BOARD_ID " +
+            "WHERE br.DELETED_AT IS NULL AND b.IS_DELETED = FALSE AND COALESCE(br.MODIFIED_AT, br.CREATED_AT) >= ?";
+    private static final String TRENDING_COMMENT_SQL =
+            "SELECT c.BOARD_ID, b.CATEGORY_ID, 1 AS AMOUNT, c.CREATED_AT AS OCCURRED_AT " +
+            "FROM COMMENTS c JOIN BOARDS b ON b.ID = c.BOARD_ID " +
+            "WHERE c.IS_DELETED = FALSE AND b.IS_DELETED = FALSE AND c.CREATED_AT >= ?";
     
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
-    public List<Board> searchBoardsWithCursor(String keyword, Long cursor, int size) {
-        return queryFactory
-                .selectFrom(board)
+    public List<BoardSummaryRow> searchBoardsWithCursor(String keyword, Long cursor, int size) {
+        return selectSummaries()
                 .where(
                         board.isDeleted.eq(false),
                         searchKeyword(keyword),
@@ -34,9 +92,8 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
     }
 
     @Override
-    public List<Board> searchBoardsWithCursorOrderByViews(String keyword, Long viewCountCursor, Long idCursor, int size) {
-        return queryFactory
-                .selectFrom(board)
+    public List<BoardSummaryRow> searchBoardsWithCursorOrderByViews(String keyword, Long viewCountCursor, Long idCursor, int size) {
+        return selectSummaries()
                 .where(
                         board.isDeleted.eq(false),
                         searchKeyword(keyword),
@@ -47,6 +104,221 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<BoardSummaryRow> searchBoardsWithCursorOrderByUniqueViewers(String keyword, Long countCursor, Long idCursor, int size) {
+        return selectSummaries()
+                .where(
+                        board.isDeleted.eq(false),
+                        searchKeyword(keyword),
+                        countCursorCondition(board.uniqueViewerCount, countCursor, idCursor)
+                )
+                .orderBy(board.uniqueViewerCount.desc(), board.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewCountDeltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE BOARDS SET VIEW_COUNT = VIEW_COUNT + ? WHERE ID = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    /**
+     * 카테고리별 상위 N개 게시글을 윈도우 함수로 한 번에 조회
+     */
+    @Override
+    public List<BoardSummaryRow> findHomeFeedRows(boolean orderByViews, int limitPerCategory) {
+        String sql = String.format(HOME_FEED_SQL, orderByViews ? HOME_FEED_ORDER_VIEWS : HOME_FEED_ORDER_LATEST);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BoardSummaryRow(
+                rs.getLong("ID"),
+                rs.getString("TITLE"),
+                rs.getLong("CATEGORY_ID"),
+                rs.getString("CATEGORY_NAME"),
+                rs.getString("RELATED_ORGANIZATION"),
+                rs.getString("PREVIEW"),
+                rs.getString("THUMBNAIL_IMAGE_URL"),
+                rs.getLong("AUTHOR_ID"),
+                rs.getLong("VIEW_COUNT"),
+                rs.getLong("UNIQUE_VIEWER_COUNT"),
+                rs.getLong("COMMENT_COUNT"),
+                rs.getObject("CREATED_AT", LocalDateTime.class)
+        ), limitPerCategory);
+    }
+
+    @Override
+    public List<BoardSummaryRow> findBoardsByIdsOrderByIdDesc(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectSummaries()
+                .where(
+                        board.isDeleted.eq(false),
+                        board.id.in(boardIds)
+                )
+                .orderBy(board.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<BoardSummaryRow> findBoardsByIdsWithCursorOrderByViews(Collection<Long> boardIds, Long viewCountCursor, Long idCursor, int size) {
+        return findTopInChunks(boardIds, size, BoardSummaryRow::viewCount, chunk -> selectSummaries()
+                .where(
+                        board.isDeleted.eq(false),
+                        board.id.in(chunk),
+                        viewCountCursorCondition(viewCountCursor, idCursor)
+                )
+                .orderBy(board.viewCount.desc(), board.id.desc())
+                .limit(size + 1)
+                .fetch());
+    }
+
+    @Override
+    public List<BoardSummaryRow> findBoardsByIdsWithCursorOrderByUniqueViewers(Collection<Long> boardIds, Long countCursor, Long idCursor, int size) {
+        return findTopInChunks(boardIds, size, BoardSummaryRow::uniqueViewerCount, chunk -> selectSummaries()
+                .where(
+                        board.isDeleted.eq(false),
+                        board.id.in(chunk),
+                        countCursorCondition(board.uniqueViewerCount, countCursor, idCursor)
+                )
+                .orderBy(board.uniqueViewerCount.desc(), board.id.desc())
+                .limit(size + 1)
+                .fetch());
+    }
+
+    /**
+     * ID 목록을 ID_CHUNK_SIZE 개씩 나눠 청크마다 (집계, ID) 내림차순 상위 size + 1 개를 조회한 뒤, 합쳐서 다시 상위 size + 1 개를 고름
+     * 전체 상위 size + 1 개는 반드시 어느 한 청크의 상위 size + 1 개 안에 있으므로 한 번에 조회한 결과와 같습니다.
+     */
+    private List<BoardSummaryRow> findTopInChunks(Collection<Long> boardIds, int size,
+                                                  Function<BoardSummaryRow, Long> count,
+                                                  Function<List<Long>, List<BoardSummaryRow>> chunkQuery) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = List.copyOf(boardIds);
+        if (ids.size() <= ID_CHUNK_SIZE) {
+            return chunkQuery.apply(ids);
+        }
+
+        List<BoardSummaryRow> merged = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            merged.addAll(chunkQuery.apply(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()))));
+        }
+        merged.sort(Comparator.comparing(count).thenComparing(BoardSummaryRow::id).reversed());
+        return merged.size() > size + 1 ? List.copyOf(merged.subList(0, size + 1)) : merged;
+    }
+
+    @Override
+    @Transactional
+    public void updateUniqueViewerCounts(Map<Long, Long> uniqueViewerCounts) {
+        if (uniqueViewerCounts.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(uniqueViewerCounts.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE BOARDS SET UNIQUE_VIEWER_COUNT = ? WHERE ID = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    @Override
+    public List<BoardPreviewSource> findMissingPreviews(Long afterId, int limit) {
+        return jdbcTemplate.query(MISSING_PREVIEWS_SQL,
+                (rs, rowNum) -> new BoardPreviewSource(rs.getLong("ID"), rs.getString("CONTENT")),
+                afterId, limit);
+    }
+
+    @Override
+    @Transactional
+    public void updatePreviews(Map<Long, String> previews) {
+        if (previews.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(previews.entrySet());
+        jdbcTemplate.batchUpdate(
+                UPDATE_PREVIEW_SQL,
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    /**
+     * 검색 색인 구축용 전체 게시글 순회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Override
+    public void scanSearchDocuments(Consumer<BoardSearchDocument> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SEARCH_DOCUMENTS_SQL);
+            statement.setFetchSize(SEARCH_DOCUMENTS_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(new BoardSearchDocument(
+                    rs.getLong("ID"),
+                    rs.getString("TITLE"),
+                    rs.getString("CONTENT")
+            ));
+        });
+    }
+
+    /**
+     * 인기 게시글 랭킹 구축용 최근 활동 순회 (반응, 댓글)
+     * 조회수는 누적값만 저장되어 발생 시각을 알 수 없으므로 제외하며, 조회는 재구축 이후 기록되는 활동으로만 반영됩니다.
+     */
+    @Override
+    public void scanTrendingActivities(Instant since, Consumer<BoardActivity> consumer) {
+        Timestamp sinceTimestamp = Timestamp.from(since);
+        scanTrendingActivities(TRENDING_REACTION_SQL, BoardActivityType.REACTION, sinceTimestamp, consumer);
+        scanTrendingActivities(TRENDING_COMMENT_SQL, BoardActivityType.COMMENT, sinceTimestamp, consumer);
+    }
+
+    private void scanTrendingActivities(String sql, BoardActivityType type, Timestamp since,
+                                        Consumer<BoardActivity> consumer) {
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(new BoardActivity(
+                    rs.getLong("BOARD_ID"),
+                    rs.getLong("CATEGORY_ID"),
+                    type,
+                    rs.getLong("AMOUNT"),
+                    rs.getTimestamp("OCCURRED_AT").toInstant()
+            ));
+        }, since);
+    }
+
+    private JPAQuery<BoardSummaryRow> selectSummaries() {
+        return queryFactory
+                .select(Projections.constructor(BoardSummaryRow.class,
+                        board.id, board.title, category.id, category.name, board.relatedOrganization,
+                        board.preview, board.thumbnailImageUrl, board.author.id,
+                        board.viewCount, board.uniqueViewerCount, board.commentCount, board.createdAt))
+                .from(board)
+                .join(board.category, category);
+    }
+
     private BooleanExpression searchKeyword(String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return null;
@@ -68,12 +340,16 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
     }
     
     private BooleanExpression viewCountCursorCondition(Long viewCountCursor, Long idCursor) {
-        if (viewCountCursor == null) {
+        return countCursorCondition(board.viewCount, viewCountCursor, idCursor);
+    }
+
+    private BooleanExpression countCursorCondition(NumberPath<Long> count, Long countCursor, Long idCursor) {
+        if (countCursor == null) {
             return null;
         }
         
-        return board.viewCount.lt(viewCountCursor)
-                .or(board.viewCount.eq(viewCountCursor).and(board.id.lt(idCursor)));
+        return count.lt(countCursor)
+                .or(count.eq(countCursor).and(board.id.lt(idCursor)));
     }
     
     
@@ -0,0 +1,23 @@
+package com.example.live_backend.domain.board.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답 조립에 필요한 컬럼만 담은 조회 결과 (본문 content 는 읽지 않음)
+ * 작성자 닉네임은 authorId 로 MemberSummaryLoader 에서 한 번에 조회합니다.
+ */
+public record BoardSummaryRow(
+        Long id,
+        String title,
+        Long categoryId,
+        String categoryName,
+        String relatedOrganization,
+        String preview,
+        String thumbnailImageUrl,
+        Long authorId,
+        Long viewCount,
+        Long uniqueViewerCount,
+        Long commentCount,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.live_backend.domain.board.repository;
+
+import com.example.live_backend.domain.board.entity.BoardViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardViewerSketchRepository extends JpaRepository<BoardViewerSketch, Long>, BoardViewerSketchRepositoryCustom {
+
+    /**
+     * 병합 후 덮어쓸 때까지 다른 인스턴스가 같은 스케치를 병합하지 못하도록 트랜잭션 동안 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BoardViewerSketch s WHERE s.boardId IN :boardIds")
+    List<BoardViewerSketch> findAllByIdForUpdate(@Param("boardIds") Collection<Long> boardIds);
+}
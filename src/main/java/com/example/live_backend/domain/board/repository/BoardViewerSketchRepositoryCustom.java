@@ -0,0 +1,7 @@
+package com.example.live_backend.domain.board.repository;
+
+import java.util.Map;
+
+public interface BoardViewerSketchRepositoryCustom {
+    void upsertSketches(Map<Long, byte[]> sketches);
+}
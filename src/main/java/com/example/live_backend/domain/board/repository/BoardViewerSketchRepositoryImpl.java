@@ -0,0 +1,36 @@
+package com.example.live_backend.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardViewerSketchRepositoryImpl implements BoardViewerSketchRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void upsertSketches(Map<Long, byte[]> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, byte[]>> entries = new ArrayList<>(sketches.entrySet());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO BOARD_VIEWER_SKETCHES (BOARD_ID, SKETCH) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE SKETCH = VALUES(SKETCH)",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setBytes(2, entry.getValue());
+                });
+    }
+}
@@ -5,9 +5,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     @Query("SELECT c FROM Category c ORDER BY c.id ASC")
     List<Category> findAllOrderById();
+
+    Optional<Category> findByName(String name);
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.live_backend.domain.board.repository;
 
 import com.example.live_backend.domain.board.entity.CommentLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,15 +13,15 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 
     Optional<CommentLike> findByCommentIdAndMemberId(Long commentId, Long memberId);
 
-    @Query("SELECT cl.comment.id, COUNT(cl) FROM CommentLike cl " +
-           "WHERE cl.comment.id IN :commentIds " +
-           "GROUP BY cl.comment.id")
-    List<Object[]> countLikesByCommentIds(@Param("commentIds") List<Long> commentIds);
-
     @Query("SELECT cl.comment.id FROM CommentLike cl " +
            "WHERE cl.comment.id IN :commentIds AND cl.member.id = :memberId")
     List<Long> findLikedCommentIdsByMemberAndCommentIds(@Param("commentIds") List<Long> commentIds, 
                                                         @Param("memberId") Long memberId);
 
+    // CommentLikeCache 적재용, 레플리카 지연으로 방금 누른 좋아요가 빠진 목록이 캐시되지 않도록 PrimaryReads 를 거쳐 primary 에서 조회
+    @Query("SELECT cl.comment.id FROM CommentLike cl " +
+           "WHERE cl.member.id = :memberId ORDER BY cl.id DESC")
+    List<Long> findRecentLikedCommentIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
     Long countByCommentId(Long commentId);
 } 
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.example.live_backend.domain.board.repository;
 
 import com.example.live_backend.domain.board.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,17 +16,69 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.isDeleted = false AND c.id = :id")
     Optional<Comment> findByIdAndNotDeleted(@Param("id") Long id);
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+    @Query("SELECT c FROM Comment c " +
            "WHERE c.isDeleted = false AND c.board.id = :boardId AND c.parentComment IS NULL " +
-           "ORDER BY c.createdAt ASC")
-    List<Comment> findParentCommentsByBoardId(@Param("boardId") Long boardId);
+           "AND (:cursor IS NULL OR c.id > :cursor) " +
+           "ORDER BY c.id ASC")
+    List<Comment> findParentCommentsByBoardIdWithCursor(@Param("boardId") Long boardId,
+                                                        @Param("cursor") Long cursor,
+                                                        Pageable pageable);
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.isDeleted = false AND c.parentComment.id = :parentCommentId " +
+           "AND (:cursor IS NULL OR c.id > :cursor) " +
+           "ORDER BY c.id ASC")
+    List<Comment> findRepliesByParentCommentIdWithCursor(@Param("parentCommentId") Long parentCommentId,
+                                                         @Param("cursor") Long cursor,
+                                                         Pageable pageable);
+
+    @Query("SELECT c.parentComment.id as parentCommentId, COUNT(c) as count " +
+           "FROM Comment c " +
            "WHERE c.isDeleted = false AND c.parentComment.id IN :parentCommentIds " +
-           "ORDER BY c.createdAt ASC")
-    List<Comment> findRepliesByParentCommentIds(@Param("parentCommentIds") List<Long> parentCommentIds);
+           "GROUP BY c.parentComment.id")
+    List<ReplyCount> countRepliesByParentCommentIds(@Param("parentCommentIds") List<Long> parentCommentIds);
 
     @Query("SELECT COUNT(c) FROM Comment c " +
            "WHERE c.isDeleted = false AND c.board.id = :boardId")
     Long countByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 좋아요 수 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = " +
+           "CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END " +
+           "WHERE c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    /**
+     * 댓글 ID 구간의 좋아요 수를 comment_likes 원본 기준으로 보정하고, 보정된 댓글 수를 반환
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE COMMENTS c " +
+                   "JOIN (SELECT cm.ID, COUNT(cl.ID) AS ACTUAL FROM COMMENTS cm " +
+                   "      LEFT JOIN COMMENT_LIKES cl ON cl.COMMENT_ID = cm.ID " +
+                   "      WHERE cm.ID BETWEEN :fromCommentId AND :toCommentId GROUP BY cm.ID) counted " +
+                   "  ON counted.ID = c.ID " +
+                   "SET c.LIKE_COUNT = counted.ACTUAL " +
+                   "WHERE c.LIKE_COUNT <> counted.ACTUAL",
+           nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromCommentId") Long fromCommentId, @Param("toCommentId") Long toCommentId);
+
+    /**
+     * 좋아요가 있는데 집계가 0인 댓글 존재 여부 (집계 컬럼 최초 배포 확인용, 0 또는 1)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM COMMENT_LIKES cl " +
+                   "JOIN COMMENTS c ON c.ID = cl.COMMENT_ID WHERE c.LIKE_COUNT = 0 LIMIT 1) missing",
+           nativeQuery = true)
+    long countMissingLikeCounts();
+
+    @Query(value = "SELECT COALESCE(MAX(ID), 0) FROM COMMENTS", nativeQuery = true)
+    long findMaxId();
+
+    interface ReplyCount {
+        Long getParentCommentId();
+        Long getCount();
+    }
 } 
\ No newline at end of file
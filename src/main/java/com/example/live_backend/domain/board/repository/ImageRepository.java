@@ -3,9 +3,13 @@ package com.example.live_backend.domain.board.repository;
 import com.example.live_backend.domain.board.entity.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ImageRepository extends JpaRepository<Image, Long> {
+public interface ImageRepository extends JpaRepository<Image, Long>, ImageRepositoryCustom {
     
     Optional<Image> findByS3Url(String s3Url);
-} 
\ No newline at end of file
+
+    List<Image> findByS3UrlIn(Collection<String> s3Urls);
+} 
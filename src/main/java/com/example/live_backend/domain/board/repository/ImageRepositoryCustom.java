@@ -0,0 +1,8 @@
+package com.example.live_backend.domain.board.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ImageRepositoryCustom {
+    Map<String, Long> insertOrFindIds(Collection<String> s3Urls);
+}
@@ -0,0 +1,61 @@
+package com.example.live_backend.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ImageRepositoryImpl implements ImageRepositoryCustom {
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT IGNORE INTO IMAGES (S3_URL, CREATED_AT, MODIFIED_AT) VALUES (:s3Url, :now, :now)";
+
+    // 잠금 조회는 스냅샷이 아니라 최신 커밋 행을 읽으므로 다른 트랜잭션이 방금 등록한 URL도 보임
+    private static final String FIND_IMAGE_IDS_SQL =
+            "SELECT ID, S3_URL FROM IMAGES WHERE S3_URL IN (:s3Urls) FOR SHARE";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미지 등록 후 URL별 ID 반환 (s3_url 유니크 인덱스로 이미 있거나 동시에 등록된 URL은 기존 ID)
+     * 배치 INSERT IGNORE 한 번과 잠금 조회 한 번으로 처리하며, 잠금 조회라 REPEATABLE READ 트랜잭션 안에서도 누락되지 않습니다.
+     */
+    @Override
+    @Transactional
+    public Map<String, Long> insertOrFindIds(Collection<String> s3Urls) {
+        if (s3Urls.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> urls = List.copyOf(new LinkedHashSet<>(s3Urls));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = urls.stream()
+                .map(url -> new MapSqlParameterSource()
+                        .addValue("s3Url", url)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, batch);
+
+        Map<String, Long> foundIds = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_IMAGE_IDS_SQL, new MapSqlParameterSource("s3Urls", urls),
+                rs -> {
+                    foundIds.put(rs.getString("S3_URL"), rs.getLong("ID"));
+                });
+
+        Map<String, Long> imageIds = new LinkedHashMap<>();
+        urls.forEach(url -> imageIds.put(url, foundIds.get(url)));
+        return imageIds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.live_backend.domain.board.search;
+
+/**
+ * 검색 색인 대상 게시글 (제목, 본문)
+ */
+public record BoardSearchDocument(Long boardId, String title, String content) {
+}
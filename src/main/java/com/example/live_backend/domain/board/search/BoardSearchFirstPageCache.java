@@ -0,0 +1,139 @@
+package com.example.live_backend.domain.board.search;
+
+import com.example.live_backend.domain.board.dto.cursor.BoardSortType;
+import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
+import com.example.live_backend.global.page.CursorTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 검색어 첫 페이지 캐시
+ * PopularSearchKeywords 상위 board.search.popular.cache-top-k 개 검색어의 첫 페이지를 정렬 기준별로
+ * board.search.popular.refresh-interval-ms 마다 미리 만들어 두고, 해당 검색 요청은 DB 조회 없이 스냅샷을 반환합니다.
+ * 게시글이 생성/수정/삭제되면 스냅샷을 비우고, 재생성이 실패해 board.search.popular.max-staleness-ms 보다 오래된
+ * 스냅샷은 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class BoardSearchFirstPageCache {
+
+    private final PopularSearchKeywords popularSearchKeywords;
+    private final int topK;
+    private final long maxStalenessMillis;
+    private final Clock clock;
+
+    private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<BoardSortType, Function<String, CursorTemplate<String, BoardListResponseDto>>> loaders =
+            new ConcurrentHashMap<>();
+    private volatile Set<String> cachedKeywords = Set.of();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public BoardSearchFirstPageCache(
+            PopularSearchKeywords popularSearchKeywords,
+            @Value("${board.search.popular.cache-top-k:20}") int topK,
+            @Value("${board.search.popular.max-staleness-ms:120000}") long maxStalenessMillis,
+            MeterRegistry meterRegistry) {
+        this(popularSearchKeywords, topK, maxStalenessMillis, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    BoardSearchFirstPageCache(PopularSearchKeywords popularSearchKeywords, int topK, long maxStalenessMillis,
+                              MeterRegistry meterRegistry, Clock clock) {
+        this.popularSearchKeywords = popularSearchKeywords;
+        this.topK = topK;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 검색 첫 페이지 (캐시 대상 검색어면 스냅샷, 아니면 loader 로 조회)
+     *
+     * @param loader 검색어로 첫 페이지를 조회하는 함수 (정렬 기준마다 같은 함수를 넘겨야 함)
+     */
+    public CursorTemplate<String, BoardListResponseDto> get(
+            String keyword, BoardSortType sortType, Function<String, CursorTemplate<String, BoardListResponseDto>> loader) {
+        loaders.putIfAbsent(sortType, loader);
+
+        Key key = new Key(NGramTokenizer.normalize(keyword), sortType);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && !isStale(snapshot)) {
+            hitCounter.increment();
+            return snapshot.page();
+        }
+
+        missCounter.increment();
+        CursorTemplate<String, BoardListResponseDto> page = loader.apply(keyword);
+        if (cachedKeywords.contains(key.keyword())) {
+            snapshots.put(key, new Snapshot(page, clock.instant()));
+        }
+        return page;
+    }
+
+    /**
+     * 게시글이 생성/수정/삭제되면 다음 요청 또는 다음 갱신에서 스냅샷을 다시 만듭니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에도 한 번 더 비워, 커밋 전에 다시 만든 이전 스냅샷이 남지 않게 합니다.
+     */
+    public void invalidate() {
+        snapshots.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.clear();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.popular.refresh-interval-ms:60000}")
+    public void refresh() {
+        Set<String> keywords = popularSearchKeywords.top(topK).stream()
+                .map(PopularSearchKeywords.KeywordCount::keyword)
+                .collect(Collectors.toUnmodifiableSet());
+        cachedKeywords = keywords;
+        snapshots.keySet().removeIf(key -> !keywords.contains(key.keyword()));
+
+        loaders.forEach((sortType, loader) -> keywords.forEach(keyword -> {
+            try {
+                snapshots.put(new Key(keyword, sortType), new Snapshot(loader.apply(keyword), clock.instant()));
+            } catch (RuntimeException e) {
+                log.warn("[BoardSearchFirstPageCache] 검색 첫 페이지 갱신 실패 - keyword: {}, sortType: {}",
+                        keyword, sortType, e);
+            }
+        }));
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        return snapshot.builtAt().plusMillis(maxStalenessMillis).isBefore(clock.instant());
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("board.search.first_page_cache")
+                .description("검색 첫 페이지 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Key(String keyword, BoardSortType sortType) {
+    }
+
+    private record Snapshot(CursorTemplate<String, BoardListResponseDto> page, Instant builtAt) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.live_backend.domain.board.search;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 n-gram 역색인
+ * gram별 게시글 ID posting list를 메모리에 유지하고, 검색어 gram의 교집합을 원문 부분 일치로 검증해
+ * 기존 LIKE '%keyword%' 검색과 같은 결과를 full scan 없이 반환합니다.
+ * 애플리케이션 기동 시 DB에서 재구축되며, 그 전까지는 isReady()가 false 입니다.
+ */
+@Slf4j
+@Component
+public class BoardSearchIndex {
+
+    private final BoardRepository boardRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, TreeSet<Long>> postings = new HashMap<>();
+    private Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    // 재구축 중 들어온 변경 사항 (재구축 완료 후 새 색인에 다시 적용)
+    private List<Runnable> pendingChanges;
+    private volatile boolean ready;
+
+    public BoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, TreeSet<Long>> newPostings = new HashMap<>();
+        Map<Long, IndexedDocument> newDocuments = new HashMap<>();
+        try {
+            boardRepository.scanSearchDocuments(document ->
+                    add(newPostings, newDocuments, document.boardId(), document.title(), document.content()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[BoardSearchIndex] 검색 색인 구축 실패 - DB 검색으로 대체합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[BoardSearchIndex] 검색 색인 구축 완료 - boards: {}, grams: {}", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * 게시글 색인 추가/갱신 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void index(Long boardId, String title, String content) {
+        afterCommit(() -> {
+            remove(postings, documents, boardId);
+            add(postings, documents, boardId, title, content);
+        });
+    }
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void remove(Long boardId) {
+        afterCommit(() -> remove(postings, documents, boardId));
+    }
+
+    /**
+     * 검색어를 제목 또는 본문에 포함하는 게시글 ID (오름차순)
+     */
+    public NavigableSet<Long> search(String keyword) {
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        Set<String> grams = NGramTokenizer.queryGrams(normalizedKeyword);
+        if (grams.isEmpty()) {
+            return Collections.emptyNavigableSet();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<TreeSet<Long>> postingLists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                TreeSet<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Collections.emptyNavigableSet();
+                }
+                postingLists.add(posting);
+            }
+            postingLists.sort(Comparator.comparingInt(TreeSet::size));
+
+            TreeSet<Long> matched = new TreeSet<>();
+            for (Long boardId : postingLists.get(0)) {
+                if (containsInAll(postingLists, boardId)
+                        && documents.get(boardId).contains(normalizedKeyword)) {
+                    matched.add(boardId);
+                }
+            }
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsInAll(List<TreeSet<Long>> postingLists, Long boardId) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(boardId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(Map<String, TreeSet<Long>> postings, Map<Long, IndexedDocument> documents,
+                            Long boardId, String title, String content) {
+        IndexedDocument document = new IndexedDocument(
+                NGramTokenizer.normalize(title), NGramTokenizer.normalize(content));
+        documents.put(boardId, document);
+        document.grams().forEach(gram -> postings.computeIfAbsent(gram, g -> new TreeSet<>()).add(boardId));
+    }
+
+    private static void remove(Map<String, TreeSet<Long>> postings, Map<Long, IndexedDocument> documents,
+                               Long boardId) {
+        IndexedDocument document = documents.remove(boardId);
+        if (document == null) {
+            return;
+        }
+        document.grams().forEach(gram -> {
+            TreeSet<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        });
+    }
+
+    private record IndexedDocument(String title, String content) {
+
+        boolean contains(String normalizedKeyword) {
+            return title.contains(normalizedKeyword) || content.contains(normalizedKeyword);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = NGramTokenizer.indexGrams(title);
+            grams.addAll(NGramTokenizer.indexGrams(content));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.live_backend.domain.board.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 문자 n-gram 토크나이저
+ * 한글은 형태소 분석 없이 음절 단위 bigram으로도 부분 일치 검색이 가능하므로,
+ * 완성형 음절(NFC) 기준으로 unigram/bigram을 생성합니다.
+ */
+final class NGramTokenizer {
+
+    static final int MAX_GRAM = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 대소문자, 유니코드 조합형, 연속 공백 차이를 제거한 비교용 문자열
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase()
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 문서 색인용 gram: 모든 unigram과 bigram (공백만으로 이뤄진 gram 제외)
+     */
+    static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            for (int n = 1; n <= MAX_GRAM && i + n <= normalized.length(); n++) {
+                String gram = normalized.substring(i, i + n);
+                if (!gram.isBlank()) {
+                    grams.add(gram);
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어용 gram: 한 글자 검색어는 unigram, 그 외에는 bigram
+     */
+    static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() < MAX_GRAM) {
+            if (!normalized.isBlank()) {
+                grams.add(normalized);
+            }
+            return grams;
+        }
+        for (int i = 0; i + MAX_GRAM <= normalized.length(); i++) {
+            String gram = normalized.substring(i, i + MAX_GRAM);
+            if (!gram.isBlank()) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+}
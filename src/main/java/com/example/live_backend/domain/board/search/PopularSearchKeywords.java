@@ -0,0 +1,98 @@
+package com.example.live_backend.domain.board.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 검색어 집계 (Space-Saving)
+ * 최대 board.search.popular.capacity 개의 검색어만 세며, 가득 찬 상태에서 새 검색어가 들어오면
+ * 가장 적게 검색된 항목을 밀어내고 그 횟수를 이어받습니다. (오차는 밀려난 항목의 횟수 이하)
+ * 용량보다 훨씬 자주 검색되는 검색어는 항상 남으므로 상위 검색어를 고정 메모리로 추정할 수 있습니다.
+ * 최근 경향을 반영하도록 board.search.popular.decay-interval-ms 마다 횟수를 절반으로 줄입니다.
+ */
+@Component
+public class PopularSearchKeywords {
+
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    private static final Comparator<KeywordCount> ORDER = Comparator.comparingLong(KeywordCount::count)
+            .thenComparing(KeywordCount::keyword);
+
+    private final int capacity;
+    private final Map<String, KeywordCount> counts = new HashMap<>();
+    private final TreeSet<KeywordCount> byCount = new TreeSet<>(ORDER);
+
+    public PopularSearchKeywords(@Value("${board.search.popular.capacity:200}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 검색어 한 번 기록 (정규화 후 비어 있거나 너무 긴 검색어는 무시)
+     */
+    public synchronized void record(String keyword) {
+        String normalized = NGramTokenizer.normalize(keyword);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+
+        KeywordCount current = counts.get(normalized);
+        if (current != null) {
+            byCount.remove(current);
+            put(new KeywordCount(normalized, current.count() + 1, current.error()));
+        } else if (counts.size() < capacity) {
+            put(new KeywordCount(normalized, 1, 0));
+        } else {
+            KeywordCount evicted = byCount.pollFirst();
+            counts.remove(evicted.keyword());
+            put(new KeywordCount(normalized, evicted.count() + 1, evicted.count()));
+        }
+    }
+
+    /**
+     * 추정 횟수 상위 검색어 (정규화된 형태)
+     */
+    public synchronized List<KeywordCount> top(int limit) {
+        List<KeywordCount> top = new ArrayList<>(Math.min(limit, byCount.size()));
+        for (KeywordCount keywordCount : byCount.descendingSet()) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(keywordCount);
+        }
+        return top;
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.popular.decay-interval-ms:3600000}")
+    public synchronized void decay() {
+        List<KeywordCount> decayed = new ArrayList<>(byCount.size());
+        for (KeywordCount keywordCount : byCount) {
+            if (keywordCount.count() / 2 > 0) {
+                decayed.add(new KeywordCount(keywordCount.keyword(), keywordCount.count() / 2, keywordCount.error() / 2));
+            }
+        }
+
+        counts.clear();
+        byCount.clear();
+        decayed.forEach(this::put);
+    }
+
+    private void put(KeywordCount keywordCount) {
+        counts.put(keywordCount.keyword(), keywordCount);
+        byCount.add(keywordCount);
+    }
+
+    /**
+     * @param count 추정 횟수 (실제 횟수 이상)
+     * @param error 추정 오차 상한 (count - error 는 실제 횟수 이하)
+     */
+    public record KeywordCount(String keyword, long count, long error) {
+    }
+}
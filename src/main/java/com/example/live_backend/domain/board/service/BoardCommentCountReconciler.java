@@ -0,0 +1,57 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글 수 집계 보정 작업
+ * boards.comment_count 를 삭제되지 않은 comments 원본과 게시글 ID 구간별로 비교해 어긋난 게시글만 갱신합니다.
+ * 구간마다 별도 트랜잭션으로 처리해 댓글 작성/삭제와의 락 경합을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class BoardCommentCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final long batchSize;
+
+    public BoardCommentCountReconciler(
+            BoardRepository boardRepository,
+            @Value("${board.comment-count.reconcile-batch-size:1000}") long batchSize) {
+        this.boardRepository = boardRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 집계 컬럼이 채워지지 않은 게시글이 있으면 (최초 배포) 기동 직후 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfMissing() {
+        if (boardRepository.countMissingCommentCounts() > 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 50 4 * * *}")
+    public void reconcile() {
+        long maxBoardId = boardRepository.findMaxId();
+        int corrected = 0;
+
+        for (long from = 1; from <= maxBoardId; from += batchSize) {
+            long to = Math.min(from + batchSize - 1, maxBoardId);
+            corrected += boardRepository.reconcileCommentCounts(from, to);
+        }
+
+        if (corrected > 0) {
+            log.warn("[BoardCommentCountReconciler] 댓글 수 불일치 보정 - maxBoardId: {}, corrected: {}",
+                    maxBoardId, corrected);
+        } else {
+            log.info("[BoardCommentCountReconciler] 댓글 수 검증 완료 - maxBoardId: {}", maxBoardId);
+        }
+    }
+}
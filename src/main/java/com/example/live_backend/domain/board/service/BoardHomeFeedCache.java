@@ -0,0 +1,126 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.dto.response.BoardCategoryHomeResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 게시글 스냅샷 캐시
+ * 정렬 기준별 스냅샷을 백그라운드에서 주기적으로 재생성하고, 요청은 스냅샷만 읽습니다.
+ * 재생성이 실패해 스냅샷이 board.home-feed.max-staleness-ms 보다 오래되면 요청 시점에 다시 만듭니다.
+ * 스냅샷 버전은 직렬화한 내용의 SHA-256 이므로 재생성되거나 다른 인스턴스에서 만들어도 내용이 같으면 ETag 가 유지됩니다.
+ */
+@Slf4j
+@Component
+public class BoardHomeFeedCache {
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<List<BoardCategoryHomeResponseDto>>> loaders = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final long maxStalenessMillis;
+    private final Clock clock;
+
+    public BoardHomeFeedCache(ObjectMapper objectMapper,
+                              @Value("${board.home-feed.max-staleness-ms:60000}") long maxStalenessMillis) {
+        this(objectMapper, maxStalenessMillis, Clock.systemDefaultZone());
+    }
+
+    BoardHomeFeedCache(ObjectMapper objectMapper, long maxStalenessMillis, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+    }
+
+    public List<BoardCategoryHomeResponseDto> get(String key, Supplier<List<BoardCategoryHomeResponseDto>> loader) {
+        return snapshot(key, loader).boards();
+    }
+
+    public String getVersion(String key, Supplier<List<BoardCategoryHomeResponseDto>> loader) {
+        return snapshot(key, loader).version();
+    }
+
+    /**
+     * 게시글이 생성/수정/삭제되면 다음 요청에서 스냅샷을 다시 만듭니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에도 한 번 더 비워, 커밋 전에 다시 만든 이전 스냅샷이 남지 않게 합니다.
+     */
+    public void invalidate() {
+        snapshots.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.clear();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.home-feed.refresh-interval-ms:30000}")
+    public void refresh() {
+        loaders.keySet().forEach(key -> {
+            try {
+                rebuild(key);
+            } catch (RuntimeException e) {
+                log.warn("[BoardHomeFeedCache] 홈 스냅샷 재생성 실패 - key: {}", key, e);
+            }
+        });
+    }
+
+    private Snapshot snapshot(String key, Supplier<List<BoardCategoryHomeResponseDto>> loader) {
+        loaders.putIfAbsent(key, loader);
+
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null || isStale(snapshot)) {
+            snapshot = rebuildIfStale(key);
+        }
+        return snapshot;
+    }
+
+    private synchronized Snapshot rebuildIfStale(String key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && !isStale(snapshot)) {
+            return snapshot;
+        }
+        return rebuild(key);
+    }
+
+    private Snapshot rebuild(String key) {
+        List<BoardCategoryHomeResponseDto> boards = List.copyOf(loaders.get(key).get());
+        String version = key + "-" + digest(boards);
+        Snapshot snapshot = new Snapshot(boards, version, clock.instant());
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    private String digest(List<BoardCategoryHomeResponseDto> boards) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(boards)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        return snapshot.builtAt().plusMillis(maxStalenessMillis).isBefore(clock.instant());
+    }
+
+    private record Snapshot(List<BoardCategoryHomeResponseDto> boards, String version, Instant builtAt) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardReactionCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 반응 수 집계 보정 작업
+ * board_reaction_counts 를 board_reactions 원본 기준으로 게시글 ID 구간별로 재계산합니다.
+ * 구간마다 별도 트랜잭션으로 처리해 토글 요청과의 락 경합을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class BoardReactionCountReconciler {
+
+    private final BoardReactionCounterRepository boardReactionCounterRepository;
+    private final long batchSize;
+
+    public BoardReactionCountReconciler(
+            BoardReactionCounterRepository boardReactionCounterRepository,
+            @Value("${board.reaction-count.reconcile-batch-size:1000}") long batchSize) {
+        this.boardReactionCounterRepository = boardReactionCounterRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 (최초 배포) 기동 직후 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (boardReactionCounterRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${board.reaction-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long maxBoardId = boardReactionCounterRepository.findMaxBoardId();
+        int recomputed = 0;
+        int reset = 0;
+
+        for (long from = 1; from <= maxBoardId; from += batchSize) {
+            long to = Math.min(from + batchSize - 1, maxBoardId);
+            recomputed += boardReactionCounterRepository.recomputeCounts(from, to);
+            reset += boardReactionCounterRepository.resetOrphanCounts(from, to);
+        }
+
+        log.info("[BoardReactionCountReconciler] 반응 수 보정 완료 - maxBoardId: {}, recomputed: {}, reset: {}",
+                maxBoardId, recomputed, reset);
+    }
+}
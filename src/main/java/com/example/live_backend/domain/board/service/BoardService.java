@@ -6,31 +6,57 @@ import com.example.live_backend.domain.board.dto.request.BoardUpdateRequestDto;
 import com.example.live_backend.domain.board.dto.response.BoardDetailResponseDto;
 import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
 import com.example.live_backend.domain.board.dto.response.BoardCategoryHomeResponseDto;
+import com.example.live_backend.domain.board.dto.response.BoardLiveCountsResponseDto;
 import com.example.live_backend.domain.board.dto.response.CategoryResponseDto;
+import com.example.live_backend.domain.board.dto.response.PopularKeywordResponseDto;
+import com.example.live_backend.domain.board.dto.cursor.BoardCursor;
+import com.example.live_backend.domain.board.dto.cursor.BoardSortType;
 import com.example.live_backend.global.page.CursorTemplate;
 import com.example.live_backend.domain.board.entity.Board;
 import com.example.live_backend.domain.board.entity.BoardReaction;
+import com.example.live_backend.domain.board.entity.BoardReactionCounter;
 import com.example.live_backend.domain.board.entity.Category;
-import com.example.live_backend.domain.board.entity.Image;
-import com.example.live_backend.domain.board.entity.BoardImage;
 import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import com.example.live_backend.domain.board.repository.BoardReactionCounterRepository;
 import com.example.live_backend.domain.board.repository.BoardReactionRepository;
 import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.domain.board.repository.BoardSummaryRow;
 import com.example.live_backend.domain.board.repository.CategoryRepository;
 import com.example.live_backend.domain.board.repository.ImageRepository;
 import com.example.live_backend.domain.board.repository.BoardImageRepository;
-import com.example.live_backend.domain.board.repository.CommentRepository;
+import com.example.live_backend.domain.board.live.BoardLiveHub;
+import com.example.live_backend.domain.board.preview.BoardPreview;
+import com.example.live_backend.domain.board.ranking.BoardTrendingRanking;
+import com.example.live_backend.domain.board.reaction.BoardReactionToggler;
+import com.example.live_backend.domain.board.reaction.ReactionToggleResult;
+import com.example.live_backend.domain.board.search.BoardSearchFirstPageCache;
+import com.example.live_backend.domain.board.search.BoardSearchIndex;
+import com.example.live_backend.domain.board.search.PopularSearchKeywords;
+import com.example.live_backend.domain.board.viewer.BoardUniqueViewerCounter;
 import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.memeber.service.MemberSummaryLoader;
 import com.example.live_backend.global.error.exception.CustomException;
 import com.example.live_backend.global.error.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,13 +64,28 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BoardService {
 
+    private static final int HOME_BOARDS_PER_CATEGORY = 10;
+    private static final int MAX_TRENDING_SIZE = 50;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_POPULAR_KEYWORD_SIZE = 50;
+
     private final BoardRepository boardRepository;
     private final BoardReactionRepository boardReactionRepository;
+    private final BoardReactionCounterRepository boardReactionCounterRepository;
     private final MemberRepository memberRepository;
+    private final MemberSummaryLoader memberSummaryLoader;
     private final CategoryRepository categoryRepository;
     private final ImageRepository imageRepository;
     private final BoardImageRepository boardImageRepository;
-    private final CommentRepository commentRepository;
+    private final BoardViewCountBuffer boardViewCountBuffer;
+    private final BoardUniqueViewerCounter boardUniqueViewerCounter;
+    private final BoardHomeFeedCache boardHomeFeedCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final PopularSearchKeywords popularSearchKeywords;
+    private final BoardSearchFirstPageCache boardSearchFirstPageCache;
+    private final BoardTrendingRanking boardTrendingRanking;
+    private final BoardLiveHub boardLiveHub;
+    private final BoardReactionToggler boardReactionToggler;
 
     /**
      * 게시글 생성 (관리자만 가능)
@@ -64,13 +105,19 @@ public class BoardService {
                 .relatedOrganization(requestDto.getRelatedOrganization())
                 .author(author)
                 .build();
+        board.updatePreview(
+                BoardPreview.summarize(requestDto.getContent()), BoardPreview.thumbnailOf(requestDto.getImageUrls()));
 
         Board savedBoard = boardRepository.save(board);
 
         if (requestDto.getImageUrls() != null && !requestDto.getImageUrls().isEmpty()) {
-            processImages(savedBoard, requestDto.getImageUrls());
+            syncImages(savedBoard, requestDto.getImageUrls());
         }
 
+        boardHomeFeedCache.invalidate();
+        boardSearchFirstPageCache.invalidate();
+        boardSearchIndex.index(savedBoard.getId(), savedBoard.getTitle(), savedBoard.getContent());
+
         return savedBoard.getId();
     }
 
@@ -85,11 +132,17 @@ public class BoardService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         
         board.update(requestDto.getTitle(), requestDto.getContent(), category, requestDto.getRelatedOrganization());
+        board.updatePreview(
+                BoardPreview.summarize(requestDto.getContent()), BoardPreview.thumbnailOf(requestDto.getImageUrls()));
 
-        board.getBoardImages().clear();
-        if (requestDto.getImageUrls() != null && !requestDto.getImageUrls().isEmpty()) {
-            processImages(board, requestDto.getImageUrls());
+        if (syncImages(board, requestDto.getImageUrls())) {
+            // 이미지 연결만 바뀐 경우에도 상세 ETag 가 바뀌도록 수정 시각을 갱신
+            boardRepository.touchModifiedAt(boardId);
         }
+
+        boardHomeFeedCache.invalidate();
+        boardSearchFirstPageCache.invalidate();
+        boardSearchIndex.index(boardId, board.getTitle(), board.getContent());
     }
 
     /**
@@ -99,16 +152,29 @@ public class BoardService {
     public void deleteBoard(Long boardId) {
         Board board = findBoardById(boardId);
         board.delete();
+
+        boardHomeFeedCache.invalidate();
+        boardSearchFirstPageCache.invalidate();
+        boardSearchIndex.remove(boardId);
+        boardTrendingRanking.remove(boardId);
     }
 
     /**
      * 게시글 상세 조회
+     * 조회수는 BoardViewCountBuffer에 누적 후 일괄 반영되므로 읽기 전용 트랜잭션으로 처리합니다.
      */
-    @Transactional
     public BoardDetailResponseDto getBoardDetail(Long boardId, Long memberId) {
+        return getBoardDetail(boardId, memberId, null);
+    }
+
+    /**
+     * 게시글 상세 조회 (비회원은 접속 지문으로 고유 조회자를 구분)
+     */
+    public BoardDetailResponseDto getBoardDetail(Long boardId, Long memberId, String viewerFingerprint) {
         Board board = findBoardById(boardId);
 
-        board.incrementViewCount();
+        recordView(boardId, board.getCategory().getId(), memberId, viewerFingerprint);
+        Long viewCount = board.getViewCount() + boardViewCountBuffer.getPendingCount(boardId);
 
         Map<ReactionType, Long> reactionCounts = getReactionCounts(boardId);
 
@@ -116,87 +182,138 @@ public class BoardService {
 
         String authorNickname = getAuthorNickname(board.getAuthor());
 
-        Long commentCount = commentRepository.countByBoardId(boardId);
-
-        return new BoardDetailResponseDto(board, authorNickname, commentCount, reactionCounts, userReactions);
+        return new BoardDetailResponseDto(
+                board, authorNickname, viewCount, board.getCommentCount(), reactionCounts, userReactions);
     }
 
     /**
      * 홈 화면용 카테고리별 게시글 조회 (각 카테고리당 최신 10개)
+     * 주기적으로 갱신되는 스냅샷에서 응답하므로 요청마다 DB를 조회하지 않습니다.
      */
     public List<BoardCategoryHomeResponseDto> getBoardsForHome(String sortBy) {
-        List<Category> categories = categoryRepository.findAllOrderById();
-        
-        return categories.stream()
-                .map(category -> {
-                    List<Board> boards;
-                    if ("views".equals(sortBy)) {
-                        boards = boardRepository.findBoardsByCategoryOrderByViews(
-                                category.getName(), 
-                                org.springframework.data.domain.PageRequest.of(0, 10)
-                        );
-                    } else {
-                        boards = boardRepository.findLatestBoardsByCategory(
-                                category.getName(), 
-                                org.springframework.data.domain.PageRequest.of(0, 10)
-                        );
-                    }
-                    
-                    List<Long> boardIds = boards.stream()
-                            .map(Board::getId)
-                            .toList();
-                    
-                    Map<Long, Long> totalReactionCounts = getTotalReactionCounts(boardIds);
-                    
-                    List<BoardListResponseDto> boardDtos = boards.stream()
-                            .map(board -> {
-                                String authorNickname = getAuthorNickname(board.getAuthor());
-                                Long totalReactionCount = totalReactionCounts.getOrDefault(board.getId(), 0L);
-                                return new BoardListResponseDto(board, authorNickname, totalReactionCount);
-                            })
-                            .toList();
-                    
-                    return new BoardCategoryHomeResponseDto(category.getName(), boardDtos);
-                })
-                .filter(categoryHome -> !categoryHome.getBoards().isEmpty())
-                .toList();
+        boolean orderByViews = "views".equals(sortBy);
+        String cacheKey = orderByViews ? "views" : "latest";
+
+        return boardHomeFeedCache.get(cacheKey, () -> loadBoardsForHome(orderByViews));
+    }
+
+    /**
+     * 홈 화면 스냅샷 버전 (ETag 계산용, 스냅샷 내용이 같으면 재생성되어도 같은 값)
+     */
+    public String getBoardsForHomeVersion(String sortBy) {
+        boolean orderByViews = "views".equals(sortBy);
+        String cacheKey = orderByViews ? "views" : "latest";
+
+        return boardHomeFeedCache.getVersion(cacheKey, () -> loadBoardsForHome(orderByViews));
+    }
+
+    /**
+     * 게시글 상세 버전 (ETag 계산용, 삭제되었거나 없는 게시글이면 null)
+     */
+    public BoardRepository.BoardVersion getBoardDetailVersion(Long boardId) {
+        return boardRepository.findVersionById(boardId).orElse(null);
+    }
+
+    /**
+     * 게시글 실시간 집계 구독 (반응/댓글 수 변경을 SSE로 전달)
+     */
+    public SseEmitter subscribeLive(Long boardId) {
+        Board board = findBoardById(boardId);
+
+        BoardLiveCountsResponseDto currentCounts = new BoardLiveCountsResponseDto(
+                boardId, boardReactionCounterRepository.findByBoardId(boardId), board.getCommentCount());
+        return boardLiveHub.subscribe(boardId, currentCounts);
+    }
+
+    /**
+     * 조회 기록 (조회 수, 고유 조회자, 인기 랭킹)
+     * 조건부 요청에 304로 응답해 상세를 조립하지 않은 경우에도 조회로 집계합니다.
+     */
+    public void recordView(Long boardId, Long categoryId, Long memberId, String viewerFingerprint) {
+        boardViewCountBuffer.increment(boardId);
+        boardUniqueViewerCounter.record(boardId, memberId, viewerFingerprint);
+        boardTrendingRanking.recordView(boardId, categoryId);
     }
 
     /**
      * 커서 기반 카테고리별 게시글 조회 (무한 스크롤)
      */
-    public CursorTemplate<Long, BoardListResponseDto> getBoardsByCategoryWithCursor(
-            String category, Long cursor, Integer size) {
-        
+    public CursorTemplate<String, BoardListResponseDto> getBoardsByCategoryWithCursor(
+            String category, String cursor, Integer size, String sortBy) {
+
         int pageSize = size != null ? size : 20;
-        List<Board> boards = boardRepository.findByCategoryWithCursor(
-                category, 
-                cursor, 
-                org.springframework.data.domain.PageRequest.of(0, pageSize + 1)
-        );
-        
-        return createCursorResponse(boards, pageSize);
+        BoardSortType sortType = BoardSortType.from(sortBy);
+        BoardCursor position = BoardCursor.decode(cursor, sortType);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<BoardSummaryRow> boards = switch (sortType) {
+            case VIEWS -> boardRepository.findByCategoryWithCursorOrderByViews(
+                    category, position.count(), position.id(), pageRequest);
+            case UNIQUE_VIEWERS -> boardRepository.findByCategoryWithCursorOrderByUniqueViewers(
+                    category, position.count(), position.id(), pageRequest);
+            case LATEST -> boardRepository.findByCategoryWithCursor(category, position.id(), pageRequest);
+        };
+
+        return createCursorResponse(boards, pageSize, sortType);
     }
 
     /**
      * 커서 기반 키워드 검색 (무한 스크롤)
+     * 검색 색인이 준비되어 있으면 색인에서 찾은 게시글 ID로 조회하고, 아니면 DB LIKE 검색으로 대체합니다.
+     * 첫 페이지 요청은 인기 검색어로 집계하며, 기본 크기의 첫 페이지는 BoardSearchFirstPageCache 를 거칩니다.
      */
-    public CursorTemplate<Long, BoardListResponseDto> searchBoardsWithCursor(
-            String keyword, Long cursor, Integer size, String sortBy) {
+    public CursorTemplate<String, BoardListResponseDto> searchBoardsWithCursor(
+            String keyword, String cursor, Integer size, String sortBy) {
         
-        int pageSize = size != null ? size : 20;
-        List<Board> boards;
-        
-        if ("views".equals(sortBy)) {
-            boards = boardRepository.searchBoardsWithCursorOrderByViews(keyword, cursor, cursor, pageSize);
-        } else {
-            boards = boardRepository.searchBoardsWithCursor(keyword, cursor, pageSize);
+        int pageSize = size != null ? size : DEFAULT_SEARCH_SIZE;
+        BoardSortType sortType = BoardSortType.from(sortBy);
+        BoardCursor position = BoardCursor.decode(cursor, sortType);
+
+        if (BoardCursor.FIRST.equals(position) && StringUtils.hasText(keyword)) {
+            popularSearchKeywords.record(keyword);
+            if (pageSize == DEFAULT_SEARCH_SIZE) {
+                return boardSearchFirstPageCache.get(keyword, sortType,
+                        popularKeyword -> searchBoards(popularKeyword, BoardCursor.FIRST, DEFAULT_SEARCH_SIZE, sortType));
+            }
         }
-        
-        return createCursorResponse(boards, pageSize);
+
+        return searchBoards(keyword, position, pageSize, sortType);
+    }
+
+    /**
+     * 인기 검색어 조회 (최근 검색 횟수 추정값 순)
+     */
+    public List<PopularKeywordResponseDto> getPopularSearchKeywords(Integer size) {
+        int limit = Math.min(size != null ? size : 10, MAX_POPULAR_KEYWORD_SIZE);
+
+        return popularSearchKeywords.top(limit).stream()
+                .map(keywordCount -> new PopularKeywordResponseDto(keywordCount.keyword(), keywordCount.count()))
+                .toList();
     }
 
+    /**
+     * 인기 게시글 조회 (최근 조회/반응/댓글 기반, category 가 없으면 전체)
+     */
+    public List<BoardListResponseDto> getTrendingBoards(String category, Integer size) {
+        int limit = Math.clamp(size != null ? size : 10, 1, MAX_TRENDING_SIZE);
+
+        Long categoryId = null;
+        if (StringUtils.hasText(category)) {
+            categoryId = categoryRepository.findByName(category)
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_CATEGORY))
+                    .getId();
+        }
+
+        List<Long> rankedIds = boardTrendingRanking.topBoardIds(categoryId, limit);
+        Map<Long, BoardSummaryRow> boardsById = boardRepository.findBoardsByIdsOrderByIdDesc(rankedIds).stream()
+                .collect(Collectors.toMap(BoardSummaryRow::id, Function.identity()));
 
+        List<BoardSummaryRow> rankedBoards = rankedIds.stream()
+                .map(boardsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toBoardListResponses(rankedBoards);
+    }
 
     /**
      * 카테고리 목록 조회
@@ -210,69 +327,128 @@ public class BoardService {
 
     /**
      * 게시글 반응 토글
+     * 반응 행 갱신은 BoardReactionToggler 가 자체 트랜잭션으로 처리하므로, 그 락이 커밋까지 유지되도록 트랜잭션 밖에서 실행합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void toggleReaction(Long boardId, Long memberId, ReactionType reactionType) {
         Board board = findBoardById(boardId);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (!memberRepository.existsById(memberId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
 
-        // 기존 활성 반응들 조회
-        List<BoardReaction> existingReactions = 
-                boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(boardId, memberId);
+        ReactionToggleResult result = boardReactionToggler.toggle(boardId, memberId, reactionType);
+
+        // 다른 반응에서 바꾼 경우는 반응 수가 그대로이므로 점수 변화 없음
+        if (result.reactionDelta() != 0) {
+            boardTrendingRanking.recordReaction(boardId, board.getCategory().getId(), result.reactionDelta());
+        }
+        boardLiveHub.onChanged(boardId);
+    }
 
-        // 같은 타입의 반응이 이미 있는지 확인
-        java.util.Optional<BoardReaction> sameTypeReaction = existingReactions.stream()
-                .filter(reaction -> reaction.getReactionType() == reactionType)
-                .findFirst();
+    /**
+     * 게시글 이미지 동기화
+     * 요청 URL 목록과 기존 연결을 앞에서부터 비교해 달라진 뒤쪽만 삭제/추가합니다. (첫 번째 이미지가 썸네일)
+     * 없는 이미지는 IN 조회 한 번과 일괄 INSERT로 등록합니다.
+     *
+     * @return 연결이 바뀌었으면 true
+     */
+    private boolean syncImages(Board board, List<String> imageUrls) {
+        List<String> requestedUrls = imageUrls != null ? imageUrls : List.of();
+        List<BoardImageRepository.BoardImageLink> existingLinks = board.getId() != null
+                ? boardImageRepository.findLinksByBoardId(board.getId())
+                : List.of();
+
+        int unchanged = 0;
+        while (unchanged < existingLinks.size() && unchanged < requestedUrls.size()
+                && existingLinks.get(unchanged).getS3Url().equals(requestedUrls.get(unchanged))) {
+            unchanged++;
+        }
+
+        List<Long> staleLinkIds = existingLinks.subList(unchanged, existingLinks.size()).stream()
+                .map(BoardImageRepository.BoardImageLink::getId)
+                .toList();
+        if (!staleLinkIds.isEmpty()) {
+            boardImageRepository.deleteAllByIdIn(staleLinkIds);
+        }
+
+        List<String> addedUrls = requestedUrls.subList(unchanged, requestedUrls.size());
+        if (addedUrls.isEmpty()) {
+            return !staleLinkIds.isEmpty();
+        }
+
+        Map<String, Long> imageIds = findOrCreateImageIds(new LinkedHashSet<>(addedUrls));
+        boardImageRepository.insertLinks(board.getId(), addedUrls.stream()
+                .map(imageIds::get)
+                .toList());
+        return true;
+    }
+
+    private Map<String, Long> findOrCreateImageIds(Set<String> urls) {
+        Map<String, Long> imageIds = new HashMap<>();
+        imageRepository.findByS3UrlIn(urls).forEach(image -> imageIds.put(image.getS3Url(), image.getId()));
+
+        List<String> missingUrls = urls.stream()
+                .filter(url -> !imageIds.containsKey(url))
+                .toList();
+        if (!missingUrls.isEmpty()) {
+            imageIds.putAll(imageRepository.insertOrFindIds(missingUrls));
+        }
+        return imageIds;
+    }
 
-        if (sameTypeReaction.isPresent()) {
-            // 같은 반응이 활성화되어 있으면 삭제 (토글 off)
-            sameTypeReaction.get().delete();
+    private CursorTemplate<String, BoardListResponseDto> searchBoards(
+            String keyword, BoardCursor position, int pageSize, BoardSortType sortType) {
+        List<BoardSummaryRow> boards;
+
+        if (boardSearchIndex.isReady() && StringUtils.hasText(keyword)) {
+            boards = searchBoardsFromIndex(keyword, position, pageSize, sortType);
+        } else if (sortType == BoardSortType.VIEWS) {
+            boards = boardRepository.searchBoardsWithCursorOrderByViews(
+                    keyword, position.count(), position.id(), pageSize);
+        } else if (sortType == BoardSortType.UNIQUE_VIEWERS) {
+            boards = boardRepository.searchBoardsWithCursorOrderByUniqueViewers(
+                    keyword, position.count(), position.id(), pageSize);
         } else {
-            // 다른 타입의 활성 반응들을 모두 삭제
-            existingReactions.forEach(BoardReaction::delete);
-
-            // 새로운 반응 생성 또는 기존 반응 활성화
-            java.util.Optional<BoardReaction> existingReaction = 
-                    boardReactionRepository.findByBoardIdAndMemberIdAndReactionType(boardId, memberId, reactionType);
-
-            if (existingReaction.isPresent()) {
-                // 기존에 해당 타입의 반응이 있었다면 활성화
-                existingReaction.get().activate();
-            } else {
-                // 새로운 반응 생성
-                BoardReaction newReaction = BoardReaction.builder()
-                        .board(board)
-                        .member(member)
-                        .reactionType(reactionType)
-                        .build();
-                boardReactionRepository.save(newReaction);
-            }
+            boards = boardRepository.searchBoardsWithCursor(keyword, position.id(), pageSize);
         }
+
+        return createCursorResponse(boards, pageSize, sortType);
     }
 
-    private void processImages(Board board, List<String> imageUrls) {
-        for (int i = 0; i < imageUrls.size(); i++) {
-            String imageUrl = imageUrls.get(i);
-
-            Image image = imageRepository.findByS3Url(imageUrl)
-                    .orElseGet(() -> {
-                        return imageRepository.save(Image.builder()
-                                .s3Url(imageUrl)
-                                .build());
-                    });
-            
-            BoardImage boardImage = BoardImage.builder()
-                    .board(board)
-                    .image(image)
-                    .build();
-            
-            boardImageRepository.save(boardImage);
+    private List<BoardSummaryRow> searchBoardsFromIndex(String keyword, BoardCursor position, int pageSize, BoardSortType sortType) {
+        NavigableSet<Long> matchedIds = boardSearchIndex.search(keyword);
+
+        if (sortType == BoardSortType.VIEWS || sortType == BoardSortType.UNIQUE_VIEWERS) {
+            // 일치한 게시글 전체가 정렬 대상 (저장소가 ID 를 청크로 나눠 청크별 상위 결과를 합침)
+            return sortType == BoardSortType.VIEWS
+                    ? boardRepository.findBoardsByIdsWithCursorOrderByViews(
+                            matchedIds, position.count(), position.id(), pageSize)
+                    : boardRepository.findBoardsByIdsWithCursorOrderByUniqueViewers(
+                            matchedIds, position.count(), position.id(), pageSize);
         }
+
+        NavigableSet<Long> candidates = position.id() != null ? matchedIds.headSet(position.id(), false) : matchedIds;
+        List<Long> pageIds = candidates.descendingSet().stream()
+                .limit(pageSize + 1L)
+                .toList();
+        return boardRepository.findBoardsByIdsOrderByIdDesc(pageIds);
     }
 
+    private List<BoardCategoryHomeResponseDto> loadBoardsForHome(boolean orderByViews) {
+        List<BoardSummaryRow> rows = boardRepository.findHomeFeedRows(orderByViews, HOME_BOARDS_PER_CATEGORY);
 
+        // 조회 결과는 카테고리 ID, 카테고리 내 순위 순으로 정렬되어 있음
+        Map<String, List<BoardListResponseDto>> boardsByCategory = new LinkedHashMap<>();
+        List<BoardListResponseDto> responses = toBoardListResponses(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            boardsByCategory.computeIfAbsent(rows.get(i).categoryName(), name -> new ArrayList<>())
+                    .add(responses.get(i));
+        }
+
+        return boardsByCategory.entrySet().stream()
+                .map(entry -> new BoardCategoryHomeResponseDto(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+    }
 
     private Board findBoardById(Long boardId) {
         return boardRepository.findByIdAndNotDeleted(boardId)
@@ -280,16 +456,14 @@ public class BoardService {
     }
 
     private Map<ReactionType, Long> getReactionCounts(Long boardId) {
-        List<BoardReactionRepository.ReactionCount> reactionCounts = 
-                boardReactionRepository.countReactionsByBoardId(boardId);
-
         Map<ReactionType, Long> countMap = new EnumMap<>(ReactionType.class);
         
         for (ReactionType type : ReactionType.values()) {
             countMap.put(type, 0L);
         }
         
-        reactionCounts.forEach(rc -> countMap.put(rc.getReactionType(), rc.getCount()));
+        boardReactionCounterRepository.findByBoardId(boardId)
+                .forEach(counter -> countMap.put(counter.getReactionType(), counter.getReactionCount()));
         
         return countMap;
     }
@@ -312,42 +486,41 @@ public class BoardService {
             return Map.of();
         }
 
-        List<BoardReactionRepository.BoardReactionCount> boardReactionCounts = 
-                boardReactionRepository.countReactionsByBoardIds(boardIds);
-
-        return boardReactionCounts.stream()
+        return boardReactionCounterRepository.findByBoardIdIn(boardIds).stream()
                 .collect(Collectors.groupingBy(
-                        BoardReactionRepository.BoardReactionCount::getBoardId,
-                        Collectors.summingLong(BoardReactionRepository.BoardReactionCount::getCount)
+                        BoardReactionCounter::getBoardId,
+                        Collectors.summingLong(BoardReactionCounter::getReactionCount)
                 ));
     }
 
-    private CursorTemplate<Long, BoardListResponseDto> createCursorResponse(
-            List<Board> boards, int pageSize) {
-        
-        boolean hasNext = boards.size() > pageSize;
-        List<Board> content = hasNext ? boards.subList(0, pageSize) : boards;
-        
-        List<Long> boardIds = content.stream()
-                .map(Board::getId)
+    private CursorTemplate<String, BoardListResponseDto> createCursorResponse(
+            List<BoardSummaryRow> boards, int pageSize, BoardSortType sortType) {
+        return CursorTemplate.ofSlice(
+                boards,
+                pageSize,
+                board -> BoardCursor.of(board, sortType).encode(sortType),
+                this::toBoardListResponses);
+    }
+
+    private List<BoardListResponseDto> toBoardListResponses(List<BoardSummaryRow> boards) {
+        List<Long> boardIds = boards.stream()
+                .map(BoardSummaryRow::id)
                 .toList();
-        
+
         Map<Long, Long> totalReactionCounts = getTotalReactionCounts(boardIds);
-        
-        List<BoardListResponseDto> boardDtos = content.stream()
+
+        // 작성자는 ID만 모아 한 번에 조회
+        Map<Long, String> authorNicknames = memberSummaryLoader.loadNicknames(boards.stream()
+                .map(BoardSummaryRow::authorId)
+                .toList(), "Unknown");
+
+        return boards.stream()
                 .map(board -> {
-                    String authorNickname = getAuthorNickname(board.getAuthor());
-                    Long totalReactionCount = totalReactionCounts.getOrDefault(board.getId(), 0L);
+                    String authorNickname = authorNicknames.getOrDefault(board.authorId(), "Unknown");
+                    Long totalReactionCount = totalReactionCounts.getOrDefault(board.id(), 0L);
                     return new BoardListResponseDto(board, authorNickname, totalReactionCount);
                 })
                 .toList();
-        
-        if (!hasNext) {
-            return CursorTemplate.of(boardDtos);
-        }
-        
-        Long nextCursor = content.get(content.size() - 1).getId();
-        return CursorTemplate.ofWithNextCursor(nextCursor, boardDtos);
     }
 
     private String getAuthorNickname(Member author) {
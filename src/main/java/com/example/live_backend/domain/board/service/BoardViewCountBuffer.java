@@ -0,0 +1,106 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회 요청마다 boards 행을 갱신하지 않고, 게시글별 LongAdder에 누적한 뒤 주기적으로 일괄 반영합니다.
+ * DB 반영 지연은 flush 주기(board.view-count.flush-interval-ms)로 제한되며, 반영 실패 시 증가분은 버퍼로 되돌아갑니다.
+ */
+@Slf4j
+@Component
+public class BoardViewCountBuffer {
+
+    private final BoardRepository boardRepository;
+
+    // 게시글 수만큼만 엔트리가 생기므로 flush 후에도 제거하지 않습니다 (제거 시 동시 증가분 유실 가능)
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+
+    public BoardViewCountBuffer(BoardRepository boardRepository, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+
+        Gauge.builder("board.view_count.pending", this, BoardViewCountBuffer::getPendingTotal)
+                .description("DB에 반영 대기 중인 조회수 증가분")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("board.view_count.flushed")
+                .description("DB에 반영된 조회수 증가분")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("board.view_count.flush_failures")
+                .description("조회수 일괄 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long boardId) {
+        pendingCounts.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글의 조회수 증가분
+     */
+    public long getPendingCount(Long boardId) {
+        LongAdder adder = pendingCounts.get(boardId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long getPendingTotal() {
+        return pendingCounts.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 누적된 증가분을 게시글 ID 순으로 한 번의 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            boardRepository.addViewCounts(deltas);
+            flushedCounter.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("[BoardViewCountBuffer] 조회수 반영 실패 - 다음 주기에 재시도합니다. boards: {}", deltas.size(), e);
+            deltas.forEach((boardId, delta) ->
+                    pendingCounts.computeIfAbsent(boardId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[BoardViewCountBuffer] 종료 전 조회수 반영 - pending: {}", getPendingTotal());
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pendingCounts.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(boardId, delta);
+            }
+        });
+        return deltas;
+    }
+}
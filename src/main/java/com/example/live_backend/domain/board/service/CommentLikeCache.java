@@ -0,0 +1,139 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.CommentLikeRepository;
+import com.example.live_backend.global.cache.LruCache;
+import com.example.live_backend.infra.database.PrimaryReads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 좋아요한 댓글 ID 캐시
+ * 좋아요 수가 comment.like-cache.max-likes-per-member 이하인 회원은 전체 목록을 한 번 조회해 캐시하고,
+ * 이후 댓글 목록 조회에서는 쿼리 없이 좋아요 여부를 판단합니다.
+ * 그보다 많은 회원은 캐시하지 않고 페이지 댓글 ID로 조회합니다.
+ * 좋아요 변경은 회원별 세대 번호를 올리고, 조회 중에 세대가 바뀐 목록은 캐시에서 버려
+ * 변경 전에 읽은 목록이 변경 후에 캐시되지 않게 합니다.
+ */
+@Component
+public class CommentLikeCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CommentLikeRepository commentLikeRepository;
+    private final PrimaryReads primaryReads;
+    private final LruCache<Long, Set<Long>> cache;
+    private final int maxLikesPerMember;
+    // 회원 ID 해시로 나눈 세대 번호 (해시가 같은 회원의 변경은 서로의 적재도 버리게 하지만 결과는 항상 최신)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CommentLikeCache(
+            CommentLikeRepository commentLikeRepository,
+            PrimaryReads primaryReads,
+            @Value("${comment.like-cache.max-members:10000}") int maxMembers,
+            @Value("${comment.like-cache.max-likes-per-member:1000}") int maxLikesPerMember) {
+        this.commentLikeRepository = commentLikeRepository;
+        this.primaryReads = primaryReads;
+        this.cache = new LruCache<>(maxMembers);
+        this.maxLikesPerMember = maxLikesPerMember;
+    }
+
+    /**
+     * 주어진 댓글 중 회원이 좋아요한 댓글 ID
+     */
+    public Set<Long> findLikedAmong(Long memberId, Collection<Long> commentIds) {
+        if (memberId == null || commentIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> likedCommentIds = cache.get(memberId);
+        if (likedCommentIds == null) {
+            likedCommentIds = load(memberId);
+        }
+        if (likedCommentIds == null) {
+            return Set.copyOf(commentLikeRepository.findLikedCommentIdsByMemberAndCommentIds(
+                    List.copyOf(commentIds), memberId));
+        }
+
+        return commentIds.stream()
+                .filter(likedCommentIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 좋아요 추가 반영 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void onLiked(Long memberId, Long commentId) {
+        afterCommit(() -> {
+            generations.incrementAndGet(generationIndex(memberId));
+            Set<Long> likedCommentIds = cache.get(memberId);
+            if (likedCommentIds == null) {
+                return;
+            }
+            likedCommentIds.add(commentId);
+            if (likedCommentIds.size() > maxLikesPerMember) {
+                cache.invalidate(memberId);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 취소 반영 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void onUnliked(Long memberId, Long commentId) {
+        afterCommit(() -> {
+            generations.incrementAndGet(generationIndex(memberId));
+            Set<Long> likedCommentIds = cache.get(memberId);
+            if (likedCommentIds != null) {
+                likedCommentIds.remove(commentId);
+            }
+        });
+    }
+
+    private Set<Long> load(Long memberId) {
+        int generationIndex = generationIndex(memberId);
+        long generation = generations.get(generationIndex);
+        List<Long> recentLikedIds = primaryReads.read(() -> commentLikeRepository.findRecentLikedCommentIdsByMemberId(
+                memberId, PageRequest.of(0, maxLikesPerMember + 1)));
+        if (recentLikedIds.size() > maxLikesPerMember) {
+            return null;
+        }
+
+        Set<Long> likedCommentIds = ConcurrentHashMap.newKeySet();
+        likedCommentIds.addAll(recentLikedIds);
+        cache.put(memberId, likedCommentIds);
+        // 조회하는 동안 커밋된 변경이 있으면 조회 결과가 그 변경을 놓쳤을 수 있으므로 캐시하지 않음
+        // (put 이후의 변경은 캐시된 목록에 직접 반영됨)
+        if (generations.get(generationIndex) != generation) {
+            cache.invalidate(memberId);
+        }
+        return likedCommentIds;
+    }
+
+    private static int generationIndex(Long memberId) {
+        int hash = memberId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 좋아요 수 집계 보정 작업
+ * comments.like_count 를 comment_likes 원본과 댓글 ID 구간별로 비교해 어긋난 댓글만 갱신합니다.
+ * 구간마다 별도 트랜잭션으로 처리해 좋아요 토글과의 락 경합을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class CommentLikeCountReconciler {
+
+    private final CommentRepository commentRepository;
+    private final long batchSize;
+
+    public CommentLikeCountReconciler(
+            CommentRepository commentRepository,
+            @Value("${comment.like-count.reconcile-batch-size:1000}") long batchSize) {
+        this.commentRepository = commentRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 집계 컬럼이 채워지지 않은 댓글이 있으면 (최초 배포) 기동 직후 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfMissing() {
+        if (commentRepository.countMissingLikeCounts() > 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${comment.like-count.reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        long maxCommentId = commentRepository.findMaxId();
+        int corrected = 0;
+
+        for (long from = 1; from <= maxCommentId; from += batchSize) {
+            long to = Math.min(from + batchSize - 1, maxCommentId);
+            corrected += commentRepository.reconcileLikeCounts(from, to);
+        }
+
+        if (corrected > 0) {
+            log.warn("[CommentLikeCountReconciler] 좋아요 수 불일치 보정 - maxCommentId: {}, corrected: {}",
+                    maxCommentId, corrected);
+        } else {
+            log.info("[CommentLikeCountReconciler] 좋아요 수 검증 완료 - maxCommentId: {}", maxCommentId);
+        }
+    }
+}
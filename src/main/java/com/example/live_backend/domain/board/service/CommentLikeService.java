@@ -3,6 +3,7 @@ package com.example.live_backend.domain.board.service;
 import com.example.live_backend.domain.board.entity.Comment;
 import com.example.live_backend.domain.board.entity.CommentLike;
 import com.example.live_backend.domain.board.repository.CommentLikeRepository;
+import com.example.live_backend.domain.board.repository.CommentRepository;
 import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
 import com.example.live_backend.global.error.exception.CustomException;
@@ -23,34 +24,32 @@ import java.util.stream.Collectors;
 public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
+    private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
+    private final CommentLikeCache commentLikeCache;
 
     /**
      * 댓글 좋아요 메타데이터 조회
+     * 좋아요 수는 댓글의 집계 컬럼을, 좋아요 여부는 회원별 캐시를 사용합니다.
      */
-    public CommentLikeMetadata getCommentLikeMetadata(List<Long> commentIds, Long memberId) {
-        if (commentIds.isEmpty()) {
+    public CommentLikeMetadata getCommentLikeMetadata(List<Comment> comments, Long memberId) {
+        if (comments.isEmpty()) {
             return new CommentLikeMetadata(Map.of(), Set.of());
         }
 
-        Map<Long, Long> likeCounts = commentLikeRepository.countLikesByCommentIds(commentIds)
-                .stream()
+        Map<Long, Long> likeCounts = comments.stream()
                 .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> (Long) row[1]
+                        Comment::getId,
+                        comment -> comment.getLikeCount() != null ? comment.getLikeCount() : 0L
                 ));
 
-        Set<Long> likedCommentIds = memberId != null ?
-                commentLikeRepository.findLikedCommentIdsByMemberAndCommentIds(commentIds, memberId)
-                        .stream()
-                        .collect(Collectors.toSet()) :
-                Set.of();
+        Set<Long> likedCommentIds = commentLikeCache.findLikedAmong(memberId, likeCounts.keySet());
 
         return new CommentLikeMetadata(likeCounts, likedCommentIds);
     }
 
     /**
-     * 댓글 좋아요 토글
+     * 댓글 좋아요 토글 (좋아요 수 집계도 같은 트랜잭션에서 갱신)
      */
     @Transactional
     public void toggleLike(Comment comment, Long memberId) {
@@ -61,12 +60,16 @@ public class CommentLikeService {
         
         if (existingLike.isPresent()) {
             commentLikeRepository.delete(existingLike.get());
+            commentRepository.addLikeCount(comment.getId(), -1);
+            commentLikeCache.onUnliked(memberId, comment.getId());
         } else {
             CommentLike commentLike = CommentLike.builder()
                     .comment(comment)
                     .member(member)
                     .build();
             commentLikeRepository.save(commentLike);
+            commentRepository.addLikeCount(comment.getId(), 1);
+            commentLikeCache.onLiked(memberId, comment.getId());
         }
     }
 
@@ -5,13 +5,18 @@ import com.example.live_backend.domain.board.dto.request.CommentUpdateRequestDto
 import com.example.live_backend.domain.board.dto.response.CommentResponseDto;
 import com.example.live_backend.domain.board.entity.Board;
 import com.example.live_backend.domain.board.entity.Comment;
+import com.example.live_backend.domain.board.live.BoardLiveHub;
+import com.example.live_backend.domain.board.ranking.BoardTrendingRanking;
 import com.example.live_backend.domain.board.repository.BoardRepository;
 import com.example.live_backend.domain.board.repository.CommentRepository;
 import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.memeber.service.MemberSummaryLoader;
 import com.example.live_backend.global.error.exception.CustomException;
 import com.example.live_backend.global.error.exception.ErrorCode;
+import com.example.live_backend.global.page.CursorTemplate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,84 +28,115 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final String UNKNOWN_AUTHOR = "알 수 없음";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
     private final CommentLikeService commentLikeService;
+    private final MemberSummaryLoader memberSummaryLoader;
+    private final BoardTrendingRanking boardTrendingRanking;
+    private final BoardLiveHub boardLiveHub;
 
 
-    public List<CommentResponseDto> getCommentsByBoardId(Long boardId, Long memberId) {
-        List<Comment> parentComments = commentRepository.findParentCommentsByBoardId(boardId);
-        
+    /**
+     * 커서 기반 댓글 목록 조회 (대댓글은 부모 댓글별 커서로 따로 조회)
+     */
+    public CursorTemplate<Long, CommentResponseDto> getCommentsByBoardId(
+            Long boardId, Long memberId, Long cursor, Integer size) {
+
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        List<Comment> parentComments = commentRepository.findParentCommentsByBoardIdWithCursor(
+                boardId, cursor, PageRequest.of(0, pageSize + 1));
+
         if (parentComments.isEmpty()) {
-            return List.of();
+            return CursorTemplate.ofEmpty();
         }
-        List<Long> parentCommentIds = parentComments.stream()
+
+        boolean hasNext = parentComments.size() > pageSize;
+        List<Comment> content = hasNext ? parentComments.subList(0, pageSize) : parentComments;
+
+        List<Long> parentCommentIds = content.stream()
                 .map(Comment::getId)
                 .toList();
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParentCommentIds(parentCommentIds).stream()
+                .collect(Collectors.toMap(
+                        CommentRepository.ReplyCount::getParentCommentId,
+                        CommentRepository.ReplyCount::getCount));
+
+        CommentLikeService.CommentLikeMetadata likeMetadata =
+                commentLikeService.getCommentLikeMetadata(content, memberId);
+        Map<Long, String> authorNicknames = loadAuthorNicknames(content);
+
+        List<CommentResponseDto> commentDtos = content.stream()
+                .map(comment -> new CommentResponseDto(
+                        comment,
+                        authorNicknames.getOrDefault(comment.getAuthor().getId(), UNKNOWN_AUTHOR),
+                        likeMetadata.getLikeCount(comment.getId()),
+                        likeMetadata.isLiked(comment.getId()),
+                        isMyComment(comment, memberId),
+                        replyCounts.getOrDefault(comment.getId(), 0L)))
+                .toList();
 
-        List<Comment> allReplies = commentRepository.findRepliesByParentCommentIds(parentCommentIds);
-        
-        Map<Long, List<Comment>> repliesMap = allReplies.stream()
-                .collect(Collectors.groupingBy(reply -> reply.getParentComment().getId()));
+        return toCursorTemplate(content, commentDtos, hasNext);
+    }
+
+    /**
+     * 커서 기반 대댓글 목록 조회
+     */
+    public CursorTemplate<Long, CommentResponseDto> getReplies(
+            Long boardId, Long parentCommentId, Long memberId, Long cursor, Integer size) {
+
+        Comment parentComment = commentRepository.findByIdAndNotDeleted(parentCommentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
+
+        if (!parentComment.getBoard().getId().equals(boardId)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
 
-        Set<Long> allCommentIds = new HashSet<>();
-        parentComments.forEach(comment -> allCommentIds.add(comment.getId()));
-        allReplies.forEach(reply -> allCommentIds.add(reply.getId()));
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        List<Comment> replies = commentRepository.findRepliesByParentCommentIdWithCursor(
+                parentCommentId, cursor, PageRequest.of(0, pageSize + 1));
+
+        if (replies.isEmpty()) {
+            return CursorTemplate.ofEmpty();
+        }
 
-        CommentLikeService.CommentLikeMetadata likeMetadata = 
-                commentLikeService.getCommentLikeMetadata(new ArrayList<>(allCommentIds), memberId);
+        boolean hasNext = replies.size() > pageSize;
+        List<Comment> content = hasNext ? replies.subList(0, pageSize) : replies;
 
-        return parentComments.stream()
-                .map(parentComment -> {
-                    List<CommentResponseDto> replyDtos = repliesMap.getOrDefault(parentComment.getId(), List.of())
-                            .stream()
-                            .map(reply -> createCommentDto(reply, likeMetadata, memberId))
-                            .toList();
+        CommentLikeService.CommentLikeMetadata likeMetadata =
+                commentLikeService.getCommentLikeMetadata(content, memberId);
+        Map<Long, String> authorNicknames = loadAuthorNicknames(content);
 
-                    return createCommentDto(parentComment, likeMetadata, memberId, replyDtos);
-                })
+        List<CommentResponseDto> replyDtos = content.stream()
+                .map(reply -> new CommentResponseDto(
+                        reply,
+                        authorNicknames.getOrDefault(reply.getAuthor().getId(), UNKNOWN_AUTHOR),
+                        likeMetadata.getLikeCount(reply.getId()),
+                        likeMetadata.isLiked(reply.getId()),
+                        isMyComment(reply, memberId)))
                 .toList();
+
+        return toCursorTemplate(content, replyDtos, hasNext);
     }
-    
 
-    private CommentResponseDto createCommentDto(
-            Comment comment,
-            CommentLikeService.CommentLikeMetadata likeMetadata,
-            Long currentUserId) {
-        
-        String authorNickname = comment.getAuthor().getProfile() != null ? 
-                comment.getAuthor().getProfile().getNickname() : "알 수 없음";
-        
-        return new CommentResponseDto(
-                comment,
-                authorNickname,
-                likeMetadata.getLikeCount(comment.getId()),
-                likeMetadata.isLiked(comment.getId()),
-                isMyComment(comment, currentUserId)
-        );
+    private Map<Long, String> loadAuthorNicknames(List<Comment> comments) {
+        return memberSummaryLoader.loadNicknames(comments.stream()
+                .map(comment -> comment.getAuthor().getId())
+                .toList(), UNKNOWN_AUTHOR);
     }
-    
 
-    private CommentResponseDto createCommentDto(
-            Comment comment,
-            CommentLikeService.CommentLikeMetadata likeMetadata,
-            Long currentUserId,
-            List<CommentResponseDto> replies) {
-        
-        String authorNickname = comment.getAuthor().getProfile() != null ? 
-                comment.getAuthor().getProfile().getNickname() : "알 수 없음";
-        
-        return new CommentResponseDto(
-                comment,
-                authorNickname,
-                likeMetadata.getLikeCount(comment.getId()),
-                likeMetadata.isLiked(comment.getId()),
-                isMyComment(comment, currentUserId),
-                replies
-        );
+    private CursorTemplate<Long, CommentResponseDto> toCursorTemplate(
+            List<Comment> content, List<CommentResponseDto> dtos, boolean hasNext) {
+        if (!hasNext) {
+            return CursorTemplate.of(dtos);
+        }
+        Long nextCursor = content.get(content.size() - 1).getId();
+        return CursorTemplate.ofWithNextCursor(nextCursor, dtos);
     }
-    
+
     /**
      * 댓글 작성자 확인
      */
@@ -126,7 +162,11 @@ public class CommentService {
                 .parentComment(null)
                 .build();
 
-        return commentRepository.save(comment).getId();
+        Long commentId = commentRepository.save(comment).getId();
+        boardRepository.addCommentCount(boardId, 1);
+        boardTrendingRanking.recordComment(boardId, board.getCategory().getId());
+        boardLiveHub.onChanged(boardId);
+        return commentId;
     }
 
     /**
@@ -158,7 +198,11 @@ public class CommentService {
                 .parentComment(parentComment)
                 .build();
 
-        return commentRepository.save(reply).getId();
+        Long replyId = commentRepository.save(reply).getId();
+        boardRepository.addCommentCount(boardId, 1);
+        boardTrendingRanking.recordComment(boardId, board.getCategory().getId());
+        boardLiveHub.onChanged(boardId);
+        return replyId;
     }
 
     /**
@@ -189,6 +233,8 @@ public class CommentService {
         }
         
         comment.delete();
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
+        boardLiveHub.onChanged(comment.getBoard().getId());
     }
 
     /**
@@ -0,0 +1,121 @@
+package com.example.live_backend.domain.board.viewer;
+
+import com.example.live_backend.domain.board.entity.BoardViewerSketch;
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.domain.board.repository.BoardViewerSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 고유 조회자 수 추정
+ * 조회마다 회원 ID(비회원은 접속 지문)를 게시글별 HyperLogLog 스케치에 더하고,
+ * 주기적으로 저장된 스케치와 병합해 board_viewer_sketches 와 boards.unique_viewer_count 에 반영합니다.
+ * 저장된 스케치는 잠금 조회 후 같은 트랜잭션에서 덮어쓰므로 여러 인스턴스가 동시에 반영해도 서로의 병합을 잃지 않습니다.
+ * 메모리에는 마지막 반영 이후 조회된 게시글의 스케치만 남으며, 스케치 병합은 멱등이라 반영 실패 시 다음 주기에 다시 합칩니다.
+ */
+@Slf4j
+@Component
+public class BoardUniqueViewerCounter {
+
+    private final BoardViewerSketchRepository boardViewerSketchRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+
+    public BoardUniqueViewerCounter(BoardViewerSketchRepository boardViewerSketchRepository,
+                                    BoardRepository boardRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.boardViewerSketchRepository = boardViewerSketchRepository;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 조회 기록 (회원 ID와 접속 지문이 모두 없으면 무시)
+     */
+    public void record(Long boardId, Long memberId, String anonymousFingerprint) {
+        String viewerKey = memberId != null ? "m:" + memberId
+                : anonymousFingerprint != null ? "a:" + anonymousFingerprint
+                : null;
+        if (boardId == null || viewerKey == null) {
+            return;
+        }
+
+        long hash = HyperLogLog.hash(viewerKey);
+        pendingSketches.compute(boardId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(hash);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${board.unique-viewer.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<Long, HyperLogLog> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> mergeAndSave(drained));
+        } catch (RuntimeException e) {
+            log.warn("[BoardUniqueViewerCounter] 고유 조회자 반영 실패 - 다음 주기에 재시도합니다. boards: {}", drained.size(), e);
+            drained.forEach((boardId, sketch) -> pendingSketches.merge(boardId, sketch, (current, failed) -> {
+                current.merge(failed);
+                return current;
+            }));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[BoardUniqueViewerCounter] 종료 전 고유 조회자 반영 - boards: {}", pendingSketches.size());
+        flush();
+    }
+
+    private Map<Long, HyperLogLog> drain() {
+        Map<Long, HyperLogLog> drained = new HashMap<>();
+        for (Long boardId : pendingSketches.keySet()) {
+            HyperLogLog sketch = pendingSketches.remove(boardId);
+            if (sketch != null) {
+                drained.put(boardId, sketch);
+            }
+        }
+        return drained;
+    }
+
+    private void mergeAndSave(Map<Long, HyperLogLog> drained) {
+        // 병합에 쓴 스케치가 덮어쓰기 전에 바뀌지 않도록 잠금 조회 (실패하면 롤백되고 호출한 쪽이 다시 대기열에 넣음)
+        for (BoardViewerSketch stored : boardViewerSketchRepository.findAllByIdForUpdate(drained.keySet())) {
+            mergeStored(drained.get(stored.getBoardId()), stored);
+        }
+
+        Map<Long, byte[]> sketches = new TreeMap<>();
+        Map<Long, Long> uniqueViewerCounts = new TreeMap<>();
+        drained.forEach((boardId, sketch) -> {
+            sketches.put(boardId, sketch.toBytes());
+            uniqueViewerCounts.put(boardId, sketch.estimate());
+        });
+
+        boardViewerSketchRepository.upsertSketches(sketches);
+        boardRepository.updateUniqueViewerCounts(uniqueViewerCounts);
+    }
+
+    private void mergeStored(HyperLogLog sketch, BoardViewerSketch stored) {
+        try {
+            sketch.merge(HyperLogLog.fromBytes(stored.getSketch()));
+        } catch (IllegalArgumentException e) {
+            log.warn("[BoardUniqueViewerCounter] 저장된 스케치를 읽을 수 없어 덮어씁니다. boardId: {}", stored.getBoardId(), e);
+        }
+    }
+}
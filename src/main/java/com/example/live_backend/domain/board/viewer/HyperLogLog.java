@@ -0,0 +1,142 @@
+package com.example.live_backend.domain.board.viewer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog 고유 원소 수 추정 스케치 (정밀도 12, 레지스터 4096개, 표준 오차 약 1.6%)
+ * 직렬화는 [정밀도][형식][레지스터...] 이며, 채워진 레지스터가 적으면 (인덱스, 값) 쌍만 저장하는 희소 형식을 씁니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화합니다.
+ */
+public class HyperLogLog {
+
+    static final int PRECISION = 12;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * 원소 추가 (레지스터가 바뀌면 true)
+     */
+    public boolean offer(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        long remaining = hash << PRECISION;
+        byte rank = (byte) (Math.min(Long.numberOfLeadingZeros(remaining), Long.SIZE - PRECISION) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (nonZero * 3 >= REGISTER_COUNT) {
+            byte[] bytes = new byte[2 + REGISTER_COUNT];
+            bytes[0] = PRECISION;
+            bytes[1] = DENSE;
+            System.arraycopy(registers, 0, bytes, 2, REGISTER_COUNT);
+            return bytes;
+        }
+
+        byte[] bytes = new byte[2 + nonZero * 3];
+        bytes[0] = PRECISION;
+        bytes[1] = SPARSE;
+        int offset = 2;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (registers[i] != 0) {
+                bytes[offset++] = (byte) (i >>> 8);
+                bytes[offset++] = (byte) i;
+                bytes[offset++] = registers[i];
+            }
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || bytes[0] != PRECISION) {
+            throw new IllegalArgumentException("unsupported sketch format");
+        }
+
+        if (bytes[1] == DENSE) {
+            if (bytes.length != 2 + REGISTER_COUNT) {
+                throw new IllegalArgumentException("invalid dense sketch length: " + bytes.length);
+            }
+            return new HyperLogLog(Arrays.copyOfRange(bytes, 2, bytes.length));
+        }
+
+        if (bytes[1] != SPARSE || (bytes.length - 2) % 3 != 0) {
+            throw new IllegalArgumentException("invalid sparse sketch");
+        }
+        byte[] registers = new byte[REGISTER_COUNT];
+        for (int offset = 2; offset < bytes.length; offset += 3) {
+            int index = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+            if (index >= REGISTER_COUNT) {
+                throw new IllegalArgumentException("invalid register index: " + index);
+            }
+            registers[index] = bytes[offset + 2];
+        }
+        return new HyperLogLog(registers);
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a 후 MurmurHash3 finalizer로 비트 분산)
+     */
+    public static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.live_backend.domain.board.viewer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.StringUtils;
+
+/**
+ * 비회원 고유 조회자 구분용 접속 지문 (클라이언트 IP + User-Agent)
+ * 스케치에는 해시만 반영되며 원문은 저장하지 않습니다.
+ * 클라이언트 IP 는 X-Forwarded-For 를 직접 읽지 않고 getRemoteAddr() 를 씁니다. 헤더 원문은 클라이언트가 임의로 바꿀 수 있어,
+ * 요청마다 값을 바꾸면 고유 조회자 수를 부풀릴 수 있기 때문입니다. 프록시 뒤에서는 server.forward-headers-strategy=native 로
+ * 신뢰하는 내부 프록시가 붙인 값만 원격 주소에 반영합니다.
+ */
+public final class ViewerFingerprint {
+
+    private ViewerFingerprint() {
+    }
+
+    public static String from(HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        String userAgent = request.getHeader("User-Agent");
+
+        if (!StringUtils.hasText(clientIp) && !StringUtils.hasText(userAgent)) {
+            return null;
+        }
+        return clientIp + "|" + (userAgent != null ? userAgent : "");
+    }
+}
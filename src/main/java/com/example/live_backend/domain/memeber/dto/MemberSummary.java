@@ -0,0 +1,7 @@
+package com.example.live_backend.domain.memeber.dto;
+
+/**
+ * 목록 화면에서 작성자 표시에 필요한 회원 정보
+ */
+public record MemberSummary(Long id, String nickname, String profileImageUrl) {
+}
@@ -1,19 +1,37 @@
 package com.example.live_backend.domain.memeber.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.live_backend.domain.memeber.dto.MemberSummary;
 import com.example.live_backend.domain.memeber.entity.Member;
 
+import jakarta.persistence.LockModeType;
+
 public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByOauthId(String oauthId);
 
+	/**
+	 * 회원 단위 작업(하루치 클로버 미션 할당)이 여러 인스턴스에서 동시에 실행되지 않도록 트랜잭션 동안 행 잠금
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM Member m WHERE m.id = :memberId")
+	Optional<Member> findByIdForUpdate(@Param("memberId") Long memberId);
+
 	@Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Member m WHERE m.profile.nickname = :nickname")
 	boolean existsByProfileNickname(@Param("nickname") String nickname);
 	
 	@Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Member m WHERE m.profile.nickname = :nickname AND m.id != :memberId")
 	boolean existsByProfileNicknameAndIdNot(@Param("nickname") String nickname, @Param("memberId") Long memberId);
+
+	// MemberSummaryLoader 캐시 적재용, 레플리카 지연으로 변경 전 프로필이 캐시되지 않도록 PrimaryReads 를 거쳐 primary 에서 조회
+	@Query("SELECT new com.example.live_backend.domain.memeber.dto.MemberSummary(m.id, m.profile.nickname, m.profile.profileImageUrl) "
+		+ "FROM Member m WHERE m.id IN :memberIds")
+	List<MemberSummary> findSummariesByIdIn(@Param("memberIds") Collection<Long> memberIds);
 }
\ No newline at end of file
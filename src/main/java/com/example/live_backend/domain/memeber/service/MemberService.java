@@ -25,6 +25,7 @@ import com.example.live_backend.global.error.exception.CustomException;
 public class MemberService {
 
 	private final MemberRepository memberRepository;
+	private final MemberSummaryLoader memberSummaryLoader;
 
 	@Transactional
 	public AuthUserDto loginOrRegister(KakaoLoginRequestDto request) {
@@ -99,6 +100,7 @@ public class MemberService {
 	@Transactional
 	public MemberResponseDto registerOrUpdateProfile(MemberProfileRequestDto dto, Long userId) {
 		Member member = saveOrUpdateMemberProfile(userId, dto);
+		memberSummaryLoader.evict(member.getId());
 		return toDto(member);
 	}
 
@@ -162,6 +164,7 @@ public class MemberService {
 
 		Profile updatedProfile = member.getProfile().update(null, profileImageUrl);
 		member.updateProfile(updatedProfile);
+		memberSummaryLoader.evict(memberId);
 	}
 
 }
\ No newline at end of file
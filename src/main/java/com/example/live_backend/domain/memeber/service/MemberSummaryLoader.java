@@ -0,0 +1,94 @@
+package com.example.live_backend.domain.memeber.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.live_backend.domain.memeber.dto.MemberSummary;
+import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.global.cache.LruCache;
+import com.example.live_backend.infra.database.PrimaryReads;
+
+/**
+ * 목록 응답 조립용 회원 요약 정보 일괄 조회
+ * 페이지 단위로 작성자 ID를 모아 캐시에 없는 회원만 IN 쿼리 한 번으로 조회합니다.
+ * 프로필이 변경되면 MemberService 가 evict 를 호출합니다.
+ */
+@Component
+public class MemberSummaryLoader {
+
+	private final MemberRepository memberRepository;
+	private final PrimaryReads primaryReads;
+	private final LruCache<Long, MemberSummary> cache;
+
+	public MemberSummaryLoader(MemberRepository memberRepository, PrimaryReads primaryReads,
+		@Value("${member.summary-cache.max-size:10000}") int maxSize) {
+		this.memberRepository = memberRepository;
+		this.primaryReads = primaryReads;
+		this.cache = new LruCache<>(maxSize);
+	}
+
+	public Map<Long, MemberSummary> loadAll(Collection<Long> memberIds) {
+		Set<Long> distinctIds = new LinkedHashSet<>(memberIds);
+		distinctIds.remove(null);
+		if (distinctIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Long, MemberSummary> summaries = new HashMap<>(cache.getAll(distinctIds));
+		List<Long> missingIds = distinctIds.stream()
+			.filter(id -> !summaries.containsKey(id))
+			.toList();
+
+		if (!missingIds.isEmpty()) {
+			primaryReads.read(() -> memberRepository.findSummariesByIdIn(missingIds)).forEach(summary -> {
+				summaries.put(summary.id(), summary);
+				cache.put(summary.id(), summary);
+			});
+		}
+		return summaries;
+	}
+
+	/**
+	 * 회원 닉네임 일괄 조회 (탈퇴 등으로 조회되지 않으면 fallback)
+	 */
+	public Map<Long, String> loadNicknames(Collection<Long> memberIds, String fallback) {
+		Map<Long, MemberSummary> summaries = loadAll(memberIds);
+
+		Map<Long, String> nicknames = new HashMap<>();
+		memberIds.stream()
+			.filter(Objects::nonNull)
+			.forEach(id -> {
+				MemberSummary summary = summaries.get(id);
+				nicknames.put(id, summary != null && summary.nickname() != null ? summary.nickname() : fallback);
+			});
+		return nicknames;
+	}
+
+	/**
+	 * 캐시 무효화 (트랜잭션 안에서 호출되면 커밋 후에도 한 번 더 제거해 이전 값이 다시 적재되는 것을 막음)
+	 */
+	public void evict(Long memberId) {
+		if (memberId == null) {
+			return;
+		}
+		cache.invalidate(memberId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(memberId);
+				}
+			});
+		}
+	}
+}
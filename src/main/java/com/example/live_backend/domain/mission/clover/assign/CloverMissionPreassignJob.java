@@ -0,0 +1,256 @@
+package com.example.live_backend.domain.mission.clover.assign;
+
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionRepository;
+import com.example.live_backend.domain.mission.clover.service.CloverMissionService;
+import com.example.live_backend.domain.mission.clover.service.CloverSurveySummary;
+import com.example.live_backend.domain.mission.clover.service.VectorDBService;
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 클로버 미션 사전 할당 작업
+ * 아침 첫 조회에 몰리던 임베딩/벡터 검색/저장을 전날 밤으로 옮기기 위해, 최근 clover.preassign.active-days 일 안에
+ * 설문을 제출했거나 미션을 할당받은 회원에게 다음 날 미션을 미리 할당합니다.
+ * 회원을 ID 순으로 clover.preassign.chunk-size 명씩 나눠 clover.preassign.parallelism 개 스레드로 추천을 계산하고
+ * (배치 검색은 VectorDBService 의 배치 허용량만 쓰므로 요청 경로 검색을 막지 않음), 청크마다 할당 기록을 배치 INSERT 하며 진행 위치를 함께 커밋합니다.
+ * 같은 날 여러 번 실행되어도 진행 위치 이후 회원만 처리하므로, 중단된 실행은 다음 실행에서 이어지고 새 회원도 채워집니다.
+ * 요약문이 같은 회원(설문 미제출 회원 등)은 청크 안에서 한 번만 검색합니다.
+ * 추천에 실패한 회원은 건너뛰며, 해당 회원은 조회 시점에 즉시 할당받습니다.
+ * 청크 저장이 실패하면 회원 한 명씩 다시 저장하고, 그래도 저장되지 않는 회원은 진행 위치만 넘겨 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class CloverMissionPreassignJob {
+
+    static final String JOB_NAME_PREFIX = "clover-mission-preassign:";
+
+    private final CloverMissionPreassignRepository preassignRepository;
+    private final CloverMissionPreassignWriter preassignWriter;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final VectorDBService vectorDBService;
+    private final CloverMissionRepository cloverMissionRepository;
+    private final MemberRepository memberRepository;
+    private final CloverSurveySummary cloverSurveySummary;
+    private final int chunkSize;
+    private final int activeDays;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    private final Counter assignedMembers;
+    private final Counter skippedMembers;
+    private final Counter failedMembers;
+    private final Timer chunkTimer;
+
+    public CloverMissionPreassignJob(
+            CloverMissionPreassignRepository preassignRepository,
+            CloverMissionPreassignWriter preassignWriter,
+            JobCheckpointRepository jobCheckpointRepository,
+            VectorDBService vectorDBService,
+            CloverMissionRepository cloverMissionRepository,
+            MemberRepository memberRepository,
+            CloverSurveySummary cloverSurveySummary,
+            @Value("${clover.preassign.chunk-size:200}") int chunkSize,
+            @Value("${clover.preassign.active-days:30}") int activeDays,
+            @Value("${clover.preassign.parallelism:4}") int parallelism,
+            MeterRegistry meterRegistry) {
+        this(preassignRepository, preassignWriter, jobCheckpointRepository, vectorDBService, cloverMissionRepository,
+                memberRepository, cloverSurveySummary, chunkSize, activeDays, newWorkerPool(parallelism), meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    CloverMissionPreassignJob(CloverMissionPreassignRepository preassignRepository,
+                              CloverMissionPreassignWriter preassignWriter,
+                              JobCheckpointRepository jobCheckpointRepository, VectorDBService vectorDBService,
+                              CloverMissionRepository cloverMissionRepository, MemberRepository memberRepository,
+                              CloverSurveySummary cloverSurveySummary, int chunkSize, int activeDays,
+                              ExecutorService executor, MeterRegistry meterRegistry,
+                              Clock clock) {
+        this.preassignRepository = preassignRepository;
+        this.preassignWriter = preassignWriter;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.vectorDBService = vectorDBService;
+        this.cloverMissionRepository = cloverMissionRepository;
+        this.memberRepository = memberRepository;
+        this.cloverSurveySummary = cloverSurveySummary;
+        this.chunkSize = chunkSize;
+        this.activeDays = activeDays;
+        this.executor = executor;
+        this.clock = clock;
+
+        this.assignedMembers = memberCounter(meterRegistry, "assigned");
+        this.skippedMembers = memberCounter(meterRegistry, "skipped");
+        this.failedMembers = memberCounter(meterRegistry, "failed");
+        this.chunkTimer = Timer.builder("clover.preassign.chunk")
+                .description("사전 할당 청크 하나의 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${clover.preassign.cron:0 */30 1-5 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate targetDate = today.plusDays(1);
+        String jobName = jobName(targetDate);
+        preassignWriter.discard(jobName(today));
+
+        LocalDate activeSince = today.minusDays(activeDays);
+        long afterId = jobCheckpointRepository.findLastProcessedId(jobName);
+        int assigned = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Long> memberIds = preassignRepository.findActiveMemberIds(activeSince, afterId, chunkSize);
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            long chunkAfterId = afterId;
+            ChunkResult result;
+            try {
+                result = chunkTimer.record(() -> assignChunk(jobName, targetDate, chunkAfterId, memberIds));
+            } catch (RuntimeException e) {
+                log.warn("[CloverMissionPreassignJob] 청크 저장 실패 - 회원별로 다시 저장합니다. afterId: {}", afterId, e);
+                try {
+                    result = assignEach(jobName, targetDate, chunkAfterId, memberIds);
+                } catch (RuntimeException retryFailure) {
+                    log.error("[CloverMissionPreassignJob] 청크 저장 실패 - 다음 실행에서 이어갑니다. afterId: {}",
+                            afterId, retryFailure);
+                    break;
+                }
+            }
+            assigned += result.assigned();
+            failed += result.failed();
+            afterId = memberIds.get(memberIds.size() - 1);
+        }
+
+        log.info("[CloverMissionPreassignJob] 사전 할당 완료 - date: {}, assigned: {}, failed: {}, lastMemberId: {}",
+                targetDate, assigned, failed, afterId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ChunkResult assignChunk(String jobName, LocalDate targetDate, long afterId, List<Long> memberIds) {
+        Set<Long> alreadyAssigned = preassignRepository.findAssignedMemberIds(targetDate, memberIds);
+        skippedMembers.increment(alreadyAssigned.size());
+        List<Long> targetIds = memberIds.stream()
+                .filter(id -> !alreadyAssigned.contains(id))
+                .toList();
+
+        Map<Long, Member> members = memberRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        Map<Long, String> summaries = cloverSurveySummary.ofAll(members.keySet());
+        Map<String, CompletableFuture<List<Long>>> searches = new HashMap<>();
+        Map<Long, CompletableFuture<List<Long>>> recommendations = new LinkedHashMap<>();
+        members.keySet().forEach(memberId -> recommendations.put(memberId, searches.computeIfAbsent(
+                summaries.get(memberId), summary -> CompletableFuture.supplyAsync(() ->
+                        vectorDBService.searchSimilarMissionsIdsForBatch(
+                                summary, CloverMissionService.DAILY_MISSION_COUNT, List.of()),
+                        executor))));
+
+        AtomicInteger failed = new AtomicInteger();
+        Map<Long, List<Long>> missionIdsByMember = new LinkedHashMap<>();
+        recommendations.forEach((memberId, future) -> {
+            try {
+                missionIdsByMember.put(memberId, future.join());
+            } catch (CompletionException e) {
+                failed.incrementAndGet();
+                log.warn("[CloverMissionPreassignJob] 미션 추천 실패 - memberId: {}", memberId, e.getCause());
+            }
+        });
+
+        Map<Long, CloverMission> missions = cloverMissionRepository.findAllById(
+                        missionIdsByMember.values().stream().flatMap(List::stream).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(CloverMission::getId, Function.identity()));
+
+        List<CloverMissionRecord> records = new ArrayList<>();
+        missionIdsByMember.forEach((memberId, missionIds) -> missionIds.stream()
+                .map(missions::get)
+                .filter(Objects::nonNull)
+                .forEach(mission -> records.add(CloverMissionRecord.from(mission, members.get(memberId), targetDate))));
+
+        preassignWriter.write(jobName, afterId, memberIds.get(memberIds.size() - 1), records);
+
+        assignedMembers.increment(missionIdsByMember.size());
+        failedMembers.increment(failed.get());
+        return new ChunkResult(missionIdsByMember.size(), failed.get());
+    }
+
+    /**
+     * 회원 한 명씩 저장 (저장할 수 없는 회원은 할당 없이 진행 위치만 넘김)
+     * 진행 위치 저장까지 실패하면 회원 문제가 아닌 DB 장애로 보고 예외를 그대로 던집니다.
+     */
+    private ChunkResult assignEach(String jobName, LocalDate targetDate, long afterId, List<Long> memberIds) {
+        int assigned = 0;
+        int failed = 0;
+        long previousId = afterId;
+        for (Long memberId : memberIds) {
+            try {
+                ChunkResult result = assignChunk(jobName, targetDate, previousId, List.of(memberId));
+                assigned += result.assigned();
+                failed += result.failed();
+            } catch (RuntimeException e) {
+                log.error("[CloverMissionPreassignJob] 회원 할당 저장 실패 - 건너뜁니다. memberId: {}", memberId, e);
+                preassignWriter.write(jobName, previousId, memberId, List.of());
+                failedMembers.increment();
+                failed++;
+            }
+            previousId = memberId;
+        }
+        return new ChunkResult(assigned, failed);
+    }
+
+    static String jobName(LocalDate targetDate) {
+        return JOB_NAME_PREFIX + targetDate;
+    }
+
+    private static ExecutorService newWorkerPool(int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "clover-preassign-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter memberCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("clover.preassign.members")
+                .description("사전 할당 대상 회원 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ChunkResult(int assigned, int failed) {
+    }
+}
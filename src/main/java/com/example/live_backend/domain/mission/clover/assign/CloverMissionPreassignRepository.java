@@ -0,0 +1,121 @@
+package com.example.live_backend.domain.mission.clover.assign;
+
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클로버 미션 사전 할당용 JDBC 쿼리
+ * 대상 회원을 ID 순으로 나눠 조회하고, 할당 기록은 한 번의 배치 INSERT 로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CloverMissionPreassignRepository {
+
+    // 최근 설문을 제출했거나 최근에 미션을 할당받은 일반 회원
+    private static final String ACTIVE_MEMBER_IDS_SQL =
+            "SELECT m.ID FROM MEMBERS m " +
+            "WHERE m.ID > :afterId AND m.ROLE = 'USER' " +
+            "  AND (m.LAST_SURVEY_SUBMITTED_AT >= :activeSinceAt " +
+            "       OR EXISTS (SELECT 1 FROM CLOVER_MISSION_RECORDS r " +
+            "                  WHERE r.MEMBER_ID = m.ID AND r.ASSIGNED_DATE >= :activeSince)) " +
+            "ORDER BY m.ID LIMIT :limit";
+
+    private static final String ASSIGNED_MEMBER_IDS_SQL =
+            "SELECT DISTINCT MEMBER_ID FROM CLOVER_MISSION_RECORDS " +
+            "WHERE ASSIGNED_DATE = :assignedDate AND MEMBER_ID IN (:memberIds)";
+
+    // 요청 경로의 즉시 할당(CloverMissionAssignWriter)과 같은 회원 행 잠금, 교착을 피하려고 ID 순으로 잠금
+    private static final String LOCK_MEMBERS_SQL =
+            "SELECT ID FROM MEMBERS WHERE ID IN (:memberIds) ORDER BY ID FOR UPDATE";
+
+    private static final String INSERT_RECORD_SQL =
+            "INSERT INTO CLOVER_MISSION_RECORDS (MEMBER_ID, MISSION_ID, MISSION_TITLE, MISSION_DESCRIPTION, " +
+            "MISSION_STATUS, CLOVER_TYPE, MISSION_CATEGORY, MISSION_DIFFICULTY, REQUIRED_METERS, PROGRESS_IN_METERS, " +
+            "REQUIRED_SECONDS, PROGRESS_IN_SECONDS, TARGET_ADDRESS, ILLUSTRATION_URL, ASSIGNED_DATE) " +
+            "VALUES (:memberId, :missionId, :missionTitle, :missionDescription, :missionStatus, :cloverType, " +
+            ":missionCategory, :missionDifficulty, :requiredMeters, :progressInMeters, :requiredSeconds, " +
+            ":progressInSeconds, :targetAddress, :illustrationUrl, :assignedDate)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findActiveMemberIds(LocalDate activeSince, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("activeSinceAt", Timestamp.valueOf(activeSince.atStartOfDay()))
+                .addValue("activeSince", Date.valueOf(activeSince))
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(ACTIVE_MEMBER_IDS_SQL, params, Long.class);
+    }
+
+    /**
+     * 주어진 회원 중 해당 날짜에 이미 미션이 할당된 회원 ID
+     */
+    public Set<Long> findAssignedMemberIds(LocalDate assignedDate, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("assignedDate", Date.valueOf(assignedDate))
+                .addValue("memberIds", memberIds);
+        return new HashSet<>(jdbcTemplate.queryForList(ASSIGNED_MEMBER_IDS_SQL, params, Long.class));
+    }
+
+    /**
+     * 회원 행 잠금 (호출하는 쪽 트랜잭션이 끝날 때까지 유지)
+     */
+    public void lockMembers(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForList(LOCK_MEMBERS_SQL, new MapSqlParameterSource("memberIds", memberIds), Long.class);
+    }
+
+    /**
+     * 할당 기록 일괄 저장 (호출하는 쪽 트랜잭션 안에서 실행)
+     */
+    public int insertAll(List<CloverMissionRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = records.stream()
+                .map(CloverMissionPreassignRepository::toParams)
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, batch);
+        return records.size();
+    }
+
+    private static SqlParameterSource toParams(CloverMissionRecord record) {
+        return new MapSqlParameterSource()
+                .addValue("memberId", record.getMember().getId())
+                .addValue("missionId", record.getMissionId())
+                .addValue("missionTitle", record.getMissionTitle())
+                .addValue("missionDescription", record.getMissionDescription())
+                .addValue("missionStatus", nameOf(record.getCloverMissionStatus()))
+                .addValue("cloverType", nameOf(record.getCloverType()))
+                .addValue("missionCategory", nameOf(record.getMissionCategory()))
+                .addValue("missionDifficulty", nameOf(record.getMissionDifficulty()))
+                .addValue("requiredMeters", record.getRequiredMeters())
+                .addValue("progressInMeters", record.getProgressInMeters())
+                .addValue("requiredSeconds", record.getRequiredSeconds())
+                .addValue("progressInSeconds", record.getProgressInSeconds())
+                .addValue("targetAddress", record.getTargetAddress())
+                .addValue("illustrationUrl", record.getIllustrationUrl())
+                .addValue("assignedDate", Date.valueOf(record.getAssignedDate()));
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
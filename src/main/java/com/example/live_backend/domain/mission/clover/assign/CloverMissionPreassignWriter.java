@@ -0,0 +1,67 @@
+package com.example.live_backend.domain.mission.clover.assign;
+
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.global.batch.JobCheckpoint;
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사전 할당 청크 하나를 한 트랜잭션으로 저장
+ * 할당 기록과 진행 위치가 함께 커밋되므로, 중단되더라도 다음 실행은 마지막으로 커밋된 청크 다음 회원부터 이어갑니다.
+ * 요청 경로의 즉시 할당과 같은 회원 행 잠금을 잡은 뒤, 그 사이 할당받은 회원의 기록은 저장하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CloverMissionPreassignWriter {
+
+    private final CloverMissionPreassignRepository preassignRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    /**
+     * @param afterId 청크를 조회할 때 기준으로 삼은 진행 위치 (그 사이 다른 인스턴스가 진행시켰다면 저장하지 않음)
+     * @return 저장한 할당 기록 수
+     */
+    @Transactional
+    public int write(String jobName, long afterId, long lastMemberId, List<CloverMissionRecord> records) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findForUpdate(jobName)
+                .orElseGet(() -> jobCheckpointRepository.save(JobCheckpoint.start(jobName)));
+        if (checkpoint.getLastProcessedId() > afterId) {
+            return 0;
+        }
+
+        int inserted = preassignRepository.insertAll(withoutAssignedMembers(records));
+        checkpoint.advance(lastMemberId);
+        return inserted;
+    }
+
+    private List<CloverMissionRecord> withoutAssignedMembers(List<CloverMissionRecord> records) {
+        if (records.isEmpty()) {
+            return records;
+        }
+        List<Long> memberIds = records.stream()
+                .map(record -> record.getMember().getId())
+                .distinct()
+                .toList();
+        preassignRepository.lockMembers(memberIds);
+        Set<Long> assigned = preassignRepository.findAssignedMemberIds(records.get(0).getAssignedDate(), memberIds);
+        if (assigned.isEmpty()) {
+            return records;
+        }
+        return records.stream()
+                .filter(record -> !assigned.contains(record.getMember().getId()))
+                .toList();
+    }
+
+    /**
+     * 더 이상 쓰지 않는 날짜의 진행 위치 삭제
+     */
+    @Transactional
+    public void discard(String jobName) {
+        jobCheckpointRepository.findById(jobName).ifPresent(jobCheckpointRepository::delete);
+    }
+}
@@ -1,17 +1,28 @@
 package com.example.live_backend.domain.mission.clover.controller;
 
 import com.example.live_backend.domain.mission.clover.controller.docs.CloverAdminControllerDocs;
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.service.CloverAdminService;
 import com.example.live_backend.global.error.response.ResponseHandler;
 import com.example.live_backend.global.security.PrincipalDetails;
 import com.example.live_backend.global.security.annotation.AdminApi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin/v1/missions/clover")
@@ -19,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class CloverAdminController implements CloverAdminControllerDocs {
 
     private final CloverAdminService cloverAdminService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @PostMapping("/register")
@@ -32,4 +44,47 @@ public class CloverAdminController implements CloverAdminControllerDocs {
         return ResponseHandler.success(response);
     }
 
+    @Override
+    @PostMapping(value = "/register/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @AdminApi(reason = "클로버 미션 등록은 관리자만 가능합니다.")
+    public ResponseHandler<AdminBulkRegisterCloverMissionResponseDto> registerCloverMissionsBulk(
+            @RequestBody List<AdminRegisterCloverMissionRequestDto> requestDtos,
+            @AuthenticationPrincipal PrincipalDetails userDetails) {
+
+        AdminBulkRegisterCloverMissionResponseDto response = cloverAdminService.registerCloverMissions(requestDtos);
+
+        return ResponseHandler.success(response);
+    }
+
+    /**
+     * 요청 본문을 읽는 대로 등록하고, 청크마다 진행 상황을 한 줄씩 바로 내려보냅니다.
+     * 마지막 줄은 전체 결과입니다.
+     */
+    @Override
+    @PostMapping(value = "/register/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @AdminApi(reason = "클로버 미션 등록은 관리자만 가능합니다.")
+    public void registerCloverMissionsStream(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @AuthenticationPrincipal PrincipalDetails userDetails) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        AdminBulkRegisterCloverMissionResponseDto result = cloverAdminService.registerCloverMissions(
+                request.getInputStream(), progress -> writeLine(out, progress));
+        writeLine(out, result);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.live_backend.domain.mission.clover.controller.docs;
 
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionResponseDto;
 import com.example.live_backend.global.error.response.ResponseHandler;
@@ -7,9 +8,14 @@ import com.example.live_backend.global.security.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.io.IOException;
+import java.util.List;
+
 @Tag(name = "Clover-Admin", description = "클로버 미션 관련 관리자 API")
 public interface CloverAdminControllerDocs {
 
@@ -19,4 +25,23 @@ public interface CloverAdminControllerDocs {
             @Parameter(hidden = true)
             @AuthenticationPrincipal PrincipalDetails userDetails
     );
-}
\ No newline at end of file
+
+    @Operation(summary = "관리자 -클로버 미션 일괄 등록",
+            description = "클로버 미션 목록을 청크 단위로 등록합니다. 일부 미션이 실패해도 나머지는 등록되며, 실패한 미션의 위치와 사유를 함께 반환합니다.")
+    ResponseHandler<AdminBulkRegisterCloverMissionResponseDto> registerCloverMissionsBulk(
+            @RequestBody List<AdminRegisterCloverMissionRequestDto> requestDtos,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal PrincipalDetails userDetails
+    );
+
+    @Operation(summary = "관리자 -클로버 미션 일괄 등록 (NDJSON)",
+            description = "한 줄에 미션 하나씩 담긴 NDJSON 본문을 읽는 대로 등록합니다. "
+                    + "청크가 끝날 때마다 진행 상황(processed, succeeded, failed, 이번 청크의 failures)을 한 줄씩 응답하고, "
+                    + "마지막 줄에 전체 결과를 응답합니다.")
+    void registerCloverMissionsStream(
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal PrincipalDetails userDetails
+    ) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.example.live_backend.domain.mission.clover.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminBulkRegisterCloverMissionFailureDto {
+
+    private int index; // 요청 목록(또는 NDJSON 의 빈 줄을 제외한 줄)에서의 0부터 시작하는 위치
+    private String missionTitle;
+    private String reason;
+}
@@ -0,0 +1,20 @@
+package com.example.live_backend.domain.mission.clover.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminBulkRegisterCloverMissionProgressDto {
+
+    private int processed; // 지금까지 처리한 미션 수
+    private int succeeded;
+    private int failed;
+    private List<AdminBulkRegisterCloverMissionFailureDto> failures; // 이번 청크에서 실패한 미션
+}
@@ -0,0 +1,21 @@
+package com.example.live_backend.domain.mission.clover.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminBulkRegisterCloverMissionResponseDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<Long> cloverMissionIds; // 등록된 미션 ID (요청 순서)
+    private List<AdminBulkRegisterCloverMissionFailureDto> failures;
+}
@@ -17,7 +17,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "clover_mission_records")
+@Table(name = "clover_mission_records", uniqueConstraints = {
+        // 회원+날짜 조회도 이 인덱스의 (member_id, assigned_date) 접두사를 사용
+        @UniqueConstraint(name = "uk_clover_mission_records_member_date_mission",
+                columnNames = {"member_id", "assigned_date", "mission_id"})
+}, indexes = {
+        // 기간별 완료 미션 조회 (AnalysisService)
+        @Index(name = "idx_clover_mission_records_member_status_completed",
+                columnList = "member_id, mission_status, completed_at")
+})
 @Getter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CloverMissionRecord {
 
@@ -89,6 +97,10 @@ public class CloverMissionRecord {
     private String imageUrl;
 
     public static CloverMissionRecord from(CloverMission cloverMission, Member member) {
+        return from(cloverMission, member, LocalDate.now());
+    }
+
+    public static CloverMissionRecord from(CloverMission cloverMission, Member member, LocalDate assignedDate) {
         CloverMissionRecord.CloverMissionRecordBuilder builder = CloverMissionRecord.builder()
                 .member(member)
                 .missionId(cloverMission.getId())
@@ -97,7 +109,7 @@ public class CloverMissionRecord {
                 .cloverMissionStatus(CloverMissionStatus.ASSIGNED) // 클로버 미션 기록을 만들었다는 것은 클로버 미션이 할당되었다는 것
                 .missionCategory(cloverMission.getCategory())
                 .missionDifficulty(cloverMission.getDifficulty())
-                .assignedDate(LocalDate.now());
+                .assignedDate(assignedDate);
 
         // 클로버 미션 타입에 따라 클로버 서브 타입 정보 저장하고 목표치가 있다면 저장, 초기 진행 상황도 0으로 초기화
         if (cloverMission instanceof DistanceMission distanceMission) {
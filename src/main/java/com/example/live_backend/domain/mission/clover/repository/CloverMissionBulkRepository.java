@@ -0,0 +1,101 @@
+package com.example.live_backend.domain.mission.clover.repository;
+
+import com.example.live_backend.domain.mission.clover.Enum.CloverType;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.entity.DistanceMission;
+import com.example.live_backend.domain.mission.clover.entity.PhotoMission;
+import com.example.live_backend.domain.mission.clover.entity.TimerMission;
+import com.example.live_backend.domain.mission.clover.entity.VisitMission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클로버 미션 일괄 등록용 JDBC 쿼리
+ * IDENTITY 키라 JPA 로는 배치 INSERT 가 되지 않으므로, 한 청크를 한 번의 배치 INSERT 로 저장하고 생성된 ID를 돌려받습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CloverMissionBulkRepository {
+
+    private static final String INSERT_MISSION_SQL =
+            "INSERT INTO MISSIONS_CLOVER (MISSION_TYPE, TITLE, DESCRIPTION, CATEGORY, DIFFICULTY, " +
+            "REQUIRED_METERS, REQUIRED_SECONDS, ILLUSTRATION_URL, TARGET_ADDRESS, CREATED_AT, MODIFIED_AT) " +
+            "VALUES (:missionType, :title, :description, :category, :difficulty, " +
+            ":requiredMeters, :requiredSeconds, :illustrationUrl, :targetAddress, :now, :now)";
+    private static final String DELETE_MISSIONS_SQL = "DELETE FROM MISSIONS_CLOVER WHERE ID IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 미션 일괄 저장 (호출하는 쪽 트랜잭션 안에서 실행)
+     * @return 입력 순서대로 생성된 미션 ID
+     */
+    public List<Long> insertAll(List<CloverMission> missions) {
+        if (missions.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = missions.stream()
+                .map(mission -> toParams(mission, now))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_MISSION_SQL, batch, keyHolder, new String[]{"ID"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != missions.size()) {
+            throw new IllegalStateException("expected " + missions.size() + " generated keys but got " + keys.size());
+        }
+        return keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * 벡터 저장에 실패한 청크의 미션 삭제 (호출하는 쪽 트랜잭션 안에서 실행)
+     */
+    public void deleteAll(List<Long> missionIds) {
+        if (missionIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_MISSIONS_SQL, new MapSqlParameterSource("ids", missionIds));
+    }
+
+    private static SqlParameterSource toParams(CloverMission mission, Timestamp now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("title", mission.getTitle())
+                .addValue("description", mission.getDescription())
+                .addValue("category", mission.getCategory().name())
+                .addValue("difficulty", mission.getDifficulty().name())
+                .addValue("requiredMeters", null)
+                .addValue("requiredSeconds", null)
+                .addValue("illustrationUrl", null)
+                .addValue("targetAddress", null)
+                .addValue("now", now);
+
+        if (mission instanceof DistanceMission distanceMission) {
+            params.addValue("missionType", CloverType.DISTANCE.name())
+                    .addValue("requiredMeters", distanceMission.getRequiredMeters());
+        } else if (mission instanceof TimerMission timerMission) {
+            params.addValue("missionType", CloverType.TIMER.name())
+                    .addValue("requiredSeconds", timerMission.getRequiredSeconds());
+        } else if (mission instanceof PhotoMission photoMission) {
+            params.addValue("missionType", CloverType.PHOTO.name())
+                    .addValue("illustrationUrl", photoMission.getIllustrationUrl());
+        } else if (mission instanceof VisitMission visitMission) {
+            params.addValue("missionType", CloverType.VISIT.name())
+                    .addValue("targetAddress", visitMission.getTargetAddress());
+        }
+        return params;
+    }
+}
@@ -15,10 +15,11 @@ public interface CloverMissionRecordRepository extends JpaRepository<CloverMissi
 
     /**
      * 특정 사용자의 오늘 할당된 클로버 미션들 조회
+     * assigned_date 는 DATE 컬럼이므로 함수 없이 비교해 (member_id, assigned_date, mission_id) 유니크 인덱스를 탑니다.
      */
     @Query("SELECT cmr FROM CloverMissionRecord cmr " +
             "WHERE cmr.member.id = :userId " +
-            "AND DATE(cmr.assignedDate) = DATE(:today) ")
+            "AND cmr.assignedDate = :today ")
     List<CloverMissionRecord> findCloverMissionsList(
             @Param("userId") Long userId,
             @Param("today") LocalDate today
@@ -33,32 +34,38 @@ public interface CloverMissionRecordRepository extends JpaRepository<CloverMissi
                                @Param("start") LocalDate start,
                                @Param("end") LocalDate end);
 
+    /**
+     * 기간 내 완료한 미션 수 (start 포함, end 미포함)
+     */
     @Query("SELECT COUNT(cmr) FROM CloverMissionRecord cmr " +
             "WHERE cmr.member.id = :memberId AND cmr.cloverMissionStatus = :status " +
-            "AND cmr.completedAt BETWEEN :start AND :end")
+            "AND cmr.completedAt >= :start AND cmr.completedAt < :end")
     long countCompletedInPeriod(@Param("memberId") Long memberId,
                                 @Param("status") CloverMissionStatus status,
                                 @Param("start") LocalDateTime start,
                                 @Param("end") LocalDateTime end);
 
+    /**
+     * 기간 내 완료한 미션 (start 포함, end 미포함)
+     */
     @Query("SELECT cmr FROM CloverMissionRecord cmr " +
             "WHERE cmr.member.id = :memberId AND cmr.cloverMissionStatus = :status " +
-            "AND cmr.completedAt BETWEEN :start AND :end ORDER BY cmr.completedAt ASC")
+            "AND cmr.completedAt >= :start AND cmr.completedAt < :end ORDER BY cmr.completedAt ASC")
     List<CloverMissionRecord> findCompletedInPeriod(@Param("memberId") Long memberId,
                                                     @Param("status") CloverMissionStatus status,
                                                     @Param("start") LocalDateTime start,
                                                     @Param("end") LocalDateTime end);
 
-    @Query("SELECT cmr FROM CloverMissionRecord cmr " +
-            "WHERE cmr.member.id = :memberId AND cmr.cloverMissionStatus = :status " +
-            "AND DATE(cmr.completedAt) = DATE(:date) ORDER BY cmr.completedAt ASC")
-    List<CloverMissionRecord> findCompletedOnDate(@Param("memberId") Long memberId,
-                                                  @Param("status") CloverMissionStatus status,
-                                                  @Param("date") LocalDate date);
+    default List<CloverMissionRecord> findCompletedOnDate(Long memberId, CloverMissionStatus status, LocalDate date) {
+        return findCompletedInPeriod(memberId, status, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
+    /**
+     * 기간 내 카테고리별 완료 미션 수 (start 포함, end 미포함)
+     */
     @Query("SELECT cmr.missionCategory, COUNT(cmr) FROM CloverMissionRecord cmr " +
             "WHERE cmr.member.id = :memberId AND cmr.cloverMissionStatus = :status " +
-            "AND cmr.completedAt BETWEEN :start AND :end " +
+            "AND cmr.completedAt >= :start AND cmr.completedAt < :end " +
             "GROUP BY cmr.missionCategory")
     List<Object[]> countCompletedByCategoryInPeriod(@Param("memberId") Long memberId,
                                                     @Param("status") CloverMissionStatus status,
@@ -1,26 +1,59 @@
 package com.example.live_backend.domain.mission.clover.service;
 
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionFailureDto;
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionProgressDto;
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.CloverMissionCreateRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.CloverMissionVectorDataDto;
 import com.example.live_backend.domain.mission.clover.entity.CloverMission;
 import com.example.live_backend.domain.mission.clover.repository.CloverMissionRepository;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CloverAdminService {
 
     private final CloverMissionRepository cloverMissionRepository;
     private final VectorStore vectorStore;
+    private final CloverMissionBulkWriter cloverMissionBulkWriter;
+    private final ObjectMapper objectMapper;
+    private final int bulkChunkSize;
+
+    public CloverAdminService(
+            CloverMissionRepository cloverMissionRepository,
+            VectorStore vectorStore,
+            CloverMissionBulkWriter cloverMissionBulkWriter,
+            ObjectMapper objectMapper,
+            @Value("${clover.admin.bulk-chunk-size:100}") int bulkChunkSize) {
+        this.cloverMissionRepository = cloverMissionRepository;
+        this.vectorStore = vectorStore;
+        this.cloverMissionBulkWriter = cloverMissionBulkWriter;
+        this.objectMapper = objectMapper;
+        this.bulkChunkSize = bulkChunkSize;
+    }
 
     @Transactional
     public AdminRegisterCloverMissionResponseDto registerCloverMission(AdminRegisterCloverMissionRequestDto request) {
@@ -33,23 +66,10 @@ public class CloverAdminService {
         CloverMission savedMission = cloverMissionRepository.save(newMission);
 
         // document로 저장할 텍스트 생성
-        // document로 저장할 텍스트 생성
-        String vectorDocument = String.format(
-                "미션 제목: %s, 미션 설명: %s, 도움을 줄 수 있는 사용자의 특성: %s, 기대 효과: %s",
-                createDto.getMissionTitle(),
-                vectorDto.getActivityDescription(),
-                vectorDto.getRelatedFeature(),
-                vectorDto.getExpectedEffect()
-        );
+        String vectorDocument = vectorDocumentOf(createDto.getMissionTitle(), vectorDto);
 
         // metadata 생성
-        Map<String, Object> metadata = Map.of(
-                "clover_mission_id", String.valueOf(savedMission.getId()),
-                "mission_title", savedMission.getTitle(),
-                "mission_category", savedMission.getCategory().name(),
-                "mission_difficulty", savedMission.getDifficulty().name(),
-                "target_user_type", vectorDto.getTargetUserType().name()
-        );
+        Map<String, Object> metadata = metadataOf(savedMission.getId(), savedMission, vectorDto);
 
         vectorStore.add(List.of(new Document(vectorDocument, metadata)));
 
@@ -64,4 +84,178 @@ public class CloverAdminService {
                 .build();
     }
 
+    /**
+     * 클로버 미션 일괄 등록
+     * clover.admin.bulk-chunk-size 개씩 나눠 청크마다 배치 INSERT, 한 번의 임베딩 요청, 한 번의 벡터 저장을 합니다.
+     * 청크는 각자 커밋되므로 일부 청크가 실패해도 나머지는 등록되며, 실패한 미션은 위치와 사유를 함께 돌려줍니다.
+     */
+    public AdminBulkRegisterCloverMissionResponseDto registerCloverMissions(List<AdminRegisterCloverMissionRequestDto> requests) {
+        BulkRegistration registration = new BulkRegistration(progress -> {
+        });
+        requests.forEach(request -> registration.add(request, null));
+        return registration.finish();
+    }
+
+    /**
+     * NDJSON(한 줄에 미션 하나) 일괄 등록
+     * 입력을 끝까지 읽어 두지 않고 청크 단위로 등록하며, 청크가 끝날 때마다 progressListener 로 진행 상황을 알립니다.
+     * 빈 줄은 건너뛰고, 해석할 수 없는 줄은 해당 미션의 실패로 기록합니다.
+     */
+    public AdminBulkRegisterCloverMissionResponseDto registerCloverMissions(
+            InputStream ndjson, Consumer<AdminBulkRegisterCloverMissionProgressDto> progressListener) {
+        BulkRegistration registration = new BulkRegistration(progressListener);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    registration.add(objectMapper.readValue(line, AdminRegisterCloverMissionRequestDto.class), null);
+                } catch (JsonProcessingException e) {
+                    registration.add(null, ErrorCode.INVALID_INPUT.getDetail());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return registration.finish();
+    }
+
+    static String vectorDocumentOf(String missionTitle, CloverMissionVectorDataDto vectorDto) {
+        return String.format(
+                "미션 제목: %s, 미션 설명: %s, 도움을 줄 수 있는 사용자의 특성: %s, 기대 효과: %s",
+                missionTitle,
+                vectorDto.getActivityDescription(),
+                vectorDto.getRelatedFeature(),
+                vectorDto.getExpectedEffect()
+        );
+    }
+
+    static Map<String, Object> metadataOf(Long missionId, CloverMission mission, CloverMissionVectorDataDto vectorDto) {
+        return Map.of(
+                "clover_mission_id", String.valueOf(missionId),
+                "mission_title", mission.getTitle(),
+                "mission_category", mission.getCategory().name(),
+                "mission_difficulty", mission.getDifficulty().name(),
+                "target_user_type", vectorDto.getTargetUserType().name()
+        );
+    }
+
+    /**
+     * 일괄 등록 전에 요청을 미션으로 변환 (벡터 문서와 메타데이터에 필요한 값이 모두 있는지 확인)
+     */
+    private static CloverMission toMission(AdminRegisterCloverMissionRequestDto request) {
+        if (request == null || request.getCloverMissionCreateRequestDto() == null
+                || request.getCloverMissionVectorDataDto() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        CloverMissionCreateRequestDto createDto = request.getCloverMissionCreateRequestDto();
+        if (createDto.getCloverType() == null) {
+            throw new CustomException(ErrorCode.INVALID_CLOVER_TYPE);
+        }
+        if (createDto.getMissionTitle() == null || createDto.getMissionCategory() == null
+                || createDto.getMissionDifficulty() == null
+                || request.getCloverMissionVectorDataDto().getTargetUserType() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return CloverMission.from(createDto);
+    }
+
+    private static String titleOf(AdminRegisterCloverMissionRequestDto request) {
+        return request != null && request.getCloverMissionCreateRequestDto() != null
+                ? request.getCloverMissionCreateRequestDto().getMissionTitle()
+                : null;
+    }
+
+    private static AdminBulkRegisterCloverMissionFailureDto failure(int index, String missionTitle, String reason) {
+        return AdminBulkRegisterCloverMissionFailureDto.builder()
+                .index(index)
+                .missionTitle(missionTitle)
+                .reason(reason)
+                .build();
+    }
+
+    private record PendingMission(int index, CloverMission mission, CloverMissionVectorDataDto vectorData) {
+    }
+
+    /**
+     * 일괄 등록 한 번의 진행 상태
+     */
+    private final class BulkRegistration {
+
+        private final Consumer<AdminBulkRegisterCloverMissionProgressDto> progressListener;
+        private final List<Long> cloverMissionIds = new ArrayList<>();
+        private final List<AdminBulkRegisterCloverMissionFailureDto> failures = new ArrayList<>();
+        private final List<PendingMission> pending = new ArrayList<>();
+        private final List<AdminBulkRegisterCloverMissionFailureDto> chunkFailures = new ArrayList<>();
+        private int processed;
+
+        private BulkRegistration(Consumer<AdminBulkRegisterCloverMissionProgressDto> progressListener) {
+            this.progressListener = progressListener;
+        }
+
+        /**
+         * @param parseError 요청을 해석하지 못했을 때의 사유 (이 경우 request 는 null)
+         */
+        void add(AdminRegisterCloverMissionRequestDto request, String parseError) {
+            int index = processed + pending.size() + chunkFailures.size();
+            if (parseError != null) {
+                chunkFailures.add(failure(index, null, parseError));
+            } else {
+                try {
+                    pending.add(new PendingMission(index, toMission(request), request.getCloverMissionVectorDataDto()));
+                } catch (CustomException e) {
+                    chunkFailures.add(failure(index, titleOf(request), e.getMessage()));
+                }
+            }
+
+            if (pending.size() + chunkFailures.size() >= bulkChunkSize) {
+                flush();
+            }
+        }
+
+        AdminBulkRegisterCloverMissionResponseDto finish() {
+            if (!pending.isEmpty() || !chunkFailures.isEmpty()) {
+                flush();
+            }
+            return AdminBulkRegisterCloverMissionResponseDto.builder()
+                    .total(processed)
+                    .succeeded(cloverMissionIds.size())
+                    .failed(failures.size())
+                    .cloverMissionIds(List.copyOf(cloverMissionIds))
+                    .failures(List.copyOf(failures))
+                    .build();
+        }
+
+        private void flush() {
+            int chunkSize = pending.size() + chunkFailures.size();
+            if (!pending.isEmpty()) {
+                try {
+                    cloverMissionIds.addAll(cloverMissionBulkWriter.write(
+                            pending.stream().map(PendingMission::mission).toList(),
+                            pending.stream().map(PendingMission::vectorData).toList()));
+                } catch (RuntimeException e) {
+                    log.warn("클로버 미션 일괄 등록 청크 실패: {}건 ({}번부터)", pending.size(), pending.get(0).index(), e);
+                    String reason = e instanceof CustomException ? e.getMessage() : "미션 저장에 실패했습니다.";
+                    pending.forEach(mission -> chunkFailures.add(
+                            failure(mission.index(), mission.mission().getTitle(), reason)));
+                }
+            }
+
+            chunkFailures.sort(Comparator.comparingInt(AdminBulkRegisterCloverMissionFailureDto::getIndex));
+            processed += chunkSize;
+            failures.addAll(chunkFailures);
+
+            progressListener.accept(AdminBulkRegisterCloverMissionProgressDto.builder()
+                    .processed(processed)
+                    .succeeded(cloverMissionIds.size())
+                    .failed(failures.size())
+                    .failures(List.copyOf(chunkFailures))
+                    .build());
+            pending.clear();
+            chunkFailures.clear();
+        }
+    }
 }
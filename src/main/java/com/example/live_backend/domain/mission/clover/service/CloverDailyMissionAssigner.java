@@ -0,0 +1,99 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 하루치 클로버 미션 즉시 할당 (회원+날짜당 한 번)
+ * 같은 인스턴스에서 동시에 들어온 요청은 먼저 온 요청의 할당 결과를 함께 기다려 벡터 검색과 저장을 한 번만 수행하고,
+ * 다른 인스턴스와의 중복은 CloverMissionAssignWriter 가 회원 행 잠금으로 막습니다.
+ * 사전 할당 배치와 겹쳐 유니크 제약에 걸리면 먼저 커밋된 할당을 다시 읽어 반환합니다.
+ * 할당은 별도 트랜잭션에서 커넥션을 새로 얻으므로, 커넥션을 쥔 트랜잭션 안에서 호출하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CloverDailyMissionAssigner {
+
+    private final CloverMissionAssignWriter cloverMissionAssignWriter;
+    private final Map<FlightKey, CompletableFuture<List<CloverMissionRecord>>> flights = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter conflictCounter;
+
+    public CloverDailyMissionAssigner(CloverMissionAssignWriter cloverMissionAssignWriter, MeterRegistry meterRegistry) {
+        this.cloverMissionAssignWriter = cloverMissionAssignWriter;
+        this.leaderCounter = resultCounter(meterRegistry, "leader");
+        this.followerCounter = resultCounter(meterRegistry, "follower");
+        this.conflictCounter = resultCounter(meterRegistry, "conflict");
+    }
+
+    public List<CloverMissionRecord> assign(Member member, LocalDate assignedDate) {
+        FlightKey key = new FlightKey(member.getId(), assignedDate);
+        CompletableFuture<List<CloverMissionRecord>> flight = new CompletableFuture<>();
+        CompletableFuture<List<CloverMissionRecord>> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            followerCounter.increment();
+            return await(inFlight);
+        }
+
+        leaderCounter.increment();
+        try {
+            List<CloverMissionRecord> records = assignOnce(member, assignedDate);
+            flight.complete(records);
+            return records;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private List<CloverMissionRecord> assignOnce(Member member, LocalDate assignedDate) {
+        try {
+            return cloverMissionAssignWriter.assignIfAbsent(member, assignedDate);
+        } catch (DataIntegrityViolationException e) {
+            conflictCounter.increment();
+            List<CloverMissionRecord> assigned = cloverMissionAssignWriter.findAssigned(member.getId(), assignedDate);
+            if (assigned.isEmpty()) {
+                throw e;
+            }
+            log.info("[CloverDailyMissionAssigner] 동시 할당 충돌 - 먼저 저장된 할당을 사용합니다. memberId: {}", member.getId());
+            return assigned;
+        }
+    }
+
+    private static List<CloverMissionRecord> await(CompletableFuture<List<CloverMissionRecord>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("clover.assign.daily")
+                .description("하루치 미션 즉시 할당 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(Long memberId, LocalDate assignedDate) {
+    }
+}
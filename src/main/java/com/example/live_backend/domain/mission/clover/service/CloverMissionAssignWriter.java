@@ -0,0 +1,90 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionRecordRepository;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionRepository;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루치 클로버 미션 할당을 별도 트랜잭션으로 저장
+ * 호출한 쪽 트랜잭션과 분리해 커밋하므로, 같은 할당을 기다리던 다른 요청과 다른 인스턴스가 곧바로 결과를 볼 수 있습니다.
+ * 벡터 검색으로 추천을 먼저 계산한 뒤, 짧은 트랜잭션에서 회원 행을 잠가 (member_id, assigned_date) 단위로
+ * 인스턴스 간에도 한 번만 할당하며, 잠금을 기다린 요청은 먼저 커밋된 할당을 읽어 반환합니다.
+ */
+@Component
+public class CloverMissionAssignWriter {
+
+    private final VectorDBService vectorDBService;
+    private final CloverMissionRepository cloverMissionRepository;
+    private final CloverMissionRecordRepository cloverMissionRecordRepository;
+    private final CloverSurveySummary cloverSurveySummary;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CloverMissionAssignWriter(
+            VectorDBService vectorDBService,
+            CloverMissionRepository cloverMissionRepository,
+            CloverMissionRecordRepository cloverMissionRecordRepository,
+            CloverSurveySummary cloverSurveySummary,
+            MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager) {
+        this.vectorDBService = vectorDBService;
+        this.cloverMissionRepository = cloverMissionRepository;
+        this.cloverMissionRecordRepository = cloverMissionRecordRepository;
+        this.cloverSurveySummary = cloverSurveySummary;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 해당 날짜에 할당된 미션이 없을 때만 새로 할당
+     * 벡터 검색은 잠금과 커넥션을 잡지 않은 상태에서 실행합니다.
+     */
+    public List<CloverMissionRecord> assignIfAbsent(Member member, LocalDate assignedDate) {
+        List<CloverMissionRecord> assigned = cloverMissionRecordRepository.findCloverMissionsList(member.getId(), assignedDate);
+        if (!assigned.isEmpty()) {
+            return assigned;
+        }
+
+        List<Long> missionIds = vectorDBService.searchSimilarMissionsIds(
+                cloverSurveySummary.of(member.getId()), CloverMissionService.DAILY_MISSION_COUNT, List.of());
+        List<CloverMission> missions = cloverMissionRepository.findAllById(missionIds);
+
+        return transactionTemplate.execute(status -> {
+            // 잠금을 얻은 뒤 다시 조회해야 검색하는 동안 다른 요청이 커밋한 할당이 보임
+            Member lockedMember = memberRepository.findByIdForUpdate(member.getId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            List<CloverMissionRecord> committed = cloverMissionRecordRepository.findCloverMissionsList(member.getId(), assignedDate);
+            if (!committed.isEmpty()) {
+                return committed;
+            }
+
+            List<CloverMissionRecord> records = missions.stream()
+                    .map(mission -> CloverMissionRecord.from(mission, lockedMember, assignedDate))
+                    .toList();
+            return cloverMissionRecordRepository.saveAllAndFlush(records);
+        });
+    }
+
+    /**
+     * 충돌 후 다른 요청이 방금 커밋한 할당을 다시 읽으므로, 레플리카가 아닌 primary 에서 조회 (readOnly 가 아닌 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CloverMissionRecord> findAssigned(Long memberId, LocalDate assignedDate) {
+        return cloverMissionRecordRepository.findCloverMissionsList(memberId, assignedDate);
+    }
+}
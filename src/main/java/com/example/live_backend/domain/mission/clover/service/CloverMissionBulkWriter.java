@@ -0,0 +1,79 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.mission.clover.dto.CloverMissionVectorDataDto;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 등록 청크 하나를 저장
+ * 미션을 배치 INSERT 해 커밋한 뒤, 청크의 문서를 한 번의 vectorStore.add 로 넣습니다 (임베딩도 한 번에 요청).
+ * 벡터를 커밋 전에 넣으면 커밋이 실패했을 때 DB 에 없는 미션이 검색되므로, 커밋이 끝난 미션만 벡터로 저장합니다.
+ * 벡터 저장에 실패하면 청크의 문서와 미션을 지워, 검색되지 않는 미션이 남지 않게 합니다.
+ * 호출하는 쪽 트랜잭션 밖에서 불러야 합니다.
+ */
+@Slf4j
+@Component
+public class CloverMissionBulkWriter {
+
+    private final CloverMissionBulkRepository cloverMissionBulkRepository;
+    private final VectorStore vectorStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public CloverMissionBulkWriter(
+            CloverMissionBulkRepository cloverMissionBulkRepository,
+            VectorStore vectorStore,
+            PlatformTransactionManager transactionManager) {
+        this.cloverMissionBulkRepository = cloverMissionBulkRepository;
+        this.vectorStore = vectorStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return 입력 순서대로 생성된 미션 ID
+     */
+    public List<Long> write(List<CloverMission> missions, List<CloverMissionVectorDataDto> vectorData) {
+        List<Long> missionIds = transactionTemplate.execute(status -> cloverMissionBulkRepository.insertAll(missions));
+
+        List<Document> documents = new ArrayList<>(missions.size());
+        for (int i = 0; i < missions.size(); i++) {
+            CloverMission mission = missions.get(i);
+            documents.add(new Document(
+                    CloverAdminService.vectorDocumentOf(mission.getTitle(), vectorData.get(i)),
+                    CloverAdminService.metadataOf(missionIds.get(i), mission, vectorData.get(i))));
+        }
+
+        try {
+            vectorStore.add(documents);
+        } catch (RuntimeException e) {
+            discard(missionIds, documents, e);
+            throw e;
+        }
+        return missionIds;
+    }
+
+    /**
+     * 벡터 저장에 실패한 청크 정리 (일부 문서만 들어갔을 수 있으므로 문서도 함께 지움)
+     */
+    private void discard(List<Long> missionIds, List<Document> documents, RuntimeException cause) {
+        try {
+            vectorStore.delete(documents.stream().map(Document::getId).toList());
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> cloverMissionBulkRepository.deleteAll(missionIds));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("[CloverMissionBulkWriter] 벡터 저장에 실패한 미션 삭제 실패 - missionIds: {}", missionIds, e);
+        }
+    }
+}
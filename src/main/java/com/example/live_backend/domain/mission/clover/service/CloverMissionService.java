@@ -19,29 +19,32 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 
-import static java.util.Collections.emptyList;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CloverMissionService {
 
+    public static final int DAILY_MISSION_COUNT = 3;
+
     private final VectorDBService vectorDBService;
     private final CloverMissionRepository cloverMissionRepository;
     private final MemberRepository memberRepository;
 
     private final CloverMissionRecordRepository cloverMissionRecordRepository;
+    private final CloverDailyMissionAssigner cloverDailyMissionAssigner;
+    private final CloverSurveySummary cloverSurveySummary;
 
-    @Transactional
+    // 즉시 할당은 별도 트랜잭션(REQUIRES_NEW)으로 저장하므로, 커넥션을 두 개 쥐지 않도록 바깥 트랜잭션 없이 실행
     public CloverMissionListResponseDto getCloverMissionList(Long memberId) {
 
         Member member = findUser(memberId);
         LocalDate today  = LocalDate.now();
         List<CloverMissionRecord> todayMissions = cloverMissionRecordRepository.findCloverMissionsList(memberId, today);
 
-        // 만약 오늘의 클로버 미션 리스트를 조회했는데 결과가 없다면 미션 할당받는 아래의 로직 수행
+        // 보통은 전날 밤 CloverMissionPreassignJob 이 할당해 두므로 조회만 하고,
+        // 배치 이후 가입했거나 배치에서 실패한 회원만 즉시 할당받음 (동시 요청이 와도 하루 한 번만 할당)
         if (todayMissions.isEmpty()) {
-            List<CloverMissionRecord> newMissions = assignNewCloverMissions(member, emptyList());
+            List<CloverMissionRecord> newMissions = cloverDailyMissionAssigner.assign(member, today);
             return CloverMissionListResponseDto.of(memberId, newMissions);
         }
 
@@ -117,10 +120,9 @@ public class CloverMissionService {
 
     private List<CloverMissionRecord> assignNewCloverMissions(Member member, List<Long> excludedIds) {
 
-        // TODO: 향후 실제 설문 요약 로직으로 대체 필요
-        String tempSurveySummary = "집안에서 컴퓨터만 보고 있으니 너무 답답해요. 하늘이나 자연을 보면서 마음을 정화하고 싶고, 산책도 좋아요.";
+        String surveySummary = cloverSurveySummary.of(member.getId());
 
-        List<Long> newMissionsIds = vectorDBService.searchSimilarMissionsIds(tempSurveySummary, 3, excludedIds);
+        List<Long> newMissionsIds = vectorDBService.searchSimilarMissionsIds(surveySummary, DAILY_MISSION_COUNT, excludedIds);
 
         List<CloverMission> findMissions = cloverMissionRepository.findAllById(newMissionsIds);
         List<CloverMissionRecord> newMissionRecordList = findMissions.stream()
@@ -0,0 +1,75 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.survey.entity.SurveyAnswer;
+import com.example.live_backend.domain.survey.entity.SurveyResponse;
+import com.example.live_backend.domain.survey.repository.SurveyResponseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 클로버 미션 추천에 쓰는 회원 상태 요약문
+ * 요청 경로의 즉시 할당과 사전 할당 배치가 같은 요약문으로 검색하도록 한 곳에서 만듭니다.
+ * 회원의 가장 최근 설문 응답을 "질문: 선택지" 형태로 문항 순서대로 이어 붙이며,
+ * 설문을 제출하지 않은 회원은 모두 같은 기본 요약문으로 검색합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CloverSurveySummary {
+
+    static final String DEFAULT_SUMMARY = "집안에서 컴퓨터만 보고 있으니 너무 답답해요. 하늘이나 자연을 보면서 마음을 정화하고 싶고, 산책도 좋아요.";
+
+    private final SurveyResponseRepository surveyResponseRepository;
+
+    public String of(Long memberId) {
+        return ofAll(Set.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 회원별 요약문 (최근 설문 응답을 한 번의 쿼리로 조회)
+     */
+    public Map<Long, String> ofAll(Collection<Long> memberIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(memberIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> summaries = new HashMap<>();
+        surveyResponseRepository.findLatestByMemberIdIn(distinctIds)
+                .forEach(response -> summaries.put(response.getMemberId(), summarize(response)));
+        distinctIds.forEach(memberId -> summaries.putIfAbsent(memberId, DEFAULT_SUMMARY));
+        return summaries;
+    }
+
+    static String summarize(SurveyResponse response) {
+        String summary = response.getAnswers().stream()
+                .sorted(Comparator.comparing(SurveyAnswer::getQuestionNumber,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(CloverSurveySummary::describe)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(", "));
+        return summary.isEmpty() ? DEFAULT_SUMMARY : summary;
+    }
+
+    private static String describe(SurveyAnswer answer) {
+        String answerText = answer.getSelectedOption() != null
+                ? answer.getSelectedOption().getOptionText()
+                : answer.getTextAnswer();
+        if (answerText == null && answer.getNumberAnswer() != null) {
+            answerText = String.valueOf(answer.getNumberAnswer());
+        }
+        if (answerText == null || answer.getSurveyQuestion() == null) {
+            return null;
+        }
+        return answer.getSurveyQuestion().getQuestionText() + ": " + answerText;
+    }
+}
@@ -2,26 +2,69 @@ package com.example.live_backend.domain.mission.clover.service;
 
 import com.example.live_backend.global.error.exception.CustomException;
 import com.example.live_backend.global.error.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
+/**
+ * 클로버 미션 벡터 검색
+ * 요청 경로와 사전 할당 배치가 함께 쓰므로, 벡터 저장소(와 임베딩 API)로 동시에 나가는 검색을
+ * clover.vector-search.max-concurrent 개로 제한합니다. 허용량을 clover.vector-search.acquire-timeout-ms 동안
+ * 얻지 못하면 MISSION_RECOMMENDATION_BUSY 로 실패합니다.
+ * 배치 검색은 그중 clover.vector-search.batch-max-concurrent 개(최대 허용량 - 1)까지만 쓰므로, 배치가 도는 동안에도
+ * 요청 경로 검색에 남는 허용량이 있습니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class VectorDBService {
 
     private final VectorStore vectorStore;
+    private final Semaphore searchPermits;
+    private final Semaphore batchSearchPermits;
+    private final long acquireTimeoutMillis;
+
+    public VectorDBService(
+            VectorStore vectorStore,
+            @Value("${clover.vector-search.max-concurrent:8}") int maxConcurrentSearches,
+            @Value("${clover.vector-search.batch-max-concurrent:4}") int maxConcurrentBatchSearches,
+            @Value("${clover.vector-search.acquire-timeout-ms:5000}") long acquireTimeoutMillis) {
+        this.vectorStore = vectorStore;
+        this.searchPermits = new Semaphore(maxConcurrentSearches, true);
+        this.batchSearchPermits = new Semaphore(
+                Math.max(1, Math.min(maxConcurrentBatchSearches, maxConcurrentSearches - 1)), true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * 배치용 검색 (배치 허용량을 얻을 때까지 기다린 뒤 searchSimilarMissionsIds 와 같이 검색)
+     */
+    public List<Long> searchSimilarMissionsIdsForBatch(String queryText, int count, List<Long> excludedMissionIds) {
+        try {
+            batchSearchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.MISSION_RECOMMENDATION_BUSY);
+        }
+
+        try {
+            return searchSimilarMissionsIds(queryText, count, excludedMissionIds);
+        } finally {
+            batchSearchPermits.release();
+        }
+    }
 
     /**
      * 주어진 텍스트와 가장 유사한 클로버 미션을 검색합니다.
+     * 질의 임베딩은 CachingEmbeddingModel 을 거치므로 같은 요약문은 외부 임베딩 API를 다시 호출하지 않습니다.
      * @param queryText 유사도 검색을 위한 사용자 상태 요약 텍스트(설문 요약본)
      * @param  count    검색할 미션의 개수
      * @param  excludedMissionIds    검색 제외할 미션의 Id
@@ -42,7 +85,7 @@ public class VectorDBService {
 
         SearchRequest request = builder.build();
 
-        List<Document> recommendedDocuments = vectorStore.similaritySearch(request);
+        List<Document> recommendedDocuments = search(request);
 
         if (recommendedDocuments == null || recommendedDocuments.isEmpty()) {
             throw new CustomException(ErrorCode.MISSION_NOT_FOUND);
@@ -52,4 +95,21 @@ public class VectorDBService {
                 .map(doc -> Long.valueOf(String.valueOf(doc.getMetadata().get("clover_mission_id"))))
                 .toList();
     }
+
+    private List<Document> search(SearchRequest request) {
+        try {
+            if (!searchPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomException(ErrorCode.MISSION_RECOMMENDATION_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.MISSION_RECOMMENDATION_BUSY);
+        }
+
+        try {
+            return vectorStore.similaritySearch(request);
+        } finally {
+            searchPermits.release();
+        }
+    }
 }
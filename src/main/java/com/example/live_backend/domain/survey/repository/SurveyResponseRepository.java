@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -22,4 +23,10 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
     
     Long countByMember_Id(Long memberId);
 
+    // 회원별 가장 최근 설문 응답 (클로버 미션 추천 요약문용)
+    @EntityGraph(attributePaths = {"answers", "answers.surveyQuestion", "answers.selectedOption"})
+    @Query("SELECT sr FROM SurveyResponse sr WHERE sr.member.id IN :memberIds " +
+           "AND sr.id = (SELECT MAX(latest.id) FROM SurveyResponse latest WHERE latest.member.id = sr.member.id)")
+    List<SurveyResponse> findLatestByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
 } 
\ No newline at end of file
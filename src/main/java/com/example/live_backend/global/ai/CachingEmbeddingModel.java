@@ -0,0 +1,50 @@
+package com.example.live_backend.global.ai;
+
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+/**
+ * EmbeddingCache 를 거치는 EmbeddingModel
+ * VectorStore 의 유사도 검색은 질의 텍스트를 embed(String) 으로 벡터화하므로,
+ * 같은 질의(설문 요약 등)는 외부 API 대신 캐시된 벡터로 검색합니다.
+ * 문서 저장(embed(Document), call)은 매번 내용이 달라 캐시하지 않고 그대로 위임합니다.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+	private final EmbeddingModel delegate;
+	private final EmbeddingCache embeddingCache;
+
+	public CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCache embeddingCache) {
+		this.delegate = delegate;
+		this.embeddingCache = embeddingCache;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return delegate.call(request);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return delegate.embed(document);
+	}
+
+	@Override
+	public float[] embed(String text) {
+		return embeddingCache.get(text, delegate::embed);
+	}
+
+	@Override
+	public List<float[]> embed(List<String> texts) {
+		return embeddingCache.getAll(texts, delegate::embed);
+	}
+
+	@Override
+	public int dimensions() {
+		return delegate.dimensions();
+	}
+}
@@ -0,0 +1,150 @@
+package com.example.live_backend.global.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.live_backend.global.cache.LruCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 텍스트 임베딩 캐시
+ * 모델명과 원문의 SHA-256 해시를 키로 메모리(LRU, ai.embedding-cache.max-entries 개)와
+ * DB(query_embeddings, ai.embedding-cache.persistent 가 true 일 때) 두 단계에서 벡터를 찾고,
+ * 둘 다 없는 텍스트만 한 번에 모아 외부 임베딩 API를 호출합니다.
+ * DB 단계는 실패해도 외부 호출로 대체되며 추천 요청을 실패시키지 않습니다.
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+	private final QueryEmbeddingRepository queryEmbeddingRepository;
+	private final String model;
+	private final boolean persistent;
+	private final LruCache<String, float[]> memory;
+
+	private final Counter memoryHitCounter;
+	private final Counter persistentHitCounter;
+	private final Counter missCounter;
+
+	public EmbeddingCache(
+		QueryEmbeddingRepository queryEmbeddingRepository,
+		@Value("${spring.ai.openai.embedding.options.model:text-embedding-ada-002}") String model,
+		@Value("${ai.embedding-cache.max-entries:10000}") int maxEntries,
+		@Value("${ai.embedding-cache.persistent:true}") boolean persistent,
+		MeterRegistry meterRegistry) {
+		this.queryEmbeddingRepository = queryEmbeddingRepository;
+		this.model = model;
+		this.persistent = persistent;
+		this.memory = new LruCache<>(maxEntries);
+		this.memoryHitCounter = resultCounter(meterRegistry, "memory");
+		this.persistentHitCounter = resultCounter(meterRegistry, "persistent");
+		this.missCounter = resultCounter(meterRegistry, "miss");
+	}
+
+	/**
+	 * 텍스트 하나의 임베딩 (캐시에 없으면 embedder 로 계산해 저장)
+	 */
+	public float[] get(String text, Function<String, float[]> embedder) {
+		return getAll(List.of(text), texts -> texts.stream().map(embedder).toList()).get(0);
+	}
+
+	/**
+	 * 텍스트 목록의 임베딩 (입력 순서 유지)
+	 *
+	 * @param embedder 캐시에 없는 텍스트 목록을 받아 같은 순서의 임베딩을 반환하는 함수 (중복 없이 한 번만 호출)
+	 */
+	public List<float[]> getAll(List<String> texts, Function<List<String>, List<float[]>> embedder) {
+		List<String> keys = texts.stream().map(this::keyOf).toList();
+		Map<String, float[]> found = new LinkedHashMap<>(memory.getAll(keys));
+		memoryHitCounter.increment(found.size());
+
+		Map<String, String> missing = new LinkedHashMap<>();
+		for (int i = 0; i < texts.size(); i++) {
+			if (!found.containsKey(keys.get(i))) {
+				missing.putIfAbsent(keys.get(i), texts.get(i));
+			}
+		}
+
+		if (persistent && !missing.isEmpty()) {
+			Map<String, float[]> loaded = loadPersisted(missing.keySet());
+			persistentHitCounter.increment(loaded.size());
+			memory.putAll(loaded);
+			found.putAll(loaded);
+			missing.keySet().removeAll(loaded.keySet());
+		}
+
+		if (!missing.isEmpty()) {
+			missCounter.increment(missing.size());
+			List<float[]> embedded = embedder.apply(List.copyOf(missing.values()));
+			int index = 0;
+			for (String key : missing.keySet()) {
+				float[] vector = embedded.get(index++);
+				memory.put(key, vector);
+				found.put(key, vector);
+				persist(key, vector);
+			}
+		}
+
+		List<float[]> vectors = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			vectors.add(found.get(key).clone());
+		}
+		return vectors;
+	}
+
+	String keyOf(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(model.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Map<String, float[]> loadPersisted(Collection<String> keys) {
+		Map<String, float[]> loaded = new LinkedHashMap<>();
+		try {
+			for (QueryEmbedding embedding : queryEmbeddingRepository.findByContentHashIn(keys)) {
+				loaded.put(embedding.getContentHash(), embedding.toVector());
+			}
+		} catch (RuntimeException e) {
+			log.warn("[EmbeddingCache] 저장된 임베딩 조회 실패 - 외부 호출로 대체합니다.", e);
+		}
+		return loaded;
+	}
+
+	private void persist(String key, float[] vector) {
+		if (!persistent) {
+			return;
+		}
+		try {
+			queryEmbeddingRepository.insertIfAbsent(
+				key, model, vector.length, QueryEmbedding.encode(vector), LocalDateTime.now());
+		} catch (RuntimeException e) {
+			log.warn("[EmbeddingCache] 임베딩 저장 실패 - hash: {}", key, e);
+		}
+	}
+
+	private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("ai.embedding_cache")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
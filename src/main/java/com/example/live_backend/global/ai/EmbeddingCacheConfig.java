@@ -0,0 +1,30 @@
+package com.example.live_backend.global.ai;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동 구성된 EmbeddingModel 을 CachingEmbeddingModel 로 감싸 VectorStore 가 캐시를 거치도록 합니다.
+ * ai.embedding-cache.enabled=false 이면 감싸지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ai.embedding-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EmbeddingCacheConfig {
+
+	@Bean
+	public static BeanPostProcessor cachingEmbeddingModelPostProcessor(ObjectProvider<EmbeddingCache> embeddingCache) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof EmbeddingModel embeddingModel && !(bean instanceof CachingEmbeddingModel)) {
+					return new CachingEmbeddingModel(embeddingModel, embeddingCache.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.live_backend.global.ai;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영속 임베딩 캐시 항목
+ * 모델명과 원문으로 만든 SHA-256 해시를 키로, 임베딩 벡터를 float32 little-endian 바이트로 저장합니다.
+ */
+@Entity
+@Table(name = "query_embeddings")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QueryEmbedding {
+
+	@Id
+	@Column(length = 64)
+	private String contentHash;
+
+	@Column(nullable = false, length = 100)
+	private String model;
+
+	@Column(nullable = false)
+	private int dimensions;
+
+	@Lob
+	@Column(nullable = false)
+	private byte[] vector;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	public float[] toVector() {
+		float[] values = new float[dimensions];
+		ByteBuffer.wrap(vector).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(values);
+		return values;
+	}
+
+	public static byte[] encode(float[] values) {
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(values);
+		return buffer.array();
+	}
+}
@@ -0,0 +1,36 @@
+package com.example.live_backend.global.ai;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QueryEmbeddingRepository extends JpaRepository<QueryEmbedding, String> {
+
+	/**
+	 * 저장된 임베딩 조회
+	 * 조회 실패가 호출한 쪽 트랜잭션을 rollback-only 로 만들지 않도록 별도 트랜잭션에서 실행합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	List<QueryEmbedding> findByContentHashIn(Collection<String> contentHashes);
+
+	/**
+	 * 임베딩 저장 (이미 있으면 무시)
+	 * 캐시 저장 실패가 호출한 쪽 트랜잭션을 롤백시키지 않도록 별도 트랜잭션에서 실행합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Modifying
+	@Query(value = "INSERT INTO QUERY_EMBEDDINGS (CONTENT_HASH, MODEL, DIMENSIONS, VECTOR, CREATED_AT) " +
+				   "VALUES (:contentHash, :model, :dimensions, :vector, :createdAt) " +
+				   "ON DUPLICATE KEY UPDATE CONTENT_HASH = CONTENT_HASH",
+		   nativeQuery = true)
+	int insertIfAbsent(@Param("contentHash") String contentHash, @Param("model") String model,
+		@Param("dimensions") int dimensions, @Param("vector") byte[] vector,
+		@Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,55 @@
+package com.example.live_backend.global.batch;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 진행 위치
+ * ID 순으로 나눠 처리하는 작업이 마지막으로 완료한 ID를 배치와 같은 트랜잭션에서 기록해,
+ * 중단된 작업이 다음 실행에서 그 다음 ID부터 이어서 처리하도록 합니다.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+	@Id
+	@Column(length = 100)
+	private String jobName;
+
+	@Column(nullable = false)
+	private Long lastProcessedId;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	private JobCheckpoint(String jobName) {
+		this.jobName = jobName;
+		this.lastProcessedId = 0L;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public static JobCheckpoint start(String jobName) {
+		return new JobCheckpoint(jobName);
+	}
+
+	public void advance(Long processedId) {
+		this.lastProcessedId = processedId;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 한 바퀴를 끝까지 처리한 경우 (다음 실행은 처음부터)
+	 */
+	public void reset() {
+		advance(0L);
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.live_backend.global.batch;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+	/**
+	 * 같은 작업이 여러 인스턴스에서 동시에 실행되지 않도록 배치 트랜잭션 동안 행 잠금
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM JobCheckpoint c WHERE c.jobName = :jobName")
+	Optional<JobCheckpoint> findForUpdate(@Param("jobName") String jobName);
+
+	default long findLastProcessedId(String jobName) {
+		return findById(jobName).map(JobCheckpoint::getLastProcessedId).orElse(0L);
+	}
+}
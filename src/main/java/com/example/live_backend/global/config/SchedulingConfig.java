@@ -0,0 +1,28 @@
+package com.example.live_backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업 실행 스레드 풀
+ * 기본 스케줄러는 스레드 하나로 모든 @Scheduled 작업을 실행해, 보관 이동이나 사전 할당 같은 긴 배치가 도는 동안
+ * 조회수 반영, 실시간 푸시, 레플리카 지연 확인 같은 짧은 주기 작업이 멈춥니다.
+ * spring.task.scheduling.pool.size 개 스레드로 작업을 나눠 실행합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:8}") int poolSize) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("scheduling-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+}
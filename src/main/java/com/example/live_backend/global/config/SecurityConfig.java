@@ -13,6 +13,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.example.live_backend.domain.auth.jwt.JwtFilter;
 
+import jakarta.servlet.DispatcherType;
+
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
@@ -67,6 +69,8 @@ public class SecurityConfig {
 			// 메타 어노테이션(@PublicApi, @AuthenticatedApi)으로 제어하는 엔드포인트는
 			// 여기서는 authenticated()로 설정하고, 실제 권한은 메서드 레벨에서 결정
 			.authorizeHttpRequests(auth -> auth
+				// SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers(
 					"/api/auth/kakao/login",
 					"/api/auth/refresh",
@@ -0,0 +1,22 @@
+package com.example.live_backend.global.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.live_backend.global.etag.ConditionalGetInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final BeanFactory beanFactory;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ConditionalGetInterceptor(beanFactory));
+	}
+}
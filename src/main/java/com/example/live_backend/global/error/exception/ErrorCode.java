@@ -34,6 +34,7 @@ public enum ErrorCode {
 	INVALID_QUERY_TYPE(BAD_REQUEST, "잘못된 쿼리 타입입니다."),
 	QUERY_TYPE_REQUIRED(BAD_REQUEST, "쿼리 타입은 필수 입력값입니다."),
 	INVALID_CATEGORY(BAD_REQUEST, "잘못된 카테고리입니다."),
+	INVALID_CURSOR(BAD_REQUEST, "잘못된 커서입니다."),
 
 	/* ------------------ 401 UNAUTHORIZED : 인증 관련 오류 ------------------ */
 	DENIED_UNAUTHORIZED_USER(UNAUTHORIZED, "로그인되지 않은 유저의 접근입니다."),
@@ -63,7 +64,11 @@ public enum ErrorCode {
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
 	UNSUPPORTED_CLOVER_TYPE(HttpStatus.INTERNAL_SERVER_ERROR, "지원하지 않는 클로버 미션 타입입니다."),
 	S3_CONNECTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 연결에 실패했습니다."),
-	PRESIGNED_URL_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 URL 생성에 실패했습니다.");
+	PRESIGNED_URL_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 URL 생성에 실패했습니다."),
+
+	/* ------------------ 503 SERVICE_UNAVAILABLE : 일시적 과부하 ------------------ */
+	MISSION_RECOMMENDATION_BUSY(SERVICE_UNAVAILABLE, "미션 추천 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+	BOARD_LIVE_BUSY(SERVICE_UNAVAILABLE, "실시간 집계 구독자가 많습니다. 잠시 후 다시 시도해 주세요.");
 
 	private final HttpStatus httpStatus;
 	private final String detail;
@@ -0,0 +1,31 @@
+package com.example.live_backend.global.etag;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET(ETag / If-None-Match)을 적용할 조회 API를 명시하는 어노테이션입니다.
+ * 지정한 {@link ETagResolver} 가 계산한 버전이 If-None-Match 와 같으면 컨트롤러를 실행하지 않고 304로 응답합니다.
+ * 304 응답은 메서드 보안(@PreAuthorize)보다 먼저 결정되므로, 공개 API가 아니면 계산기에서 권한을 확인해야 합니다.
+ *
+ * 사용 예시:
+ * {@code
+ * @ConditionalGet(BoardDetailETagResolver.class)
+ * @GetMapping("/{boardId}")
+ * public ResponseHandler<BoardDetailResponseDto> getBoardDetail(...) {
+ * }
+ * }
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+	/**
+	 * 리소스 버전을 계산할 빈 타입
+	 */
+	Class<? extends ETagResolver> value();
+}
@@ -0,0 +1,80 @@
+package com.example.live_backend.global.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ConditionalGet} 이 붙은 조회 API의 ETag 처리
+ * 버전이 If-None-Match 와 일치하면 컨트롤러(DTO 조립)를 건너뛰고 304로 응답하고,
+ * 그렇지 않으면 ETag 헤더를 붙인 뒤 컨트롤러를 실행합니다.
+ * 버전에 조회 수처럼 자주 바뀌는 값은 포함하지 않으므로 weak ETag 를 사용합니다.
+ * 계산기 빈은 요청 시점에 찾으므로, 슬라이스 테스트처럼 계산기 빈이 없는 컨텍스트에도 등록할 수 있습니다.
+ */
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+	private final BeanFactory beanFactory;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !isSafeMethod(request)) {
+			return true;
+		}
+		ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+		if (conditionalGet == null) {
+			return true;
+		}
+
+		ETagResolver resolver = beanFactory.getBean(conditionalGet.value());
+		String version = resolver.resolve(request);
+		if (version == null) {
+			return true;
+		}
+
+		String etag = toWeakETag(version);
+		response.setHeader(HttpHeaders.ETAG, etag);
+		if (matches(request, etag)) {
+			resolver.onNotModified(request);
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return false;
+		}
+		return true;
+	}
+
+	private boolean isSafeMethod(HttpServletRequest request) {
+		return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+	}
+
+	private String toWeakETag(String version) {
+		return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	private boolean matches(HttpServletRequest request, String etag) {
+		String opaqueTag = stripWeakPrefix(etag);
+		Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+		while (headers != null && headers.hasMoreElements()) {
+			for (String candidate : headers.nextElement().split(",")) {
+				String tag = candidate.trim();
+				if (tag.equals("*") || stripWeakPrefix(tag).equals(opaqueTag)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private String stripWeakPrefix(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+}
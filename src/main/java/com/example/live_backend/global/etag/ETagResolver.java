@@ -0,0 +1,21 @@
+package com.example.live_backend.global.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 조회 API 응답의 버전 계산기
+ * 응답 본문을 만들지 않고 버전 값만 싸게 계산해야 하며, 본문이 바뀌면 버전도 바뀌어야 합니다.
+ */
+public interface ETagResolver {
+
+	/**
+	 * 현재 리소스 버전 (null 이면 조건부 처리 없이 컨트롤러를 실행)
+	 */
+	String resolve(HttpServletRequest request);
+
+	/**
+	 * 304 응답 직전 호출 (조회 기록처럼 본문 생성과 무관하게 남겨야 하는 처리)
+	 */
+	default void onNotModified(HttpServletRequest request) {
+	}
+}
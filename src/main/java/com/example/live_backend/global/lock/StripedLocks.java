@@ -0,0 +1,41 @@
+package com.example.live_backend.global.lock;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 프로세스 내 락 (고정 개수의 락을 키 해시로 나눠 씀)
+ * 키마다 락을 만들지 않아 메모리가 일정하며, 해시가 같은 서로 다른 키는 같은 락을 공유할 수 있습니다.
+ */
+public class StripedLocks {
+
+	private final Lock[] locks;
+	private final int mask;
+
+	/**
+	 * @param stripes 락 개수 (2의 거듭제곱으로 올림)
+	 */
+	public StripedLocks(int stripes) {
+		if (stripes <= 0) {
+			throw new IllegalArgumentException("stripes must be positive: " + stripes);
+		}
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		this.locks = new Lock[Math.max(size, 1)];
+		this.mask = locks.length - 1;
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	public Lock get(Object... keys) {
+		int hash = Arrays.hashCode(keys);
+		// 하위 비트만 쓰므로 상위 비트를 섞음
+		hash ^= (hash >>> 16);
+		return locks[hash & mask];
+	}
+
+	public int size() {
+		return locks.length;
+	}
+}
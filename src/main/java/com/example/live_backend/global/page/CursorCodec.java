@@ -0,0 +1,86 @@
+package com.example.live_backend.global.page;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+
+/**
+ * 다중 컬럼 keyset 커서 인코더
+ * [버전][정렬 종류][키 개수][zigzag varint 키...] 를 URL-safe Base64(패딩 없음)로 인코딩합니다.
+ * 정렬 종류가 다르거나 형식이 맞지 않는 커서는 INVALID_CURSOR 로 거부합니다.
+ */
+public final class CursorCodec {
+
+	private static final byte VERSION = 1;
+	private static final int MAX_KEYS = 8;
+
+	private CursorCodec() {
+	}
+
+	public static String encode(char sortType, long... keys) {
+		if (keys.length == 0 || keys.length > MAX_KEYS) {
+			throw new IllegalArgumentException("keys length must be between 1 and " + MAX_KEYS);
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(3 + keys.length * 10);
+		out.write(VERSION);
+		out.write(sortType);
+		out.write(keys.length);
+		for (long key : keys) {
+			writeVarLong(out, (key << 1) ^ (key >> 63));
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * 커서 해석 (null 또는 빈 문자열이면 첫 페이지로 보고 null 반환)
+	 */
+	public static long[] decode(String cursor, char sortType, int keyCount) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+			if (buffer.get() != VERSION || buffer.get() != (byte)sortType || buffer.get() != keyCount) {
+				throw new CustomException(ErrorCode.INVALID_CURSOR);
+			}
+
+			long[] keys = new long[keyCount];
+			for (int i = 0; i < keyCount; i++) {
+				long zigzag = readVarLong(buffer);
+				keys[i] = (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+			if (buffer.hasRemaining()) {
+				throw new CustomException(ErrorCode.INVALID_CURSOR);
+			}
+			return keys;
+		} catch (IllegalArgumentException | BufferUnderflowException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new CustomException(ErrorCode.INVALID_CURSOR);
+	}
+}
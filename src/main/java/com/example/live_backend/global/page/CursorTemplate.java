@@ -2,6 +2,7 @@ package com.example.live_backend.global.page;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.NonNull;
@@ -38,4 +39,20 @@ public record CursorTemplate<R, T>(
 			Optional.ofNullable(content).orElse(List.of())
 		);
 	}
+
+	/**
+	 * 요청 크기보다 하나 더 조회한 결과로 응답 생성
+	 * 초과분이 있으면 마지막 항목의 keyset 위치를 다음 커서로 사용합니다.
+	 */
+	public static <E, R, T> CursorTemplate<R, T> ofSlice(
+		List<E> rows, int pageSize, Function<E, R> cursorOf, Function<List<E>, List<T>> mapper) {
+		boolean hasNext = rows.size() > pageSize;
+		List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+		List<T> content = mapper.apply(page);
+
+		if (!hasNext) {
+			return of(content);
+		}
+		return ofWithNextCursor(cursorOf.apply(page.get(page.size() - 1)), content);
+	}
 }
@@ -1,9 +1,11 @@
 package com.example.live_backend.infra.database;
 
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.example.live_backend.infra.strategy.UpperSnakeNamingStrategy;
 
@@ -14,4 +16,10 @@ public class JpaConfig {
 	public PhysicalNamingStrategy physicalNamingStrategy() {
 		return new UpperSnakeNamingStrategy();
 	}
+
+	@Bean
+	public PrimaryReads primaryReads(PlatformTransactionManager transactionManager,
+		ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+		return new PrimaryReads(transactionManager, replicaLagMonitor.getIfAvailable());
+	}
 }
@@ -0,0 +1,44 @@
+package com.example.live_backend.infra.database;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방금 커밋된 값을 읽어야 하는 조회(캐시 적재 등)를 primary 에서 실행
+ * 레플리카 라우팅이 꺼져 있으면(단일 DataSource) 현재 트랜잭션에서 그대로 실행해 커넥션을 하나만 사용합니다.
+ * 켜져 있으면 라우팅 힌트로 primary 에 보내고, 읽기 전용 트랜잭션이 레플리카 커넥션을 쓰고 있을 때만
+ * primary 풀에서 별도 트랜잭션으로 조회합니다 (레플리카 풀과 primary 풀을 하나씩 쓰므로 한 풀을 두 번 점유하지 않음).
+ */
+public class PrimaryReads {
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final TransactionTemplate primaryTransaction;
+
+	public PrimaryReads(PlatformTransactionManager transactionManager, ReplicaLagMonitor replicaLagMonitor) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		if (replicaLagMonitor == null) {
+			this.primaryTransaction = null;
+			return;
+		}
+		this.primaryTransaction = new TransactionTemplate(transactionManager);
+		this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.primaryTransaction.setReadOnly(true);
+	}
+
+	public <T> T read(Supplier<T> query) {
+		if (replicaLagMonitor == null) {
+			return query.get();
+		}
+		return ReplicationRoutingDataSource.onPrimary(() -> {
+			if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				&& replicaLagMonitor.isReplicaAvailable()) {
+				return primaryTransaction.execute(status -> query.get());
+			}
+			return query.get();
+		});
+	}
+}
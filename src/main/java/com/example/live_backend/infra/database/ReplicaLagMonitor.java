@@ -0,0 +1,116 @@
+package com.example.live_backend.infra.database;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레플리카 복제 지연 감시
+ * 주기적으로 lag-query 를 실행해 지연이 max-lag-seconds 이하일 때만 레플리카를 사용 가능으로 봅니다.
+ * MySQL 의 SHOW REPLICA STATUS 결과는 Seconds_Behind_Source 컬럼을, 그 외 쿼리는 첫 번째 컬럼(초)을 읽습니다.
+ * 결과 행이 없으면 복제 설정이 없는 단독 인스턴스(로컬 대역)로 보고 지연 0으로 처리하며,
+ * 값이 NULL(복제 중단)이거나 조회에 실패하면 다음 확인 전까지 읽기 전용 트랜잭션도 primary 로 보냅니다.
+ * 스케줄러가 밀리거나 멈춰 마지막 확인이 확인 주기의 2배보다 오래되면, 그 결과를 믿지 않고 레플리카를 사용하지 않습니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final String lagQuery;
+	private final long maxLagSeconds;
+	private final long staleAfterMillis;
+	private final Clock clock;
+
+	private volatile boolean replicaAvailable;
+	private volatile long lastLagSeconds = -1;
+	private volatile long lastCheckedAtMillis;
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds,
+		long checkIntervalMillis, MeterRegistry meterRegistry) {
+		this(replicaDataSource, lagQuery, maxLagSeconds, checkIntervalMillis, meterRegistry, Clock.systemUTC());
+	}
+
+	ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds,
+		long checkIntervalMillis, MeterRegistry meterRegistry, Clock clock) {
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.replicaJdbcTemplate.setQueryTimeout(2);
+		this.lagQuery = lagQuery;
+		this.maxLagSeconds = maxLagSeconds;
+		this.staleAfterMillis = checkIntervalMillis * 2;
+		this.clock = clock;
+
+		Gauge.builder("datasource.replica.lag_seconds", this, monitor -> monitor.lastLagSeconds)
+			.description("마지막으로 확인한 레플리카 복제 지연(초), 확인 실패 시 -1")
+			.register(meterRegistry);
+		Gauge.builder("datasource.replica.available", this, monitor -> monitor.isReplicaAvailable() ? 1 : 0)
+			.description("읽기 전용 트랜잭션을 레플리카로 보내는지 여부")
+			.register(meterRegistry);
+	}
+
+	public boolean isReplicaAvailable() {
+		return replicaAvailable && clock.millis() - lastCheckedAtMillis <= staleAfterMillis;
+	}
+
+	@Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+	public void check() {
+		Long lagSeconds;
+		try {
+			lagSeconds = replicaJdbcTemplate.query(lagQuery, this::extractLagSeconds);
+		} catch (RuntimeException e) {
+			update(false, -1);
+			log.debug("[ReplicaLagMonitor] 레플리카 지연 확인 실패", e);
+			return;
+		}
+
+		if (lagSeconds == null) {
+			update(false, -1);
+			return;
+		}
+		update(lagSeconds <= maxLagSeconds, lagSeconds);
+	}
+
+	private void update(boolean available, long lagSeconds) {
+		if (available != replicaAvailable) {
+			if (available) {
+				log.info("[ReplicaLagMonitor] 레플리카 읽기 재개 - lag: {}s", lagSeconds);
+			} else {
+				log.warn("[ReplicaLagMonitor] 레플리카 읽기 중단, primary 로 대체 - lag: {}s (max: {}s)",
+					lagSeconds, maxLagSeconds);
+			}
+		}
+		lastLagSeconds = lagSeconds;
+		lastCheckedAtMillis = clock.millis();
+		replicaAvailable = available;
+	}
+
+	private Long extractLagSeconds(ResultSet resultSet) throws SQLException {
+		if (!resultSet.next()) {
+			return 0L;
+		}
+		long lagSeconds = resultSet.getLong(findLagColumn(resultSet.getMetaData()));
+		return resultSet.wasNull() ? null : lagSeconds;
+	}
+
+	private int findLagColumn(ResultSetMetaData metaData) throws SQLException {
+		for (int column = 1; column <= metaData.getColumnCount(); column++) {
+			for (String lagColumn : LAG_COLUMNS) {
+				if (lagColumn.equalsIgnoreCase(metaData.getColumnLabel(column))) {
+					return column;
+				}
+			}
+		}
+		return 1;
+	}
+}
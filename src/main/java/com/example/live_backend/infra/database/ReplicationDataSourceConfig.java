@@ -0,0 +1,91 @@
+package com.example.live_backend.infra.database;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * primary / 레플리카 DataSource 구성
+ * spring.datasource.replica.url 이 설정된 경우에만 활성화되며, 없으면 기본 단일 DataSource 를 그대로 사용합니다.
+ *
+ * 설정 예시:
+ * {@code
+ * spring.datasource.replica.url: jdbc:mysql://replica:3306/live
+ * spring.datasource.replica.username: (생략 시 spring.datasource.username)
+ * spring.datasource.replica.password: (생략 시 spring.datasource.password)
+ * spring.datasource.replica.hikari.maximum-pool-size: 20
+ * spring.datasource.replica.max-lag-seconds: 5
+ * spring.datasource.replica.lag-query: SHOW REPLICA STATUS
+ * spring.datasource.replica.lag-check-interval-ms: 5000
+ * }
+ * 풀 지표는 hikaricp.* (pool=primary/replica), 라우팅 지표는 datasource.routing.* 로 노출됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicationDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		DataSourceProperties properties,
+		@Value("${spring.datasource.replica.url}") String url,
+		@Value("${spring.datasource.replica.username:}") String username,
+		@Value("${spring.datasource.replica.password:}") String password) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.driverClassName(properties.determineDriverClassName())
+			.url(url)
+			.username(StringUtils.hasText(username) ? username : properties.determineUsername())
+			.password(StringUtils.hasText(password) ? password : properties.determinePassword())
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${spring.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+		@Value("${spring.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+		@Value("${spring.datasource.replica.lag-check-interval-ms:5000}") long checkIntervalMillis,
+		MeterRegistry meterRegistry) {
+		return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds, checkIntervalMillis, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+		@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor,
+		MeterRegistry meterRegistry) {
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+			primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+		routingDataSource.afterPropertiesSet();
+		return routingDataSource.lazyProxy(primaryDataSource.isAutoCommit());
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.live_backend.infra.database;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 트랜잭션 종류별 커넥션 라우팅
+ * readOnly 트랜잭션은 레플리카로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 primary 로 보냅니다.
+ * 레플리카 지연이 허용치를 넘으면 readOnly 트랜잭션도 primary 로 대체합니다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 lazyProxy() 로 감싸서 사용해야 합니다.
+ * 방금 커밋된 값을 읽어야 하는 조회(캐시 적재 등)는 PrimaryReads 를 통해 primary 라우팅 힌트를 걸고 실행합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final Counter primaryCounter;
+	private final Counter replicaCounter;
+	private final Counter fallbackCounter;
+
+	public ReplicationRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+		setDefaultTargetDataSource(primaryDataSource);
+
+		this.primaryCounter = routeCounter(meterRegistry, Route.PRIMARY);
+		this.replicaCounter = routeCounter(meterRegistry, Route.REPLICA);
+		this.fallbackCounter = Counter.builder("datasource.routing.replica_fallbacks")
+			.description("레플리카 지연/장애로 primary 로 대체된 읽기 전용 커넥션 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 트랜잭션 시작 시점에는 커넥션을 얻지 않는 프록시
+	 * 기본 auto-commit 값을 지정해 두어야 트랜잭션 시작 시 커넥션을 미리 꺼내 primary 로 라우팅되지 않습니다.
+	 */
+	public DataSource lazyProxy(boolean defaultAutoCommit) {
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+		proxy.setTargetDataSource(this);
+		proxy.setDefaultAutoCommit(defaultAutoCommit);
+		proxy.afterPropertiesSet();
+		return proxy;
+	}
+
+	/**
+	 * query 실행 중 새로 얻는 커넥션을 readOnly 여부와 관계없이 primary 로 라우팅
+	 * 이미 얻어 둔 커넥션은 바꾸지 않으므로 트랜잭션을 중단하지 않습니다.
+	 */
+	static <T> T onPrimary(Supplier<T> query) {
+		if (PRIMARY_HINT.get() != null) {
+			return query.get();
+		}
+		PRIMARY_HINT.set(Boolean.TRUE);
+		try {
+			return query.get();
+		} finally {
+			PRIMARY_HINT.remove();
+		}
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_HINT.get() != null) {
+			primaryCounter.increment();
+			return Route.PRIMARY;
+		}
+		if (!replicaLagMonitor.isReplicaAvailable()) {
+			fallbackCounter.increment();
+			primaryCounter.increment();
+			return Route.PRIMARY;
+		}
+		replicaCounter.increment();
+		return Route.REPLICA;
+	}
+
+	private static Counter routeCounter(MeterRegistry meterRegistry, Route route) {
+		return Counter.builder("datasource.routing.connections")
+			.description("라우팅된 커넥션 수")
+			.tag("route", route.name().toLowerCase())
+			.register(meterRegistry);
+	}
+}
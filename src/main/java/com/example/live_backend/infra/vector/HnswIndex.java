@@ -0,0 +1,281 @@
+package com.example.live_backend.infra.vector;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * 코사인 유사도 HNSW(Hierarchical Navigable Small World) 그래프
+ * 벡터는 정규화해 저장하므로 유사도는 내적입니다. 삭제는 표시만 하고 탐색 경로로는 계속 사용하며,
+ * 검색 결과에서만 제외합니다 (표시된 노드는 파일에 저장되지 않아 다음 로드 시 정리됨).
+ * 동기화하지 않으므로 호출하는 쪽에서 읽기/쓰기 잠금을 관리해야 합니다.
+ */
+class HnswIndex {
+
+	private final int dimensions;
+	private final int maxConnections;
+	private final int maxConnectionsLayer0;
+	private final int efConstruction;
+	private final double levelMultiplier;
+	private final Random random;
+
+	private final List<Node> nodes = new ArrayList<>();
+	private final Map<String, Integer> nodeIds = new HashMap<>();
+	private int entryPoint = -1;
+	private int maxLevel = -1;
+	private int liveCount;
+
+	HnswIndex(int dimensions, int maxConnections, int efConstruction, long seed) {
+		if (maxConnections < 2) {
+			throw new IllegalArgumentException("maxConnections must be at least 2: " + maxConnections);
+		}
+		this.dimensions = dimensions;
+		this.maxConnections = maxConnections;
+		this.maxConnectionsLayer0 = maxConnections * 2;
+		this.efConstruction = Math.max(efConstruction, maxConnections);
+		this.levelMultiplier = 1 / Math.log(maxConnections);
+		this.random = new Random(seed);
+	}
+
+	int dimensions() {
+		return dimensions;
+	}
+
+	int size() {
+		return liveCount;
+	}
+
+	boolean contains(String id) {
+		return nodeIds.containsKey(id);
+	}
+
+	/**
+	 * 벡터 추가 (같은 ID가 있으면 기존 노드를 삭제 표시하고 새로 추가)
+	 */
+	void add(String id, float[] vector) {
+		if (vector.length != dimensions) {
+			throw new IllegalArgumentException(
+				"vector dimensions mismatch: expected " + dimensions + " but was " + vector.length);
+		}
+		remove(id);
+
+		int level = (int)Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+		Node node = new Node(id, normalize(vector), level);
+		int nodeIndex = nodes.size();
+		nodes.add(node);
+		nodeIds.put(id, nodeIndex);
+		liveCount++;
+
+		if (entryPoint < 0) {
+			entryPoint = nodeIndex;
+			maxLevel = level;
+			return;
+		}
+
+		int current = entryPoint;
+		for (int layer = maxLevel; layer > level; layer--) {
+			current = greedyClosest(node.vector, current, layer);
+		}
+		for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+			List<Candidate> candidates = searchLayer(node.vector, current, efConstruction, layer);
+			int limit = layer == 0 ? maxConnectionsLayer0 : maxConnections;
+			for (Candidate neighbor : candidates.subList(0, Math.min(maxConnections, candidates.size()))) {
+				node.neighbors[layer].add(neighbor.node());
+				connect(neighbor.node(), nodeIndex, layer, limit);
+			}
+			current = candidates.get(0).node();
+		}
+
+		if (level > maxLevel) {
+			entryPoint = nodeIndex;
+			maxLevel = level;
+		}
+	}
+
+	void remove(String id) {
+		Integer nodeIndex = nodeIds.remove(id);
+		if (nodeIndex != null) {
+			nodes.get(nodeIndex).deleted = true;
+			liveCount--;
+		}
+	}
+
+	/**
+	 * 유사도 상위 k개 (accept 를 통과한 노드만)
+	 * 그래프 탐색으로 k개를 채우지 못하면 (필터가 대부분을 제외하는 경우) 전체를 비교해 채웁니다.
+	 */
+	List<Match> search(float[] query, int k, int efSearch, Predicate<String> accept) {
+		if (entryPoint < 0 || k <= 0) {
+			return List.of();
+		}
+		float[] normalized = normalize(query);
+
+		int current = entryPoint;
+		for (int layer = maxLevel; layer > 0; layer--) {
+			current = greedyClosest(normalized, current, layer);
+		}
+
+		List<Match> matches = new ArrayList<>(k);
+		for (Candidate candidate : searchLayer(normalized, current, Math.max(efSearch, k), 0)) {
+			Node node = nodes.get(candidate.node());
+			if (!node.deleted && accept.test(node.id)) {
+				matches.add(new Match(node.id, candidate.similarity()));
+				if (matches.size() == k) {
+					return matches;
+				}
+			}
+		}
+
+		return matches.size() < Math.min(k, liveCount) ? exactSearch(normalized, k, accept) : matches;
+	}
+
+	List<Match> exactSearch(float[] query, int k, Predicate<String> accept) {
+		float[] normalized = normalize(query);
+		PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::similarity));
+		for (Node node : nodes) {
+			if (node.deleted || !accept.test(node.id)) {
+				continue;
+			}
+			best.add(new Match(node.id, dot(normalized, node.vector)));
+			if (best.size() > k) {
+				best.poll();
+			}
+		}
+		List<Match> matches = new ArrayList<>(best);
+		matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+		return matches;
+	}
+
+	private int greedyClosest(float[] query, int start, int layer) {
+		int current = start;
+		double currentSimilarity = dot(query, nodes.get(current).vector);
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int neighbor : nodes.get(current).neighborsAt(layer)) {
+				double similarity = dot(query, nodes.get(neighbor).vector);
+				if (similarity > currentSimilarity) {
+					current = neighbor;
+					currentSimilarity = similarity;
+					changed = true;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * 한 층에서 ef 개 후보 탐색 (유사도 내림차순)
+	 */
+	private List<Candidate> searchLayer(float[] query, int start, int ef, int layer) {
+		BitSet visited = new BitSet(nodes.size());
+		visited.set(start);
+		Candidate first = new Candidate(start, dot(query, nodes.get(start).vector));
+
+		PriorityQueue<Candidate> toVisit = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity).reversed());
+		PriorityQueue<Candidate> found = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+		toVisit.add(first);
+		found.add(first);
+
+		while (!toVisit.isEmpty()) {
+			Candidate closest = toVisit.poll();
+			if (found.size() >= ef && closest.similarity() < found.peek().similarity()) {
+				break;
+			}
+			for (int neighbor : nodes.get(closest.node()).neighborsAt(layer)) {
+				if (visited.get(neighbor)) {
+					continue;
+				}
+				visited.set(neighbor);
+				double similarity = dot(query, nodes.get(neighbor).vector);
+				if (found.size() < ef || similarity > found.peek().similarity()) {
+					Candidate candidate = new Candidate(neighbor, similarity);
+					toVisit.add(candidate);
+					found.add(candidate);
+					if (found.size() > ef) {
+						found.poll();
+					}
+				}
+			}
+		}
+
+		List<Candidate> result = new ArrayList<>(found);
+		result.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+		return result;
+	}
+
+	/**
+	 * 이웃 목록에 새 노드를 추가하고, 최대 연결 수를 넘으면 가장 먼 이웃부터 끊음
+	 */
+	private void connect(int from, int to, int layer, int limit) {
+		Node node = nodes.get(from);
+		List<Integer> neighbors = node.neighbors[layer];
+		neighbors.add(to);
+		if (neighbors.size() <= limit) {
+			return;
+		}
+
+		neighbors.sort(Comparator.comparingDouble(
+			(Integer neighbor) -> dot(node.vector, nodes.get(neighbor).vector)).reversed());
+		neighbors.subList(limit, neighbors.size()).clear();
+	}
+
+	static float[] normalize(float[] vector) {
+		double norm = 0;
+		for (float value : vector) {
+			norm += value * value;
+		}
+		norm = Math.sqrt(norm);
+
+		float[] normalized = new float[vector.length];
+		if (norm == 0) {
+			return normalized;
+		}
+		for (int i = 0; i < vector.length; i++) {
+			normalized[i] = (float)(vector[i] / norm);
+		}
+		return normalized;
+	}
+
+	private static double dot(float[] a, float[] b) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	record Match(String id, double similarity) {
+	}
+
+	private record Candidate(int node, double similarity) {
+	}
+
+	private static final class Node {
+
+		private final String id;
+		private final float[] vector;
+		private final List<Integer>[] neighbors;
+		private boolean deleted;
+
+		@SuppressWarnings("unchecked")
+		private Node(String id, float[] vector, int level) {
+			this.id = id;
+			this.vector = vector;
+			this.neighbors = new List[level + 1];
+			for (int i = 0; i <= level; i++) {
+				neighbors[i] = new ArrayList<>();
+			}
+		}
+
+		private List<Integer> neighborsAt(int layer) {
+			return layer < neighbors.length ? neighbors[layer] : List.of();
+		}
+	}
+}
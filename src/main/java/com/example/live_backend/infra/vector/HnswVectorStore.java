@@ -0,0 +1,188 @@
+package com.example.live_backend.infra.vector;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import com.example.live_backend.infra.vector.HnswVectorStoreFile.StoredDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JVM 안에서 HNSW 그래프로 검색하는 VectorStore
+ * 클로버 미션 카탈로그처럼 작은 컬렉션을 외부 Qdrant 없이 검색하기 위한 구현입니다.
+ * 문서가 바뀔 때마다 전체를 파일(HnswVectorStoreFile)에 다시 쓰고, 시작 시 파일을 읽어 그래프를 만듭니다.
+ * path 가 null 이면 파일 없이 메모리에만 둡니다.
+ * 필터 식은 검색 중 후보마다 메타데이터에 적용하며, 필터로 k개를 채우지 못하면 전체 비교로 보충합니다.
+ * 문서는 이 인스턴스의 메모리와 파일에만 있어 다른 인스턴스의 추가/삭제가 보이지 않으므로, 단일 인스턴스 전용입니다.
+ * 같은 파일을 두 인스턴스가 열면 나중에 연 쪽이 시작에 실패합니다.
+ */
+@Slf4j
+public class HnswVectorStore implements VectorStore, AutoCloseable {
+
+	private static final long GRAPH_SEED = 42L;
+
+	private final EmbeddingModel embeddingModel;
+	private final HnswVectorStoreFile file;
+	private final int maxConnections;
+	private final int efConstruction;
+	private final int efSearch;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, StoredDocument> documents = new LinkedHashMap<>();
+	private HnswIndex index;
+
+	public HnswVectorStore(EmbeddingModel embeddingModel, ObjectMapper objectMapper, Path path,
+		int maxConnections, int efConstruction, int efSearch) {
+		this.embeddingModel = embeddingModel;
+		this.file = path == null ? null : new HnswVectorStoreFile(path, objectMapper);
+		this.maxConnections = maxConnections;
+		this.efConstruction = efConstruction;
+		this.efSearch = efSearch;
+		if (file != null) {
+			file.lock();
+		}
+		load();
+	}
+
+	/**
+	 * 파일 잠금 해제 (빈 종료 시 호출)
+	 */
+	@Override
+	public void close() {
+		if (file != null) {
+			file.unlock();
+		}
+	}
+
+	private void load() {
+		if (file == null) {
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		for (StoredDocument document : file.read()) {
+			documents.put(document.id(), document);
+			indexFor(document.vector().length).add(document.id(), document.vector());
+		}
+		log.info("벡터 저장소 로드: {}건, {}ms", documents.size(), (System.nanoTime() - startedAt) / 1_000_000);
+	}
+
+	@Override
+	public void add(List<Document> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+
+		List<float[]> vectors = embeddingModel.embed(documents.stream().map(Document::getText).toList());
+
+		lock.writeLock().lock();
+		try {
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
+				StoredDocument stored = new StoredDocument(document.getId(), document.getText(),
+					new HashMap<>(document.getMetadata()), vectors.get(i));
+				indexFor(stored.vector().length).add(stored.id(), stored.vector());
+				this.documents.put(stored.id(), stored);
+			}
+			persist();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void delete(List<String> idList) {
+		lock.writeLock().lock();
+		try {
+			idList.forEach(this::remove);
+			persist();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void delete(Filter.Expression filterExpression) {
+		lock.writeLock().lock();
+		try {
+			documents.values().stream()
+				.filter(document -> MetadataFilter.matches(filterExpression, document.metadata()))
+				.map(StoredDocument::id)
+				.toList()
+				.forEach(this::remove);
+			persist();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request) {
+		float[] query = embeddingModel.embed(request.getQuery());
+		Filter.Expression filterExpression = request.getFilterExpression();
+
+		lock.readLock().lock();
+		try {
+			if (index == null) {
+				return List.of();
+			}
+			List<HnswIndex.Match> matches = index.search(query, request.getTopK(), efSearch,
+				id -> MetadataFilter.matches(filterExpression, documents.get(id).metadata()));
+
+			List<Document> results = new ArrayList<>(matches.size());
+			for (HnswIndex.Match match : matches) {
+				if (match.similarity() < request.getSimilarityThreshold()) {
+					continue;
+				}
+				StoredDocument stored = documents.get(match.id());
+				Map<String, Object> metadata = new HashMap<>(stored.metadata());
+				metadata.put("distance", 1 - match.similarity());
+				results.add(Document.builder()
+					.id(stored.id())
+					.text(stored.text())
+					.metadata(metadata)
+					.score(match.similarity())
+					.build());
+			}
+			return results;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void remove(String id) {
+		if (documents.remove(id) != null) {
+			index.remove(id);
+		}
+	}
+
+	private HnswIndex indexFor(int dimensions) {
+		if (index == null) {
+			index = new HnswIndex(dimensions, maxConnections, efConstruction, GRAPH_SEED);
+		}
+		if (index.dimensions() != dimensions) {
+			throw new IllegalStateException(
+				"embedding dimensions changed: stored " + index.dimensions() + " but got " + dimensions);
+		}
+		return index;
+	}
+
+	private void persist() {
+		if (file != null && index != null) {
+			file.write(index.dimensions(), documents.values());
+		}
+	}
+}
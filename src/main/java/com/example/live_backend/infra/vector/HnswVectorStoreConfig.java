@@ -0,0 +1,46 @@
+package com.example.live_backend.infra.vector;
+
+import java.nio.file.Path;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 내장 HNSW VectorStore 구성
+ * spring.ai.vectorstore.type=hnsw 이면 Qdrant 자동 구성 대신 HnswVectorStore 를 사용합니다.
+ * 문서를 인스턴스 메모리와 로컬 파일에만 두므로 서버를 한 대만 띄우는 환경(로컬, 단일 인스턴스 배포)에서만 사용하고,
+ * 여러 인스턴스로 배포할 때는 모든 인스턴스가 같은 컬렉션을 보는 Qdrant 를 사용합니다.
+ * 한 인스턴스에서 등록한 미션은 다른 인스턴스의 검색에 나타나지 않으며, 같은 path 를 공유하면 두 번째 인스턴스가 시작에 실패합니다.
+ *
+ * 설정 예시:
+ * {@code
+ * spring.ai.vectorstore.type: hnsw
+ * spring.ai.vectorstore.hnsw.path: /var/lib/live/missions-clover.vec (생략 시 메모리에만 보관)
+ * spring.ai.vectorstore.hnsw.m: 16
+ * spring.ai.vectorstore.hnsw.ef-construction: 200
+ * spring.ai.vectorstore.hnsw.ef-search: 64
+ * }
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "hnsw")
+public class HnswVectorStoreConfig {
+
+	@Bean
+	public VectorStore hnswVectorStore(
+		EmbeddingModel embeddingModel,
+		ObjectMapper objectMapper,
+		@Value("${spring.ai.vectorstore.hnsw.path:}") String path,
+		@Value("${spring.ai.vectorstore.hnsw.m:16}") int maxConnections,
+		@Value("${spring.ai.vectorstore.hnsw.ef-construction:200}") int efConstruction,
+		@Value("${spring.ai.vectorstore.hnsw.ef-search:64}") int efSearch) {
+		return new HnswVectorStore(embeddingModel, objectMapper, StringUtils.hasText(path) ? Path.of(path) : null,
+			maxConnections, efConstruction, efSearch);
+	}
+}
@@ -0,0 +1,177 @@
+package com.example.live_backend.infra.vector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HnswVectorStore 의 문서 파일
+ * [magic][버전][차원][문서 수] 다음에 문서마다 [id][본문][메타데이터 JSON][float32 벡터]를 little-endian 으로 기록합니다.
+ * 임시 파일을 메모리 매핑해 쓰고 force() 한 뒤 원자적으로 교체하므로, 쓰는 도중 종료돼도 이전 파일이 남습니다.
+ * 그래프는 저장하지 않고 로드할 때 다시 만듭니다 (미션 카탈로그 규모에서는 수십 ms).
+ * 파일은 한 프로세스만 쓸 수 있도록 옆의 잠금 파일(.lock)을 배타적으로 잠급니다.
+ */
+final class HnswVectorStoreFile {
+
+	private static final int MAGIC = 0x484E5357;
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = Integer.BYTES * 4;
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+	};
+
+	private final Path path;
+	private final ObjectMapper objectMapper;
+	private FileChannel lockChannel;
+
+	HnswVectorStoreFile(Path path, ObjectMapper objectMapper) {
+		this.path = path;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 다른 프로세스가 이미 잠갔으면 IllegalStateException
+	 */
+	void lock() {
+		Path lockPath = path.resolveSibling(path.getFileName() + ".lock");
+		try {
+			Files.createDirectories(lockPath.toAbsolutePath().getParent());
+			FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			FileLock acquired;
+			try {
+				acquired = channel.tryLock();
+			} catch (OverlappingFileLockException e) {
+				acquired = null;
+			}
+			if (acquired == null) {
+				channel.close();
+				throw new IllegalStateException("vector store file is in use by another instance: " + path);
+			}
+			lockChannel = channel;
+		} catch (IOException e) {
+			throw new UncheckedIOException("failed to lock vector store file: " + path, e);
+		}
+	}
+
+	void unlock() {
+		if (lockChannel == null) {
+			return;
+		}
+		try {
+			lockChannel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException("failed to unlock vector store file: " + path, e);
+		} finally {
+			lockChannel = null;
+		}
+	}
+
+	/**
+	 * 파일이 없으면 빈 목록 반환
+	 */
+	List<StoredDocument> read() {
+		if (!Files.exists(path)) {
+			return List.of();
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IllegalStateException("not a vector store file: " + path);
+			}
+
+			int dimensions = buffer.getInt();
+			int count = buffer.getInt();
+			List<StoredDocument> documents = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String id = readString(buffer);
+				String text = readString(buffer);
+				Map<String, Object> metadata = objectMapper.readValue(readString(buffer), METADATA_TYPE);
+				float[] vector = new float[dimensions];
+				for (int d = 0; d < dimensions; d++) {
+					vector[d] = buffer.getFloat();
+				}
+				documents.add(new StoredDocument(id, text, metadata, vector));
+			}
+			return documents;
+		} catch (IOException e) {
+			throw new UncheckedIOException("failed to read vector store file: " + path, e);
+		}
+	}
+
+	void write(int dimensions, Collection<StoredDocument> documents) {
+		List<byte[][]> encoded = new ArrayList<>(documents.size());
+		long size = HEADER_BYTES;
+		for (StoredDocument document : documents) {
+			byte[][] fields = {
+				document.id().getBytes(StandardCharsets.UTF_8),
+				document.text().getBytes(StandardCharsets.UTF_8),
+				toJson(document.metadata())
+			};
+			encoded.add(fields);
+			for (byte[] field : fields) {
+				size += Integer.BYTES + field.length;
+			}
+			size += (long)dimensions * Float.BYTES;
+		}
+
+		try {
+			Path parent = path.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				buffer.order(ByteOrder.LITTLE_ENDIAN);
+				buffer.putInt(MAGIC).putInt(VERSION).putInt(dimensions).putInt(documents.size());
+
+				int index = 0;
+				for (StoredDocument document : documents) {
+					for (byte[] field : encoded.get(index++)) {
+						buffer.putInt(field.length).put(field);
+					}
+					for (float value : document.vector()) {
+						buffer.putFloat(value);
+					}
+				}
+				buffer.force();
+			}
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException("failed to write vector store file: " + path, e);
+		}
+	}
+
+	private byte[] toJson(Map<String, Object> metadata) {
+		try {
+			return objectMapper.writeValueAsBytes(metadata);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("metadata is not serializable: " + metadata, e);
+		}
+	}
+
+	private static String readString(MappedByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	record StoredDocument(String id, String text, Map<String, Object> metadata, float[] vector) {
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.live_backend.infra.vector;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+/**
+ * Spring AI 필터 식을 문서 메타데이터에 직접 적용
+ * 숫자끼리는 수치로, 그 외에는 문자열로 비교합니다. 메타데이터의 clover_mission_id 는 문자열이지만
+ * 'clover_mission_id not in [1, 2]' 처럼 숫자로 써도 같은 값으로 봅니다.
+ */
+final class MetadataFilter {
+
+	private MetadataFilter() {
+	}
+
+	static boolean matches(Filter.Expression expression, Map<String, Object> metadata) {
+		if (expression == null) {
+			return true;
+		}
+
+		return switch (expression.type()) {
+			case AND -> matches(operand(expression.left()), metadata) && matches(operand(expression.right()), metadata);
+			case OR -> matches(operand(expression.left()), metadata) || matches(operand(expression.right()), metadata);
+			case NOT -> !matches(operand(expression.left()), metadata);
+			case EQ -> equals(valueOf(expression, metadata), value(expression));
+			case NE -> !equals(valueOf(expression, metadata), value(expression));
+			case GT -> compare(valueOf(expression, metadata), value(expression)) > 0;
+			case GTE -> compare(valueOf(expression, metadata), value(expression)) >= 0;
+			case LT -> compare(valueOf(expression, metadata), value(expression)) < 0;
+			case LTE -> compare(valueOf(expression, metadata), value(expression)) <= 0;
+			case IN -> contains(values(expression), valueOf(expression, metadata));
+			case NIN -> !contains(values(expression), valueOf(expression, metadata));
+			default -> throw new IllegalArgumentException("unsupported filter expression type: " + expression.type());
+		};
+	}
+
+	private static Filter.Expression operand(Filter.Operand operand) {
+		if (operand instanceof Filter.Group group) {
+			return group.content();
+		}
+		if (operand instanceof Filter.Expression expression) {
+			return expression;
+		}
+		throw new IllegalArgumentException("expected expression but was " + operand);
+	}
+
+	private static Object valueOf(Filter.Expression expression, Map<String, Object> metadata) {
+		if (!(expression.left() instanceof Filter.Key key)) {
+			throw new IllegalArgumentException("expected key but was " + expression.left());
+		}
+		return metadata.get(unquote(key.key()));
+	}
+
+	private static Object value(Filter.Expression expression) {
+		if (!(expression.right() instanceof Filter.Value value)) {
+			throw new IllegalArgumentException("expected value but was " + expression.right());
+		}
+		return value.value();
+	}
+
+	private static Collection<?> values(Filter.Expression expression) {
+		Object value = value(expression);
+		return value instanceof Collection<?> collection ? collection : List.of(value);
+	}
+
+	private static String unquote(String key) {
+		if (key.length() >= 2 && (key.startsWith("\"") && key.endsWith("\"")
+			|| key.startsWith("'") && key.endsWith("'"))) {
+			return key.substring(1, key.length() - 1);
+		}
+		return key;
+	}
+
+	private static boolean contains(Collection<?> values, Object actual) {
+		for (Object value : values) {
+			if (equals(actual, value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean equals(Object actual, Object expected) {
+		if (actual == null || expected == null) {
+			return actual == expected;
+		}
+		return compare(actual, expected) == 0;
+	}
+
+	/**
+	 * 값이 없으면 어떤 값보다도 작다고 봅니다.
+	 */
+	private static int compare(Object actual, Object expected) {
+		if (actual == null) {
+			return expected == null ? 0 : -1;
+		}
+		Double actualNumber = toNumber(actual);
+		Double expectedNumber = toNumber(expected);
+		if (actualNumber != null && expectedNumber != null
+			&& (actual instanceof Number || expected instanceof Number)) {
+			return Double.compare(actualNumber, expectedNumber);
+		}
+		return Objects.toString(actual).compareTo(Objects.toString(expected));
+	}
+
+	private static Double toNumber(Object value) {
+		if (value instanceof Number number) {
+			return number.doubleValue();
+		}
+		try {
+			return Double.valueOf(value.toString());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -20,7 +20,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -81,7 +80,7 @@ class AnalysisServiceTest {
             verify(cloverMissionRecordRepository)
                     .countCompletedInPeriod(eq(memberId), eq(CloverMissionStatus.COMPLETED), startDateTimeCap.capture(), endDateTimeCap.capture());
             assertThat(startDateTimeCap.getValue()).isEqualTo(ym.atDay(1).atStartOfDay());
-            assertThat(endDateTimeCap.getValue()).isEqualTo(ym.atEndOfMonth().atTime(LocalTime.MAX));
+            assertThat(endDateTimeCap.getValue()).isEqualTo(ym.plusMonths(1).atDay(1).atStartOfDay());
         }
 
         @Test
@@ -146,7 +145,7 @@ class AnalysisServiceTest {
             LocalDate weekStart = date.with(DayOfWeek.MONDAY);
             LocalDate weekEnd = date.with(DayOfWeek.SUNDAY);
             LocalDateTime startDateTime = weekStart.atStartOfDay();
-            LocalDateTime endDateTime = weekEnd.atTime(LocalTime.MAX);
+            LocalDateTime endDateTime = weekEnd.plusDays(1).atStartOfDay();
 
             CloverMissionRecord r1 = CloverMissionRecord.builder()
                     .missionId(1L)
@@ -337,10 +336,10 @@ class AnalysisServiceTest {
             List<LocalDateTime> ends = endCap.getAllValues();
 
             LocalDateTime currStart = ym.atDay(1).atStartOfDay();
-            LocalDateTime currEnd = ym.atEndOfMonth().atTime(LocalTime.MAX);
+            LocalDateTime currEnd = ym.plusMonths(1).atDay(1).atStartOfDay();
             YearMonth prev = ym.minusMonths(1);
             LocalDateTime prevStart = prev.atDay(1).atStartOfDay();
-            LocalDateTime prevEnd = prev.atEndOfMonth().atTime(LocalTime.MAX);
+            LocalDateTime prevEnd = ym.atDay(1).atStartOfDay();
 
             assertThat(starts.get(0)).isEqualTo(currStart);
             assertThat(ends.get(0)).isEqualTo(currEnd);
@@ -0,0 +1,128 @@
+package com.example.live_backend.domain.board.archive;
+
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardArchiveJob 테스트")
+class BoardArchiveJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusDays(30);
+
+    @Mock
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Mock
+    private BoardArchiveWriter boardArchiveWriter;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("기록된 진행 위치 다음부터 이어서 옮기고, 끝까지 처리한 단계는 진행 위치를 초기화한다")
+    void run_ResumesFromCheckpoint() {
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.boards")).willReturn(10L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.comments")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.reactions")).willReturn(0L);
+        given(boardArchiveRepository.findArchivableBoardIds(CUTOFF, 10L, 2)).willReturn(List.of(11L, 12L));
+        given(boardArchiveRepository.findArchivableBoardIds(CUTOFF, 12L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableCommentIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableReactionIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveWriter.archive(BoardArchiveStep.BOARDS, List.of(11L, 12L), NOW))
+                .willReturn(new ArchivedRows(2, 5, 1, 3));
+
+        job(10, 0).run();
+
+        verify(boardArchiveWriter).complete(BoardArchiveStep.BOARDS);
+        verify(boardArchiveWriter).complete(BoardArchiveStep.COMMENTS);
+        verify(boardArchiveWriter).complete(BoardArchiveStep.REACTIONS);
+        assertThat(archivedCount("boards")).isEqualTo(2.0);
+        assertThat(archivedCount("comments")).isEqualTo(5.0);
+        assertThat(archivedCount("board_reactions")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("실행당 최대 배치 수에 도달하면 진행 위치를 남겨 두고 다음 실행에서 이어간다")
+    void run_StopsAtMaxBatches() {
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.boards")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.comments")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.reactions")).willReturn(0L);
+        given(boardArchiveRepository.findArchivableBoardIds(CUTOFF, 0L, 2)).willReturn(List.of(1L, 2L));
+        given(boardArchiveRepository.findArchivableCommentIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableReactionIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveWriter.archive(BoardArchiveStep.BOARDS, List.of(1L, 2L), NOW)).willReturn(ArchivedRows.EMPTY);
+
+        job(1, 0).run();
+
+        verify(boardArchiveWriter, never()).complete(BoardArchiveStep.BOARDS);
+        verify(boardArchiveWriter).complete(BoardArchiveStep.COMMENTS);
+    }
+
+    @Test
+    @DisplayName("한 단계가 실패해도 나머지 단계는 실행한다")
+    void run_ContinuesAfterStepFailure() {
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.boards")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.comments")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.reactions")).willReturn(0L);
+        given(boardArchiveRepository.findArchivableBoardIds(CUTOFF, 0L, 2)).willThrow(new IllegalStateException("db"));
+        given(boardArchiveRepository.findArchivableCommentIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableReactionIds(CUTOFF, 0L, 2)).willReturn(List.of());
+
+        job(10, 0).run();
+
+        verify(boardArchiveWriter, never()).complete(BoardArchiveStep.BOARDS);
+        verify(boardArchiveWriter).complete(BoardArchiveStep.COMMENTS);
+        verify(boardArchiveWriter).complete(BoardArchiveStep.REACTIONS);
+    }
+
+    @Test
+    @DisplayName("영구 삭제 기간이 설정되면 지난 보관 행을 배치로 지운다")
+    void run_PurgesExpiredArchive() {
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.boards")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.comments")).willReturn(0L);
+        given(jobCheckpointRepository.findLastProcessedId("board-archive.reactions")).willReturn(0L);
+        given(boardArchiveRepository.findArchivableBoardIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableCommentIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.findArchivableReactionIds(CUTOFF, 0L, 2)).willReturn(List.of());
+        given(boardArchiveRepository.purgeArchived(NOW.minusDays(365), 2)).willReturn(2, 0);
+
+        job(10, 365).run();
+
+        assertThat(meterRegistry.get("board.archive.purged").counter().count()).isEqualTo(2.0);
+    }
+
+    private BoardArchiveJob job(int maxBatchesPerRun, long purgeAfterDays) {
+        return new BoardArchiveJob(boardArchiveRepository, boardArchiveWriter, jobCheckpointRepository,
+                30, 2, maxBatchesPerRun, purgeAfterDays, meterRegistry, CLOCK);
+    }
+
+    private double archivedCount(String table) {
+        return meterRegistry.get("board.archive.rows").tag("table", table).counter().count();
+    }
+}
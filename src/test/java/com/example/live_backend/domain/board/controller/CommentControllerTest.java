@@ -9,6 +9,7 @@ import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.entity.vo.Profile;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
 import com.example.live_backend.domain.memeber.Role;
+import com.example.live_backend.global.page.CursorTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +23,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -77,13 +77,26 @@ class CommentControllerTest {
 	@Test
 	@DisplayName("누구나 댓글 목록 조회 가능 (@PublicApi)")
 	void anyoneCanViewComments() throws Exception {
-		when(commentService.getCommentsByBoardId(anyLong(), any())).thenReturn(List.of());
+		when(commentService.getCommentsByBoardId(anyLong(), any(), any(), anyInt())).thenReturn(CursorTemplate.ofEmpty());
 
 		mockMvc.perform(get("/api/boards/1/comments"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.hasNext").value(false));
+
+		verify(commentService).getCommentsByBoardId(eq(1L), isNull(), isNull(), eq(20));
+	}
+
+	@Test
+	@DisplayName("누구나 대댓글 목록 조회 가능 (@PublicApi)")
+	void anyoneCanViewReplies() throws Exception {
+		when(commentService.getReplies(anyLong(), anyLong(), any(), any(), anyInt())).thenReturn(CursorTemplate.ofEmpty());
+
+		mockMvc.perform(get("/api/boards/1/comments/3/replies").param("cursor", "10").param("size", "5"))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.success").value(true));
 
-		verify(commentService).getCommentsByBoardId(eq(1L), isNull());
+		verify(commentService).getReplies(eq(1L), eq(3L), isNull(), eq(10L), eq(5));
 	}
 
 	@Test
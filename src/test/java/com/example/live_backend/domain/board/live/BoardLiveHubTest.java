@@ -0,0 +1,125 @@
+package com.example.live_backend.domain.board.live;
+
+import com.example.live_backend.domain.board.dto.response.BoardLiveCountsResponseDto;
+import com.example.live_backend.domain.board.repository.BoardReactionCounterRepository;
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardLiveHub 테스트")
+class BoardLiveHubTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardReactionCounterRepository boardReactionCounterRepository;
+
+    private BoardLiveHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new BoardLiveHub(boardRepository, boardReactionCounterRepository, 60_000L, 2, 3,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 여러 변경은 주기마다 한 번의 집계 조회로 합쳐진다")
+    void push_CoalescesChangesPerBoard() {
+        hub.subscribe(1L, countsOf(1L));
+        hub.subscribe(1L, countsOf(1L));
+        BoardRepository.BoardCommentCount row = mock(BoardRepository.BoardCommentCount.class);
+        given(row.getId()).willReturn(1L);
+        given(row.getCommentCount()).willReturn(3L);
+        given(boardReactionCounterRepository.findByBoardIdIn(List.of(1L))).willReturn(List.of());
+        given(boardRepository.findCommentCountsByIdIn(List.of(1L))).willReturn(List.of(row));
+
+        hub.onChanged(1L);
+        hub.onChanged(1L);
+        hub.onChanged(1L);
+        hub.push();
+        hub.push();
+
+        verify(boardReactionCounterRepository, times(1)).findByBoardIdIn(any());
+        verify(boardRepository, times(1)).findCommentCountsByIdIn(any());
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 게시글의 변경은 집계하지 않는다")
+    void push_IgnoresBoardsWithoutSubscribers() {
+        hub.onChanged(1L);
+        hub.push();
+
+        verify(boardReactionCounterRepository, never()).findByBoardIdIn(any());
+        verify(boardRepository, never()).findCommentCountsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("집계 조회가 실패하면 변경된 게시글을 다음 주기에 다시 보낸다")
+    void push_RequeuesChangesOnFailure() {
+        hub.subscribe(1L, countsOf(1L));
+        given(boardReactionCounterRepository.findByBoardIdIn(List.of(1L)))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of());
+        given(boardRepository.findCommentCountsByIdIn(List.of(1L))).willReturn(List.of());
+
+        hub.onChanged(1L);
+        hub.push();
+        hub.push();
+
+        verify(boardReactionCounterRepository, times(2)).findByBoardIdIn(List.of(1L));
+        verify(boardRepository, times(1)).findCommentCountsByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("게시글별, 전체 구독자 수 상한을 넘는 구독은 거절한다")
+    void subscribe_RejectsOverLimits() {
+        hub.subscribe(1L, countsOf(1L));
+        hub.subscribe(1L, countsOf(1L));
+
+        assertThatThrownBy(() -> hub.subscribe(1L, countsOf(1L)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOARD_LIVE_BUSY);
+
+        hub.subscribe(2L, countsOf(2L));
+        assertThatThrownBy(() -> hub.subscribe(3L, countsOf(3L)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOARD_LIVE_BUSY);
+        assertThat(hub.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("종료 시 모든 구독 연결을 닫는다")
+    void shutdown_CompletesSubscribers() {
+        hub.subscribe(1L, countsOf(1L));
+        hub.subscribe(2L, countsOf(2L));
+
+        hub.shutdown();
+
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    private BoardLiveCountsResponseDto countsOf(Long boardId) {
+        return new BoardLiveCountsResponseDto(boardId, List.of(), 0L);
+    }
+}
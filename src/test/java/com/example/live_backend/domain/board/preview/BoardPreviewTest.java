@@ -0,0 +1,48 @@
+package com.example.live_backend.domain.board.preview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardPreview 테스트")
+class BoardPreviewTest {
+
+    @Test
+    @DisplayName("HTML 태그와 마크다운 기호를 제거하고 공백을 정리한다")
+    void summarize_StripsMarkup() {
+        String content = "<p>## 모집 <b>안내</b></p>\n\n- **일시**: 3월&nbsp;2일\n"
+                + "[신청 링크](https://example.com) ![포스터](https://example.com/a.png)";
+
+        assertThat(BoardPreview.summarize(content)).isEqualTo("모집 안내 일시: 3월 2일 신청 링크");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘으면 잘라서 말줄임표를 붙인다")
+    void summarize_Truncates() {
+        String content = "가".repeat(BoardPreview.MAX_LENGTH + 10);
+
+        String preview = BoardPreview.summarize(content);
+
+        assertThat(preview).isEqualTo("가".repeat(BoardPreview.MAX_LENGTH) + "…");
+        assertThat(preview.codePointCount(0, preview.length())).isLessThanOrEqualTo(BoardPreview.COLUMN_LENGTH);
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍 문자를 중간에서 자르지 않는다")
+    void summarize_KeepsSurrogatePairs() {
+        String content = "😀".repeat(BoardPreview.MAX_LENGTH + 1);
+
+        assertThat(BoardPreview.summarize(content)).isEqualTo("😀".repeat(BoardPreview.MAX_LENGTH) + "…");
+    }
+
+    @Test
+    @DisplayName("썸네일은 첫 번째 이미지이며 이미지가 없으면 null")
+    void thumbnailOf_FirstImage() {
+        assertThat(BoardPreview.thumbnailOf(List.of("a.png", "b.png"))).isEqualTo("a.png");
+        assertThat(BoardPreview.thumbnailOf(List.of())).isNull();
+        assertThat(BoardPreview.thumbnailOf(null)).isNull();
+    }
+}
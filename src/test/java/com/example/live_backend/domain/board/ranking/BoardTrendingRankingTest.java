@@ -0,0 +1,122 @@
+package com.example.live_backend.domain.board.ranking;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardTrendingRanking 테스트")
+class BoardTrendingRankingTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-08T00:00:00Z");
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardTrendingRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new BoardTrendingRanking(boardRepository, 24, 2, Clock.fixed(NOW, ZoneId.of("UTC")));
+    }
+
+    @Test
+    @DisplayName("같은 활동이라도 최근에 발생한 게시글의 점수가 더 높다")
+    @SuppressWarnings("unchecked")
+    void rebuild_AppliesTimeDecay() {
+        willAnswer(invocation -> {
+            Consumer<BoardActivity> consumer = invocation.getArgument(1);
+            // 3일 전 댓글 4개(가중치 20, 반감 3회 -> 2.5) vs 방금 댓글 1개(가중치 5)
+            consumer.accept(new BoardActivity(1L, 10L, BoardActivityType.COMMENT, 4, NOW.minus(Duration.ofDays(3))));
+            consumer.accept(new BoardActivity(2L, 10L, BoardActivityType.COMMENT, 1, NOW));
+            return null;
+        }).given(boardRepository).scanTrendingActivities(eq(NOW.minus(Duration.ofDays(7))), any(Consumer.class));
+
+        ranking.rebuild();
+
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("활동이 기록되면 카테고리별, 전체 순위가 갱신된다")
+    void record_UpdatesCategoryAndGlobalRanking() {
+        ranking.recordView(1L, 10L);
+        ranking.recordComment(2L, 10L);
+        ranking.recordReaction(3L, 20L, 1);
+
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(2L, 1L);
+        assertThat(ranking.topBoardIds(20L, 10)).containsExactly(3L);
+        assertThat(ranking.topBoardIds(null, 2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("반응 취소로 점수가 0이 되면 순위에서 제외된다")
+    void recordReaction_CancelRemovesBoard() {
+        ranking.recordReaction(1L, 10L, 1);
+        ranking.recordReaction(1L, 10L, -1);
+
+        assertThat(ranking.topBoardIds(10L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리별 최대 개수를 넘으면 하위 게시글이 제외된다")
+    void record_BoundedPerCategory() {
+        ranking.recordComment(1L, 10L);
+        ranking.recordReaction(2L, 10L, 1);
+        ranking.recordView(3L, 10L);
+
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(1L, 2L);
+        assertThat(ranking.topBoardIds(null, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 순위에서 제외된다")
+    void remove_ExcludesBoard() {
+        ranking.recordComment(1L, 10L);
+        ranking.recordView(2L, 10L);
+
+        ranking.remove(1L);
+
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 활동은 커밋 후에만 반영되고, 롤백되면 반영되지 않는다")
+    void record_AppliesAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ranking.recordComment(1L, 10L);
+            assertThat(ranking.topBoardIds(10L, 10)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ranking.remove(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(ranking.topBoardIds(10L, 10)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.live_backend.domain.board.reaction;
+
+import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardReactionToggler 동시성 테스트 (H2 MySQL 모드)")
+class BoardReactionTogglerTest {
+
+    private static final int THREADS = 16;
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardReactionToggler toggler;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE BOARD_REACTIONS (ID BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "BOARD_ID BIGINT NOT NULL, MEMBER_ID BIGINT NOT NULL, REACTION_TYPE VARCHAR(20) NOT NULL, " +
+                "CREATED_AT TIMESTAMP(6), MODIFIED_AT TIMESTAMP(6), DELETED_AT TIMESTAMP(6), " +
+                "UNIQUE (BOARD_ID, MEMBER_ID, REACTION_TYPE))");
+        jdbcTemplate.execute("CREATE TABLE BOARD_REACTION_COUNTS (ID BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "BOARD_ID BIGINT NOT NULL, REACTION_TYPE VARCHAR(20) NOT NULL, REACTION_COUNT BIGINT NOT NULL, " +
+                "UNIQUE (BOARD_ID, REACTION_TYPE))");
+
+        toggler = new BoardReactionToggler(jdbcTemplate, new DataSourceTransactionManager(dataSource), 64);
+    }
+
+    @Test
+    @DisplayName("다른 반응으로 바꾸면 기존 반응이 취소되고, 같은 반응을 다시 누르면 취소된다")
+    void toggle_SwitchesAndCancels() {
+        ReactionToggleResult added = toggler.toggle(1L, 1L, ReactionType.EMPATHY);
+        ReactionToggleResult switched = toggler.toggle(1L, 1L, ReactionType.USEFUL);
+        ReactionToggleResult cancelled = toggler.toggle(1L, 1L, ReactionType.USEFUL);
+
+        assertThat(added.reactionDelta()).isEqualTo(1);
+        assertThat(switched.deactivated()).containsExactly(ReactionType.EMPATHY);
+        assertThat(switched.reactionDelta()).isZero();
+        assertThat(cancelled.active()).isFalse();
+        assertThat(cancelled.reactionDelta()).isEqualTo(-1);
+        assertThat(activeCount(1L, ReactionType.EMPATHY)).isZero();
+        assertThat(activeCount(1L, ReactionType.USEFUL)).isZero();
+        assertThat(counter(1L, ReactionType.EMPATHY)).isZero();
+        assertThat(counter(1L, ReactionType.USEFUL)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 반응 연타는 유니크 제약 위반 없이 누른 횟수의 홀짝대로 남는다")
+    void toggle_ConcurrentTapsKeepParity() throws Exception {
+        seedCounters(1L);
+        List<Runnable> taps = new ArrayList<>();
+        for (long memberId = 1; memberId <= 50; memberId++) {
+            long member = memberId;
+            int tapCount = memberId % 2 == 0 ? 40 : 41;
+            for (int i = 0; i < tapCount; i++) {
+                taps.add(() -> toggler.toggle(1L, member, ReactionType.EMPATHY));
+            }
+        }
+
+        runConcurrently(taps, new Random(7));
+
+        assertThat(activeCount(1L, ReactionType.EMPATHY)).isEqualTo(25);
+        assertThat(counter(1L, ReactionType.EMPATHY)).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT MEMBER_ID FROM BOARD_REACTIONS WHERE DELETED_AT IS NULL", Long.class))
+                .allMatch(memberId -> memberId % 2 == 1);
+    }
+
+    @Test
+    @DisplayName("여러 회원이 여러 반응을 동시에 토글해도 회원당 활성 반응은 하나 이하이고 집계가 원본과 같다")
+    void toggle_ConcurrentMixedTypesKeepCountsConsistent() throws Exception {
+        Random random = new Random(42);
+        ReactionType[] types = ReactionType.values();
+        List<Runnable> taps = new ArrayList<>();
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            seedCounters(boardId);
+        }
+        for (int i = 0; i < 3000; i++) {
+            long boardId = 1 + random.nextInt(3);
+            long memberId = 1 + random.nextInt(30);
+            ReactionType type = types[random.nextInt(types.length)];
+            taps.add(() -> toggler.toggle(boardId, memberId, type));
+        }
+
+        runConcurrently(taps, random);
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM BOARD_REACTIONS WHERE DELETED_AT IS NULL GROUP BY BOARD_ID, MEMBER_ID", Long.class))
+                .allMatch(active -> active <= 1);
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            for (ReactionType type : types) {
+                assertThat(counter(boardId, type))
+                        .as("board %d %s", boardId, type)
+                        .isEqualTo(activeCount(boardId, type));
+            }
+        }
+    }
+
+    private void runConcurrently(List<Runnable> tasks, Random random) throws Exception {
+        Collections.shuffle(tasks, random);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // H2 는 같은 키의 동시 INSERT 를 MySQL 처럼 기다렸다 갱신하지 않으므로 집계 행은 미리 생성
+    private void seedCounters(long boardId) {
+        for (ReactionType type : ReactionType.values()) {
+            jdbcTemplate.update("INSERT INTO BOARD_REACTION_COUNTS (BOARD_ID, REACTION_TYPE, REACTION_COUNT) VALUES (?, ?, 0)",
+                    boardId, type.name());
+        }
+    }
+
+    private long activeCount(long boardId, ReactionType type) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM BOARD_REACTIONS WHERE BOARD_ID = ? AND REACTION_TYPE = ? AND DELETED_AT IS NULL",
+                Long.class, boardId, type.name());
+    }
+
+    private long counter(long boardId, ReactionType type) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT REACTION_COUNT FROM BOARD_REACTION_COUNTS WHERE BOARD_ID = ? AND REACTION_TYPE = ?",
+                Long.class, boardId, type.name());
+        return counts.isEmpty() ? 0L : counts.get(0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.live_backend.domain.board.search;
+
+import com.example.live_backend.domain.board.dto.cursor.BoardSortType;
+import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
+import com.example.live_backend.global.page.CursorTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardSearchFirstPageCache 테스트")
+class BoardSearchFirstPageCacheTest {
+
+    private PopularSearchKeywords popularSearchKeywords;
+    private BoardSearchFirstPageCache cache;
+    private List<String> loadedKeywords;
+    private Function<String, CursorTemplate<String, BoardListResponseDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        popularSearchKeywords = new PopularSearchKeywords(10);
+        cache = new BoardSearchFirstPageCache(popularSearchKeywords, 1, 60_000L, new SimpleMeterRegistry(),
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC")));
+        loadedKeywords = new ArrayList<>();
+        loader = keyword -> {
+            loadedKeywords.add(keyword);
+            return CursorTemplate.ofEmpty();
+        };
+    }
+
+    @Test
+    @DisplayName("갱신 시 상위 검색어의 첫 페이지를 미리 만들고, 이후 요청은 로더를 호출하지 않는다")
+    void refresh_PrecomputesTopKeywords() {
+        popularSearchKeywords.record("봉사");
+        popularSearchKeywords.record("봉사");
+        popularSearchKeywords.record("장학금");
+        cache.get("장학금", BoardSortType.LATEST, loader);
+
+        cache.refresh();
+        loadedKeywords.clear();
+        cache.get("봉사", BoardSortType.LATEST, loader);
+        cache.get("  봉사 ", BoardSortType.LATEST, loader);
+        cache.get("장학금", BoardSortType.LATEST, loader);
+
+        assertThat(loadedKeywords).containsExactly("장학금");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 요청에서 다시 조회해 캐시한다")
+    void invalidate_ReloadsOnNextRequest() {
+        popularSearchKeywords.record("봉사");
+        cache.get("봉사", BoardSortType.VIEWS, loader);
+        cache.refresh();
+
+        cache.invalidate();
+        cache.get("봉사", BoardSortType.VIEWS, loader);
+        cache.get("봉사", BoardSortType.VIEWS, loader);
+
+        assertThat(loadedKeywords).containsExactly("봉사", "봉사", "봉사");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 캐시한 페이지도 커밋 후 비운다")
+    void invalidate_ClearsAgainAfterCommit() {
+        popularSearchKeywords.record("봉사");
+        cache.get("봉사", BoardSortType.VIEWS, loader);
+        cache.refresh();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate();
+            cache.get("봉사", BoardSortType.VIEWS, loader);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get("봉사", BoardSortType.VIEWS, loader);
+
+        assertThat(loadedKeywords).containsExactly("봉사", "봉사", "봉사", "봉사");
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.live_backend.domain.board.search;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardSearchIndex 테스트")
+class BoardSearchIndexTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BoardSearchIndex(boardRepository);
+    }
+
+    @Test
+    @DisplayName("DB에서 색인을 구축하고 제목/본문 부분 일치로 검색한다")
+    @SuppressWarnings("unchecked")
+    void rebuild_AndSearch() {
+        willAnswer(invocation -> {
+            Consumer<BoardSearchDocument> consumer = invocation.getArgument(0);
+            consumer.accept(new BoardSearchDocument(1L, "청년 마음건강 지원사업", "상담 프로그램 안내"));
+            consumer.accept(new BoardSearchDocument(2L, "Spring 모집 공고", "마음 챙김 명상"));
+            consumer.accept(new BoardSearchDocument(3L, "공지사항", "건강검진 일정"));
+            return null;
+        }).given(boardRepository).scanSearchDocuments(any(Consumer.class));
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("마음")).containsExactly(1L, 2L);
+        assertThat(index.search("  마음건강 ")).containsExactly(1L);
+        assertThat(index.search("건강")).containsExactly(1L, 3L);
+        assertThat(index.search("spring")).containsExactly(2L);
+        assertThat(index.search("공")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("gram이 모두 포함되어도 연속된 문자열이 아니면 검색되지 않는다")
+    void search_VerifiesSubstring() {
+        index.index(1L, "건강 마음", "");
+
+        assertThat(index.search("마음건강")).isEmpty();
+        assertThat(index.search("강 마")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 색인이 갱신된다")
+    void index_UpdateAndRemove() {
+        index.index(1L, "봄 소풍", "공원에서");
+        index.index(1L, "가을 소풍", "박물관에서");
+
+        assertThat(index.search("봄")).isEmpty();
+        assertThat(index.search("가을")).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("소풍")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 구축 실패 시 준비되지 않은 상태로 남는다")
+    @SuppressWarnings("unchecked")
+    void rebuild_Failure() {
+        willThrow(new IllegalStateException("db down"))
+                .given(boardRepository).scanSearchDocuments(any(Consumer.class));
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isFalse();
+    }
+}
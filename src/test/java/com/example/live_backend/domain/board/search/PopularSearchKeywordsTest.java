@@ -0,0 +1,63 @@
+package com.example.live_backend.domain.board.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PopularSearchKeywords 테스트")
+class PopularSearchKeywordsTest {
+
+    @Test
+    @DisplayName("대소문자와 공백 차이는 같은 검색어로 센다")
+    void record_NormalizesKeyword() {
+        PopularSearchKeywords keywords = new PopularSearchKeywords(10);
+
+        keywords.record("Spring  Boot");
+        keywords.record(" spring boot ");
+        keywords.record("   ");
+
+        assertThat(keywords.top(10))
+                .containsExactly(new PopularSearchKeywords.KeywordCount("spring boot", 2, 0));
+    }
+
+    @Test
+    @DisplayName("용량보다 많은 검색어가 섞여도 자주 검색된 검색어가 상위에 남는다")
+    void top_KeepsHeavyHitters() {
+        PopularSearchKeywords keywords = new PopularSearchKeywords(20);
+        Random random = new Random(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 30) {
+                keywords.record("봉사");
+            } else if (roll < 50) {
+                keywords.record("장학금");
+            } else {
+                keywords.record("드문검색어" + random.nextInt(5_000));
+            }
+        }
+
+        assertThat(keywords.top(2))
+                .extracting(PopularSearchKeywords.KeywordCount::keyword)
+                .containsExactly("봉사", "장학금");
+        assertThat(keywords.top(100)).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("감쇠하면 횟수가 절반이 되고 1회 검색어는 제거된다")
+    void decay_HalvesCounts() {
+        PopularSearchKeywords keywords = new PopularSearchKeywords(10);
+        for (int i = 0; i < 4; i++) {
+            keywords.record("봉사");
+        }
+        keywords.record("장학금");
+
+        keywords.decay();
+
+        assertThat(keywords.top(10))
+                .containsExactly(new PopularSearchKeywords.KeywordCount("봉사", 2, 0));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardCommentCountReconciler 테스트")
+class BoardCommentCountReconcilerTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardCommentCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new BoardCommentCountReconciler(boardRepository, 100L);
+    }
+
+    @Test
+    @DisplayName("게시글 ID 구간별로 댓글 수를 보정한다")
+    void reconcile_ByBoardIdRange() {
+        given(boardRepository.findMaxId()).willReturn(150L);
+
+        reconciler.reconcile();
+
+        verify(boardRepository).reconcileCommentCounts(1L, 100L);
+        verify(boardRepository).reconcileCommentCounts(101L, 150L);
+    }
+
+    @Test
+    @DisplayName("집계 누락이 없으면 기동 시 보정하지 않는다")
+    void backfillIfMissing_SkipsWhenPopulated() {
+        given(boardRepository.countMissingCommentCounts()).willReturn(0L);
+
+        reconciler.backfillIfMissing();
+
+        verify(boardRepository, never()).reconcileCommentCounts(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.dto.response.BoardCategoryHomeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardHomeFeedCache 테스트")
+class BoardHomeFeedCacheTest {
+
+    private MutableClock clock;
+    private BoardHomeFeedCache cache;
+    private AtomicInteger loadCount;
+    private Supplier<List<BoardCategoryHomeResponseDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new BoardHomeFeedCache(new ObjectMapper().findAndRegisterModules(), 60_000L, clock);
+        loadCount = new AtomicInteger();
+        loader = () -> {
+            loadCount.incrementAndGet();
+            return List.of(new BoardCategoryHomeResponseDto("공지", List.of()));
+        };
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 로더를 다시 호출하지 않는다")
+    void get_ReusesSnapshot() {
+        cache.get("latest", loader);
+        List<BoardCategoryHomeResponseDto> result = cache.get("latest", loader);
+
+        assertThat(loadCount).hasValue(1);
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주기적 갱신은 요청된 적 있는 정렬 기준의 스냅샷을 다시 만든다")
+    void refresh_RebuildsKnownKeys() {
+        cache.get("latest", loader);
+
+        cache.refresh();
+        cache.get("latest", loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후 첫 요청에서 스냅샷을 다시 만든다")
+    void invalidate_ForcesRebuild() {
+        cache.get("latest", loader);
+
+        cache.invalidate();
+        cache.get("latest", loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 만든 스냅샷도 커밋 후 비운다")
+    void invalidate_ClearsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate();
+            cache.get("latest", loader);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get("latest", loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("허용 지연 시간을 넘긴 스냅샷은 요청 시점에 다시 만든다")
+    void get_RebuildsStaleSnapshot() {
+        cache.get("latest", loader);
+
+        clock.advanceMillis(60_001L);
+        cache.get("latest", loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다시 만든 스냅샷의 내용이 같으면 버전이 유지된다")
+    void getVersion_StableForSameContent() {
+        String version = cache.getVersion("latest", loader);
+
+        cache.refresh();
+
+        assertThat(cache.getVersion("latest", loader)).isEqualTo(version);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 내용이 바뀌면 버전도 바뀐다")
+    void getVersion_ChangesWithContent() {
+        List<BoardCategoryHomeResponseDto> notices = List.of(new BoardCategoryHomeResponseDto("공지", List.of()));
+        AtomicReference<List<BoardCategoryHomeResponseDto>> boards = new AtomicReference<>(notices);
+        String version = cache.getVersion("latest", boards::get);
+
+        boards.set(List.of(new BoardCategoryHomeResponseDto("행사", List.of())));
+        cache.refresh();
+
+        assertThat(cache.getVersion("latest", boards::get)).isNotEqualTo(version);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardReactionCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardReactionCountReconciler 테스트")
+class BoardReactionCountReconcilerTest {
+
+    @Mock
+    private BoardReactionCounterRepository boardReactionCounterRepository;
+
+    private BoardReactionCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new BoardReactionCountReconciler(boardReactionCounterRepository, 100L);
+    }
+
+    @Test
+    @DisplayName("게시글 ID 구간별로 반응 수를 재계산한다")
+    void reconcile_ByBoardIdRange() {
+        given(boardReactionCounterRepository.findMaxBoardId()).willReturn(250L);
+
+        reconciler.reconcile();
+
+        verify(boardReactionCounterRepository).recomputeCounts(1L, 100L);
+        verify(boardReactionCounterRepository).recomputeCounts(101L, 200L);
+        verify(boardReactionCounterRepository).recomputeCounts(201L, 250L);
+        verify(boardReactionCounterRepository).resetOrphanCounts(201L, 250L);
+    }
+
+    @Test
+    @DisplayName("집계 테이블이 이미 채워져 있으면 기동 시 보정하지 않는다")
+    void backfillIfEmpty_SkipsWhenPopulated() {
+        given(boardReactionCounterRepository.count()).willReturn(10L);
+
+        reconciler.backfillIfEmpty();
+
+        verify(boardReactionCounterRepository, never()).recomputeCounts(anyLong(), anyLong());
+    }
+}
@@ -2,15 +2,28 @@ package com.example.live_backend.domain.board.service;
 
 import com.example.live_backend.domain.board.dto.request.BoardCreateRequestDto;
 import com.example.live_backend.domain.board.dto.request.BoardUpdateRequestDto;
+import com.example.live_backend.domain.board.dto.cursor.BoardCursor;
+import com.example.live_backend.domain.board.dto.cursor.BoardSortType;
 import com.example.live_backend.domain.board.dto.response.BoardDetailResponseDto;
+import com.example.live_backend.domain.board.dto.response.BoardListResponseDto;
 import com.example.live_backend.domain.board.entity.Board;
-import com.example.live_backend.domain.board.entity.BoardReaction;
 import com.example.live_backend.domain.board.entity.Category;
+import com.example.live_backend.domain.board.entity.Image;
 import com.example.live_backend.domain.board.entity.enums.ReactionType;
+import com.example.live_backend.domain.board.live.BoardLiveHub;
+import com.example.live_backend.domain.board.ranking.BoardTrendingRanking;
+import com.example.live_backend.domain.board.reaction.BoardReactionToggler;
+import com.example.live_backend.domain.board.reaction.ReactionToggleResult;
 import com.example.live_backend.domain.board.repository.*;
+import com.example.live_backend.domain.board.search.BoardSearchFirstPageCache;
+import com.example.live_backend.domain.board.search.BoardSearchIndex;
+import com.example.live_backend.domain.board.search.PopularSearchKeywords;
+import com.example.live_backend.domain.board.viewer.BoardUniqueViewerCounter;
 import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.memeber.service.MemberSummaryLoader;
 import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.page.CursorTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,8 +33,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,11 +50,21 @@ class BoardServiceTest {
 
 	@Mock private BoardRepository boardRepository;
 	@Mock private BoardReactionRepository boardReactionRepository;
+	@Mock private BoardReactionCounterRepository boardReactionCounterRepository;
 	@Mock private MemberRepository memberRepository;
 	@Mock private CategoryRepository categoryRepository;
 	@Mock private ImageRepository imageRepository;
 	@Mock private BoardImageRepository boardImageRepository;
-	@Mock private CommentRepository commentRepository; // 누락된 의존성 추가
+	@Mock private BoardViewCountBuffer boardViewCountBuffer;
+	@Mock private BoardUniqueViewerCounter boardUniqueViewerCounter;
+	@Mock private BoardHomeFeedCache boardHomeFeedCache;
+	@Mock private BoardSearchIndex boardSearchIndex;
+	@Mock private PopularSearchKeywords popularSearchKeywords;
+	@Mock private BoardSearchFirstPageCache boardSearchFirstPageCache;
+	@Mock private MemberSummaryLoader memberSummaryLoader;
+	@Mock private BoardTrendingRanking boardTrendingRanking;
+	@Mock private BoardLiveHub boardLiveHub;
+	@Mock private BoardReactionToggler boardReactionToggler;
 
 	@InjectMocks private BoardService boardService;
 
@@ -109,6 +135,93 @@ class BoardServiceTest {
 		verify(categoryRepository).findById(1L);
 	}
 
+	@Test @DisplayName("게시글 수정 시 기존 이미지는 유지하고 추가된 이미지만 연결")
+	void updateBoard_AppendsOnlyNewImages() {
+		BoardUpdateRequestDto dto = new BoardUpdateRequestDto(
+			"수정된 제목", "수정된 내용", 1L, "수정된 기관", List.of("https://s3/a.png", "https://s3/b.png")
+		);
+		BoardImageRepository.BoardImageLink existingLink = mock(BoardImageRepository.BoardImageLink.class);
+		when(existingLink.getS3Url()).thenReturn("https://s3/a.png");
+		Image newImage = mock(Image.class);
+		when(newImage.getId()).thenReturn(20L);
+		when(newImage.getS3Url()).thenReturn("https://s3/b.png");
+
+		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
+		when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+		when(boardImageRepository.findLinksByBoardId(1L)).thenReturn(List.of(existingLink));
+		when(imageRepository.findByS3UrlIn(Set.of("https://s3/b.png"))).thenReturn(List.of(newImage));
+
+		boardService.updateBoard(1L, dto);
+
+		verify(boardImageRepository, never()).deleteAllByIdIn(any());
+		verify(imageRepository, never()).insertOrFindIds(any());
+		verify(boardImageRepository).insertLinks(1L, List.of(20L));
+	}
+
+	@Test @DisplayName("게시글 수정 시 등록되지 않은 이미지는 등록 결과로 받은 ID로 연결")
+	void updateBoard_LinksInsertedImageIds() {
+		BoardUpdateRequestDto dto = new BoardUpdateRequestDto(
+			"수정된 제목", "수정된 내용", 1L, "수정된 기관", List.of("https://s3/c.png")
+		);
+		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
+		when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+		when(boardImageRepository.findLinksByBoardId(1L)).thenReturn(List.of());
+		when(imageRepository.findByS3UrlIn(Set.of("https://s3/c.png"))).thenReturn(List.of());
+		when(imageRepository.insertOrFindIds(List.of("https://s3/c.png"))).thenReturn(Map.of("https://s3/c.png", 30L));
+
+		boardService.updateBoard(1L, dto);
+
+		verify(boardImageRepository).insertLinks(1L, List.of(30L));
+	}
+
+	@Test @DisplayName("조회수순 카테고리 조회는 (조회수, ID) 커서로 다음 페이지를 이어서 조회")
+	void getBoardsByCategoryWithCursor_ViewsKeyset() {
+		BoardSummaryRow first = createSummaryRow(1L, 10L);
+		BoardSummaryRow second = createSummaryRow(2L, 5L);
+		when(boardRepository.findByCategoryWithCursorOrderByViews(eq("공지"), isNull(), isNull(), any()))
+			.thenReturn(List.of(first, second));
+
+		CursorTemplate<String, BoardListResponseDto> firstPage =
+			boardService.getBoardsByCategoryWithCursor("공지", null, 1, "views");
+
+		assertThat(firstPage.hasNext()).isTrue();
+		BoardCursor next = BoardCursor.decode(firstPage.nextCursor(), BoardSortType.VIEWS);
+		assertThat(next).isEqualTo(new BoardCursor(10L, 1L));
+
+		when(boardRepository.findByCategoryWithCursorOrderByViews(eq("공지"), eq(10L), eq(1L), any()))
+			.thenReturn(List.of(second));
+
+		CursorTemplate<String, BoardListResponseDto> secondPage =
+			boardService.getBoardsByCategoryWithCursor("공지", firstPage.nextCursor(), 1, "views");
+
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.content()).extracting(BoardListResponseDto::getId).containsExactly(2L);
+	}
+
+	@Test @DisplayName("기본 크기의 첫 페이지 검색은 인기 검색어로 집계하고 첫 페이지 캐시를 거친다")
+	void searchBoardsWithCursor_FirstPageUsesCache() {
+		CursorTemplate<String, BoardListResponseDto> cached = CursorTemplate.ofEmpty();
+		when(boardSearchFirstPageCache.get(eq("봉사"), eq(BoardSortType.LATEST), any())).thenReturn(cached);
+
+		CursorTemplate<String, BoardListResponseDto> result =
+			boardService.searchBoardsWithCursor("봉사", null, 20, "latest");
+
+		assertThat(result).isSameAs(cached);
+		verify(popularSearchKeywords).record("봉사");
+		verify(boardRepository, never()).searchBoardsWithCursor(any(), any(), anyInt());
+	}
+
+	@Test @DisplayName("다음 페이지 검색은 집계하지 않고 캐시를 거치지 않는다")
+	void searchBoardsWithCursor_NextPageSkipsCache() {
+		String cursor = new BoardCursor(null, 10L).encode(BoardSortType.LATEST);
+		when(boardRepository.searchBoardsWithCursor("봉사", 10L, 20)).thenReturn(List.of());
+
+		boardService.searchBoardsWithCursor("봉사", cursor, 20, "latest");
+
+		verify(popularSearchKeywords, never()).record(any());
+		verify(boardSearchFirstPageCache, never()).get(any(), any(), any());
+	}
+
 	@Test @DisplayName("존재하지 않는 게시글 수정 실패")
 	void updateBoard_BoardNotFound() {
 		BoardUpdateRequestDto dto = new BoardUpdateRequestDto(
@@ -130,80 +243,74 @@ class BoardServiceTest {
 		assertThat(board.getIsDeleted()).isTrue();
 	}
 
-	@Test @DisplayName("게시글 상세 조회 성공 - 조회수 증가")
+	@Test @DisplayName("게시글 상세 조회 성공 - 조회수는 버퍼에 누적")
 	void getBoardDetail_Success() {
 		Long before = board.getViewCount();
 		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
-		when(boardReactionRepository.countReactionsByBoardId(1L)).thenReturn(List.of());
+		when(boardReactionCounterRepository.findByBoardId(1L)).thenReturn(List.of());
 		when(boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(1L, 1L))
 			.thenReturn(List.of());
+		when(boardViewCountBuffer.getPendingCount(1L)).thenReturn(1L);
 
 		BoardDetailResponseDto resp = boardService.getBoardDetail(1L, 1L);
 
 		assertThat(resp.getId()).isEqualTo(1L);
-		assertThat(board.getViewCount()).isEqualTo(before + 1);
+		assertThat(resp.getViewCount()).isEqualTo(before + 1);
+		assertThat(board.getViewCount()).isEqualTo(before);
+		verify(boardViewCountBuffer).increment(1L);
 	}
 
 	@Test @DisplayName("새로운 반응 추가 성공")
 	void toggleReaction_NewReaction_Success() {
 		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
-		when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-		when(boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(1L, 1L))
-			.thenReturn(List.of());
-		when(boardReactionRepository.findByBoardIdAndMemberIdAndReactionType(
-			1L, 1L, ReactionType.EMPATHY))
-			.thenReturn(Optional.empty());
+		when(memberRepository.existsById(1L)).thenReturn(true);
+		when(boardReactionToggler.toggle(1L, 1L, ReactionType.EMPATHY))
+			.thenReturn(new ReactionToggleResult(true, List.of()));
 
 		boardService.toggleReaction(1L, 1L, ReactionType.EMPATHY);
 
-		verify(boardReactionRepository).save(any(BoardReaction.class));
+		verify(boardTrendingRanking).recordReaction(1L, 1L, 1);
+		verify(boardLiveHub).onChanged(1L);
 	}
 
 	@Test @DisplayName("같은 반응 다시 누르면 삭제")
 	void toggleReaction_SameReaction_Delete() {
-		BoardReaction existing = createBoardReaction(1L, board, member, ReactionType.EMPATHY);
 		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
-		when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-		when(boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(1L, 1L))
-			.thenReturn(List.of(existing));
+		when(memberRepository.existsById(1L)).thenReturn(true);
+		when(boardReactionToggler.toggle(1L, 1L, ReactionType.EMPATHY))
+			.thenReturn(new ReactionToggleResult(false, List.of()));
 
 		boardService.toggleReaction(1L, 1L, ReactionType.EMPATHY);
 
-		assertThat(existing.getDeletedAt()).isNotNull();
+		verify(boardTrendingRanking).recordReaction(1L, 1L, -1);
 	}
 
-	@Test @DisplayName("다른 반응으로 변경")
+	@Test @DisplayName("다른 반응으로 변경하면 반응 수가 그대로라 인기 점수는 바뀌지 않음")
 	void toggleReaction_DifferentReaction_Change() {
-		BoardReaction existing = createBoardReaction(1L, board, member, ReactionType.EMPATHY);
 		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
-		when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-		when(boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(1L, 1L))
-			.thenReturn(List.of(existing));
-		when(boardReactionRepository.findByBoardIdAndMemberIdAndReactionType(
-			1L, 1L, ReactionType.USEFUL))
-			.thenReturn(Optional.empty());
+		when(memberRepository.existsById(1L)).thenReturn(true);
+		when(boardReactionToggler.toggle(1L, 1L, ReactionType.USEFUL))
+			.thenReturn(new ReactionToggleResult(true, List.of(ReactionType.EMPATHY)));
 
 		boardService.toggleReaction(1L, 1L, ReactionType.USEFUL);
 
-		assertThat(existing.getDeletedAt()).isNotNull();
-		verify(boardReactionRepository).save(any(BoardReaction.class));
+		verify(boardTrendingRanking, never()).recordReaction(anyLong(), anyLong(), anyInt());
+		verify(boardLiveHub).onChanged(1L);
 	}
 
-	@Test @DisplayName("이전에 같은 타입 반응이 있었다면 재활성화")
-	void toggleReaction_ReactivateExisting() {
-		BoardReaction existing = createBoardReaction(1L, board, member, ReactionType.USEFUL);
-		existing.delete();
+	@Test @DisplayName("존재하지 않는 회원의 반응 토글 실패")
+	void toggleReaction_MemberNotFound() {
 		when(boardRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(board));
-		when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-		when(boardReactionRepository.findActiveReactionsByBoardIdAndMemberId(1L, 1L))
-			.thenReturn(List.of());
-		when(boardReactionRepository.findByBoardIdAndMemberIdAndReactionType(
-			1L, 1L, ReactionType.USEFUL))
-			.thenReturn(Optional.of(existing));
+		when(memberRepository.existsById(1L)).thenReturn(false);
 
-		boardService.toggleReaction(1L, 1L, ReactionType.USEFUL);
+		assertThatThrownBy(() -> boardService.toggleReaction(1L, 1L, ReactionType.EMPATHY))
+			.isInstanceOf(CustomException.class);
+		verify(boardReactionToggler, never()).toggle(any(), any(), any());
+	}
 
-		assertThat(existing.getDeletedAt()).isNull();
+	private BoardSummaryRow createSummaryRow(Long id, Long viewCount) {
+		return new BoardSummaryRow(id, "제목" + id, 1L, "공지", "테스트 기관", "미리보기", null,
+			1L, viewCount, 0L, 0L, LocalDateTime.now());
 	}
 
 	private Board createBoard(Long id, String title, String content,
@@ -222,19 +329,4 @@ class BoardServiceTest {
 		} catch (Exception ignored) {}
 		return b;
 	}
-
-	private BoardReaction createBoardReaction(Long id, Board board,
-		Member member, ReactionType type) {
-		BoardReaction r = BoardReaction.builder()
-			.board(board)
-			.member(member)
-			.reactionType(type)
-			.build();
-		try {
-			Field f = BoardReaction.class.getDeclaredField("id");
-			f.setAccessible(true);
-			f.set(r, id);
-		} catch (Exception ignored) {}
-		return r;
-	}
-}
\ No newline at end of file
+}
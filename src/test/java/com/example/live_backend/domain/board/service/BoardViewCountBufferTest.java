@@ -0,0 +1,100 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardViewCountBuffer 테스트")
+class BoardViewCountBufferTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new BoardViewCountBuffer(boardRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수는 게시글별로 합산되어 한 번에 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_AggregatesPerBoard() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(boardRepository).addViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(buffer.getPendingTotal()).isZero();
+        assertThat(meterRegistry.get("board.view_count.flushed").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB를 호출하지 않는다")
+    void flush_NothingPending() {
+        buffer.flush();
+
+        verify(boardRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분은 버퍼로 되돌아간다")
+    void flush_FailureRestoresPending() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        willThrow(new IllegalStateException("db down")).given(boardRepository).addViewCounts(anyMap());
+
+        buffer.flush();
+
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2L);
+        assertThat(meterRegistry.get("board.view_count.pending").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("동시 조회 요청의 증가분이 유실되지 않는다")
+    void increment_Concurrent() throws InterruptedException {
+        int threads = 8;
+        int perThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    buffer.increment(7L);
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(buffer.getPendingCount(7L)).isEqualTo((long) threads * perThread);
+    }
+}
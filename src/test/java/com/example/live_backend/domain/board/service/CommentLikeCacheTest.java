@@ -0,0 +1,87 @@
+package com.example.live_backend.domain.board.service;
+
+import com.example.live_backend.domain.board.repository.CommentLikeRepository;
+import com.example.live_backend.infra.database.PrimaryReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentLikeCache 테스트")
+class CommentLikeCacheTest {
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    private CommentLikeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CommentLikeCache(commentLikeRepository, new PrimaryReads(null, null), 100, 2);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 반복 조회는 캐시된 좋아요 목록으로 응답한다")
+    void findLikedAmong_ReusesCachedSet() {
+        given(commentLikeRepository.findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(10L));
+
+        cache.findLikedAmong(1L, List.of(10L, 11L));
+        assertThat(cache.findLikedAmong(1L, List.of(10L, 11L))).containsExactly(10L);
+
+        verify(commentLikeRepository, times(1)).findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("좋아요 토글은 캐시된 목록에 바로 반영된다")
+    void onLikedAndUnliked_UpdateCachedSet() {
+        given(commentLikeRepository.findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(10L));
+        cache.findLikedAmong(1L, List.of(10L));
+
+        cache.onLiked(1L, 11L);
+        cache.onUnliked(1L, 10L);
+
+        assertThat(cache.findLikedAmong(1L, List.of(10L, 11L))).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("목록을 조회하는 동안 좋아요가 바뀌면 조회한 목록을 캐시하지 않는다")
+    void findLikedAmong_DiscardsLoadRacingWithChange() {
+        given(commentLikeRepository.findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    cache.onLiked(1L, 11L);
+                    return List.of(10L);
+                })
+                .willReturn(List.of(10L, 11L));
+
+        cache.findLikedAmong(1L, List.of(10L, 11L));
+
+        assertThat(cache.findLikedAmong(1L, List.of(10L, 11L))).containsExactlyInAnyOrder(10L, 11L);
+        verify(commentLikeRepository, times(2)).findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("좋아요가 상한보다 많은 회원은 페이지 댓글 ID로 조회한다")
+    void findLikedAmong_FallsBackForHeavyLikers() {
+        given(commentLikeRepository.findRecentLikedCommentIdsByMemberId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(10L, 11L, 12L));
+        given(commentLikeRepository.findLikedCommentIdsByMemberAndCommentIds(List.of(10L), 1L))
+                .willReturn(List.of(10L));
+
+        assertThat(cache.findLikedAmong(1L, List.of(10L))).containsExactly(10L);
+    }
+}
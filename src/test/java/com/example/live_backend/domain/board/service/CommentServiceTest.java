@@ -7,14 +7,18 @@ import com.example.live_backend.domain.board.entity.Board;
 import com.example.live_backend.domain.board.entity.Category;
 import com.example.live_backend.domain.board.entity.Comment;
 import com.example.live_backend.domain.board.entity.CommentLike;
+import com.example.live_backend.domain.board.live.BoardLiveHub;
+import com.example.live_backend.domain.board.ranking.BoardTrendingRanking;
 import com.example.live_backend.domain.board.repository.BoardRepository;
 import com.example.live_backend.domain.board.repository.CommentLikeRepository;
 import com.example.live_backend.domain.board.repository.CommentRepository;
 import com.example.live_backend.domain.memeber.entity.Member;
 import com.example.live_backend.domain.memeber.entity.vo.Profile;
 import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.memeber.service.MemberSummaryLoader;
 import com.example.live_backend.global.error.exception.CustomException;
 import com.example.live_backend.global.error.exception.ErrorCode;
+import com.example.live_backend.global.page.CursorTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -54,6 +59,15 @@ class CommentServiceTest {
     @Mock
     private CommentLikeService commentLikeService;
 
+    @Mock
+    private MemberSummaryLoader memberSummaryLoader;
+
+    @Mock
+    private BoardTrendingRanking boardTrendingRanking;
+
+    @Mock
+    private BoardLiveHub boardLiveHub;
+
     private Board board;
     private Member author;
     private Comment parentComment;
@@ -127,45 +141,112 @@ class CommentServiceTest {
         Long memberId = 1L;
         
         // 부모 댓글이 없는 경우
-        given(commentRepository.findParentCommentsByBoardId(boardId)).willReturn(List.of());
+        given(commentRepository.findParentCommentsByBoardIdWithCursor(eq(boardId), isNull(), any(Pageable.class)))
+                .willReturn(List.of());
 
         // when
-        List<CommentResponseDto> result = commentService.getCommentsByBoardId(boardId, memberId);
+        CursorTemplate<Long, CommentResponseDto> result =
+                commentService.getCommentsByBoardId(boardId, memberId, null, 20);
 
         // then
-        assertThat(result).isEmpty();
-        then(commentRepository).should().findParentCommentsByBoardId(boardId);
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
         then(commentLikeService).shouldHaveNoInteractions();
     }
     
     @Test
-    @DisplayName("댓글 목록 조회 - 댓글이 있는 경우")
+    @DisplayName("댓글 목록 조회 - 부모 댓글만 조회하고 대댓글 수를 포함한다")
     void getCommentsByBoardId_WithComments() {
         // given
         Long boardId = 1L;
         Long memberId = 1L;
         
-        given(commentRepository.findParentCommentsByBoardId(boardId)).willReturn(List.of(parentComment));
-        given(commentRepository.findRepliesByParentCommentIds(List.of(1L))).willReturn(List.of(reply));
+        given(commentRepository.findParentCommentsByBoardIdWithCursor(eq(boardId), isNull(), any(Pageable.class)))
+                .willReturn(List.of(parentComment));
+        CommentRepository.ReplyCount replyCount = mock(CommentRepository.ReplyCount.class);
+        given(replyCount.getParentCommentId()).willReturn(1L);
+        given(replyCount.getCount()).willReturn(1L);
+        given(commentRepository.countRepliesByParentCommentIds(List.of(1L))).willReturn(List.of(replyCount));
         
         CommentLikeService.CommentLikeMetadata metadata = new CommentLikeService.CommentLikeMetadata(
-            Map.of(1L, 5L, 2L, 3L),
+            Map.of(1L, 5L),
             Set.of(1L)
         );
-        given(commentLikeService.getCommentLikeMetadata(anyList(), eq(memberId))).willReturn(metadata);
+        given(commentLikeService.getCommentLikeMetadata(List.of(parentComment), memberId)).willReturn(metadata);
+        given(memberSummaryLoader.loadNicknames(List.of(1L), "알 수 없음")).willReturn(Map.of(1L, "테스트유저"));
 
         // when
-        List<CommentResponseDto> result = commentService.getCommentsByBoardId(boardId, memberId);
+        CursorTemplate<Long, CommentResponseDto> result =
+                commentService.getCommentsByBoardId(boardId, memberId, null, 20);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getContent()).isEqualTo("부모 댓글");
-        assertThat(result.get(0).getReplies()).hasSize(1);
-        assertThat(result.get(0).getReplies().get(0).getContent()).isEqualTo("대댓글");
-        
-        then(commentRepository).should().findParentCommentsByBoardId(boardId);
-        then(commentRepository).should().findRepliesByParentCommentIds(List.of(1L));
-        then(commentLikeService).should().getCommentLikeMetadata(anyList(), eq(memberId));
+        assertThat(result.content()).hasSize(1);
+        CommentResponseDto comment = result.content().get(0);
+        assertThat(comment.getContent()).isEqualTo("부모 댓글");
+        assertThat(comment.getAuthorNickname()).isEqualTo("테스트유저");
+        assertThat(comment.getLikeCount()).isEqualTo(5L);
+        assertThat(comment.getReplyCount()).isEqualTo(1L);
+        assertThat(comment.getReplies()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 - 요청 크기보다 많으면 다음 커서를 반환한다")
+    void getCommentsByBoardId_HasNext() throws Exception {
+        // given
+        Comment secondParent = Comment.builder()
+                .content("두 번째 댓글")
+                .board(board)
+                .author(author)
+                .parentComment(null)
+                .build();
+        setId(secondParent, 3L);
+
+        given(commentRepository.findParentCommentsByBoardIdWithCursor(eq(1L), isNull(), any(Pageable.class)))
+                .willReturn(List.of(parentComment, secondParent));
+        given(commentRepository.countRepliesByParentCommentIds(List.of(1L))).willReturn(List.of());
+        given(commentLikeService.getCommentLikeMetadata(List.of(parentComment), null))
+                .willReturn(new CommentLikeService.CommentLikeMetadata(Map.of(), Set.of()));
+
+        // when
+        CursorTemplate<Long, CommentResponseDto> result =
+                commentService.getCommentsByBoardId(1L, null, null, 1);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("대댓글 목록 조회 - 부모 댓글별 커서로 조회한다")
+    void getReplies_Success() {
+        // given
+        given(commentRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(parentComment));
+        given(commentRepository.findRepliesByParentCommentIdWithCursor(eq(1L), eq(1L), any(Pageable.class)))
+                .willReturn(List.of(reply));
+        given(commentLikeService.getCommentLikeMetadata(List.of(reply), 1L))
+                .willReturn(new CommentLikeService.CommentLikeMetadata(Map.of(2L, 3L), Set.of()));
+
+        // when
+        CursorTemplate<Long, CommentResponseDto> result = commentService.getReplies(1L, 1L, 1L, 1L, 20);
+
+        // then
+        assertThat(result.content()).extracting(CommentResponseDto::getContent).containsExactly("대댓글");
+        assertThat(result.content().get(0).getLikeCount()).isEqualTo(3L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대댓글 목록 조회 - 다른 게시글의 댓글이면 예외")
+    void getReplies_BoardMismatch() {
+        // given
+        given(commentRepository.findByIdAndNotDeleted(1L)).willReturn(Optional.of(parentComment));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getReplies(99L, 1L, 1L, null, 20))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
     }
 
     @Test
@@ -193,6 +274,8 @@ class CommentServiceTest {
                 comment.getAuthor().equals(author) &&
                 comment.getParentComment() == null
         ));
+        then(boardRepository).should().addCommentCount(boardId, 1);
+        then(boardLiveHub).should().onChanged(boardId);
     }
 
     @Test
@@ -238,6 +321,7 @@ class CommentServiceTest {
                 comment.getAuthor().equals(author) &&
                 comment.getParentComment().equals(parentComment)
         ));
+        then(boardRepository).should().addCommentCount(boardId, 1);
     }
 
     @Test
@@ -305,6 +389,7 @@ class CommentServiceTest {
 
         // then
         assertThat(parentComment.getIsDeleted()).isTrue();
+        then(boardRepository).should().addCommentCount(1L, -1);
     }
 
     @Test
@@ -0,0 +1,94 @@
+package com.example.live_backend.domain.board.viewer;
+
+import com.example.live_backend.domain.board.entity.BoardViewerSketch;
+import com.example.live_backend.domain.board.repository.BoardRepository;
+import com.example.live_backend.domain.board.repository.BoardViewerSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardUniqueViewerCounter 테스트")
+class BoardUniqueViewerCounterTest {
+
+    @Mock
+    private BoardViewerSketchRepository boardViewerSketchRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardUniqueViewerCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new BoardUniqueViewerCounter(boardViewerSketchRepository, boardRepository,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("저장된 스케치와 병합해 고유 조회자 수를 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_MergesStoredSketch() {
+        HyperLogLog stored = new HyperLogLog();
+        stored.offer(HyperLogLog.hash("m:1"));
+        given(boardViewerSketchRepository.findAllByIdForUpdate(any())).willReturn(List.of(sketchOf(1L, stored)));
+
+        counter.record(1L, 1L, null);
+        counter.record(1L, 2L, null);
+        counter.record(1L, null, "127.0.0.1|test");
+        counter.flush();
+
+        ArgumentCaptor<Map<Long, Long>> counts = ArgumentCaptor.forClass(Map.class);
+        verify(boardRepository).updateUniqueViewerCounts(counts.capture());
+        assertThat(counts.getValue()).containsEntry(1L, 3L);
+        verify(boardViewerSketchRepository).upsertSketches(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 주기에 다시 반영한다")
+    void flush_RequeuesOnFailure() {
+        given(boardViewerSketchRepository.findAllByIdForUpdate(any())).willReturn(List.of());
+        willThrow(new RuntimeException("db down"))
+                .given(boardViewerSketchRepository).upsertSketches(anyMap());
+
+        counter.record(1L, 1L, null);
+        counter.flush();
+        counter.flush();
+
+        verify(boardViewerSketchRepository, times(2)).upsertSketches(anyMap());
+    }
+
+    @Test
+    @DisplayName("조회자를 구분할 수 없으면 기록하지 않는다")
+    void record_IgnoresUnknownViewer() {
+        counter.record(1L, null, null);
+        counter.flush();
+
+        verify(boardViewerSketchRepository, never()).upsertSketches(anyMap());
+    }
+
+    private BoardViewerSketch sketchOf(Long boardId, HyperLogLog sketch) {
+        BoardViewerSketch entity = mock(BoardViewerSketch.class);
+        given(entity.getBoardId()).willReturn(boardId);
+        given(entity.getSketch()).willReturn(sketch.toBytes());
+        return entity;
+    }
+}
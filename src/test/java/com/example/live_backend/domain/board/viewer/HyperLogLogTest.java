@@ -0,0 +1,70 @@
+package com.example.live_backend.domain.board.viewer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 조회자가 반복해서 조회해도 한 번만 센다")
+    void estimate_IgnoresDuplicates() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.offer(HyperLogLog.hash("m:1"));
+            sketch.offer(HyperLogLog.hash("m:2"));
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("고유 조회자 수를 표준 오차 범위 안에서 추정한다")
+    void estimate_WithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            sketch.offer(HyperLogLog.hash("m:" + i));
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(50_000, within(50_000 * 0.05));
+    }
+
+    @Test
+    @DisplayName("병합한 스케치는 합집합의 크기를 추정한다")
+    void merge_EstimatesUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            first.offer(HyperLogLog.hash("m:" + i));
+            second.offer(HyperLogLog.hash("m:" + (i + 500)));
+        }
+
+        first.merge(second);
+
+        assertThat((double) first.estimate()).isCloseTo(1_500, within(1_500 * 0.05));
+    }
+
+    @Test
+    @DisplayName("희소/밀집 형식 모두 직렬화 후 같은 추정값을 복원한다")
+    void toBytes_RoundTrip() {
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            sparse.offer(HyperLogLog.hash("a:" + i));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            dense.offer(HyperLogLog.hash("a:" + i));
+        }
+
+        byte[] sparseBytes = sparse.toBytes();
+        byte[] denseBytes = dense.toBytes();
+
+        assertThat(sparseBytes.length).isLessThan(64);
+        assertThat(denseBytes.length).isEqualTo(2 + HyperLogLog.REGISTER_COUNT);
+        assertThat(HyperLogLog.fromBytes(sparseBytes).estimate()).isEqualTo(sparse.estimate());
+        assertThat(HyperLogLog.fromBytes(denseBytes).estimate()).isEqualTo(dense.estimate());
+    }
+}
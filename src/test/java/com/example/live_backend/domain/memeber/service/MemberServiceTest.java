@@ -32,6 +32,9 @@ class MemberServiceTest {
 	@Mock
 	private MemberRepository memberRepository;
 
+	@Mock
+	private MemberSummaryLoader memberSummaryLoader;
+
 	@InjectMocks
 	private MemberService memberService;
 
@@ -222,6 +225,7 @@ class MemberServiceTest {
 			assertThat(result.getGender()).isEqualTo("MALE");
 			assertThat(result.getOccupation()).isEqualTo("STUDENT");
 			verify(memberRepository).findById(userId);
+			verify(memberSummaryLoader).evict(userId);
 		}
 
 		@Test
@@ -0,0 +1,74 @@
+package com.example.live_backend.domain.memeber.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.live_backend.domain.memeber.dto.MemberSummary;
+import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.infra.database.PrimaryReads;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberSummaryLoader 테스트")
+class MemberSummaryLoaderTest {
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	private MemberSummaryLoader loader;
+
+	@BeforeEach
+	void setUp() {
+		loader = new MemberSummaryLoader(memberRepository, new PrimaryReads(null, null), 100);
+	}
+
+	@Test
+	@DisplayName("중복 ID는 한 번만 조회하고, 캐시된 회원은 다시 조회하지 않는다")
+	void loadAll_QueriesOnlyMissingMembers() {
+		given(memberRepository.findSummariesByIdIn(List.of(1L, 2L)))
+			.willReturn(List.of(new MemberSummary(1L, "하나", null), new MemberSummary(2L, "둘", null)));
+		given(memberRepository.findSummariesByIdIn(List.of(3L)))
+			.willReturn(List.of(new MemberSummary(3L, "셋", null)));
+
+		loader.loadAll(List.of(1L, 2L, 1L));
+		Map<Long, MemberSummary> result = loader.loadAll(List.of(1L, 3L));
+
+		assertThat(result).containsOnlyKeys(1L, 3L);
+		then(memberRepository).should().findSummariesByIdIn(List.of(1L, 2L));
+		then(memberRepository).should().findSummariesByIdIn(List.of(3L));
+	}
+
+	@Test
+	@DisplayName("조회되지 않는 회원의 닉네임은 대체 문구로 채운다")
+	void loadNicknames_Fallback() {
+		given(memberRepository.findSummariesByIdIn(List.of(1L, 2L)))
+			.willReturn(List.of(new MemberSummary(1L, "하나", null)));
+
+		Map<Long, String> result = loader.loadNicknames(List.of(1L, 2L), "알 수 없음");
+
+		assertThat(result).containsEntry(1L, "하나").containsEntry(2L, "알 수 없음");
+	}
+
+	@Test
+	@DisplayName("evict 후에는 회원 정보를 다시 조회한다")
+	void evict_ReloadsMember() {
+		given(memberRepository.findSummariesByIdIn(List.of(1L)))
+			.willReturn(List.of(new MemberSummary(1L, "하나", null)))
+			.willReturn(List.of(new MemberSummary(1L, "새닉네임", null)));
+
+		loader.loadAll(List.of(1L));
+		loader.evict(1L);
+		Map<Long, MemberSummary> result = loader.loadAll(List.of(1L));
+
+		assertThat(result.get(1L).nickname()).isEqualTo("새닉네임");
+	}
+}
@@ -0,0 +1,215 @@
+package com.example.live_backend.domain.mission.clover.assign;
+
+import com.example.live_backend.domain.memeber.Role;
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.memeber.repository.MemberRepository;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.domain.mission.clover.entity.TimerMission;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionRepository;
+import com.example.live_backend.domain.mission.clover.service.CloverSurveySummary;
+import com.example.live_backend.domain.mission.clover.service.VectorDBService;
+import com.example.live_backend.global.batch.JobCheckpointRepository;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloverMissionPreassignJob 테스트")
+class CloverMissionPreassignJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 17);
+    private static final LocalDate TARGET_DATE = TODAY.plusDays(1);
+    private static final String JOB_NAME = CloverMissionPreassignJob.jobName(TARGET_DATE);
+
+    @Mock
+    private CloverMissionPreassignRepository preassignRepository;
+
+    @Mock
+    private CloverMissionPreassignWriter preassignWriter;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private VectorDBService vectorDBService;
+
+    @Mock
+    private CloverMissionRepository cloverMissionRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CloverSurveySummary cloverSurveySummary;
+
+    @Captor
+    private ArgumentCaptor<List<CloverMissionRecord>> records;
+
+    private ExecutorService executor;
+    private CloverMissionPreassignJob job;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-17T01:00:00Z"), ZoneId.of("UTC"));
+        job = new CloverMissionPreassignJob(preassignRepository, preassignWriter, jobCheckpointRepository,
+                vectorDBService, cloverMissionRepository, memberRepository, cloverSurveySummary, 2, 30, executor,
+                new SimpleMeterRegistry(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("진행 위치 이후 회원 중 아직 할당되지 않은 회원에게 다음 날 미션을 청크 단위로 저장한다")
+    void run_AssignsTomorrowFromCheckpoint() {
+        given(jobCheckpointRepository.findLastProcessedId(JOB_NAME)).willReturn(10L);
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 10L, 2)).willReturn(List.of(11L, 12L));
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 12L, 2)).willReturn(List.of());
+        given(preassignRepository.findAssignedMemberIds(TARGET_DATE, List.of(11L, 12L))).willReturn(Set.of(12L));
+        given(memberRepository.findAllById(List.of(11L))).willReturn(List.of(member(11L)));
+        given(cloverSurveySummary.ofAll(Set.of(11L))).willReturn(Map.of(11L, "산책을 좋아해요"));
+        given(vectorDBService.searchSimilarMissionsIdsForBatch(anyString(), eq(3), anyList())).willReturn(List.of(1L, 2L));
+        given(cloverMissionRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(mission(1L), mission(2L)));
+
+        job.run();
+
+        verify(preassignWriter).discard(CloverMissionPreassignJob.jobName(TODAY));
+        verify(preassignWriter).write(eq(JOB_NAME), eq(10L), eq(12L), records.capture());
+        assertThat(records.getValue())
+                .extracting(CloverMissionRecord::getMissionId)
+                .containsExactly(1L, 2L);
+        assertThat(records.getValue())
+                .allSatisfy(record -> {
+                    assertThat(record.getAssignedDate()).isEqualTo(TARGET_DATE);
+                    assertThat(record.getMember().getId()).isEqualTo(11L);
+                });
+    }
+
+    @Test
+    @DisplayName("추천에 실패한 회원은 건너뛰고 나머지 회원의 할당은 저장한다")
+    void run_SkipsFailedMembers() {
+        given(jobCheckpointRepository.findLastProcessedId(JOB_NAME)).willReturn(0L);
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 0L, 2)).willReturn(List.of(1L, 2L));
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 2L, 2)).willReturn(List.of());
+        given(preassignRepository.findAssignedMemberIds(TARGET_DATE, List.of(1L, 2L))).willReturn(Set.of());
+        given(memberRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(member(1L), member(2L)));
+        given(cloverSurveySummary.ofAll(Set.of(1L, 2L))).willReturn(Map.of(1L, "산책을 좋아해요", 2L, "음악을 좋아해요"));
+        given(vectorDBService.searchSimilarMissionsIdsForBatch(anyString(), eq(3), anyList()))
+                .willReturn(List.of(5L))
+                .willThrow(new CustomException(ErrorCode.MISSION_RECOMMENDATION_BUSY));
+        given(cloverMissionRepository.findAllById(List.of(5L))).willReturn(List.of(mission(5L)));
+
+        job.run();
+
+        verify(preassignWriter).write(eq(JOB_NAME), eq(0L), eq(2L), records.capture());
+        assertThat(records.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("회원별 저장과 진행 위치 저장까지 실패하면 진행 위치를 넘기지 않고 실행을 멈춘다")
+    void run_StopsOnWriteFailure() {
+        given(jobCheckpointRepository.findLastProcessedId(JOB_NAME)).willReturn(0L);
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 0L, 2)).willReturn(List.of(1L, 2L));
+        given(preassignRepository.findAssignedMemberIds(eq(TARGET_DATE), anyList()))
+                .willAnswer(invocation -> Set.copyOf(invocation.<List<Long>>getArgument(1)));
+        given(memberRepository.findAllById(List.of())).willReturn(List.of());
+        given(cloverMissionRepository.findAllById(List.of())).willReturn(List.of());
+        given(preassignWriter.write(eq(JOB_NAME), anyLong(), anyLong(), anyList()))
+                .willThrow(new IllegalStateException("db down"));
+
+        job.run();
+
+        verify(preassignWriter, never()).write(eq(JOB_NAME), eq(1L), eq(2L), anyList());
+        verify(preassignRepository, never()).findActiveMemberIds(TODAY.minusDays(30), 2L, 2);
+        verify(vectorDBService, never()).searchSimilarMissionsIdsForBatch(anyString(), eq(3), anyList());
+    }
+
+    @Test
+    @DisplayName("청크 저장에 실패하면 회원별로 다시 저장하고, 저장되지 않는 회원은 건너뛰고 이어간다")
+    void run_SkipsPoisonedMember() {
+        given(jobCheckpointRepository.findLastProcessedId(JOB_NAME)).willReturn(0L);
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 0L, 2)).willReturn(List.of(1L, 2L));
+        given(preassignRepository.findActiveMemberIds(TODAY.minusDays(30), 2L, 2)).willReturn(List.of());
+        given(preassignRepository.findAssignedMemberIds(eq(TARGET_DATE), anyList())).willReturn(Set.of());
+        given(memberRepository.findAllById(anyList())).willAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).stream().map(CloverMissionPreassignJobTest::member).toList());
+        given(cloverSurveySummary.ofAll(anyCollection())).willAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .collect(Collectors.toMap(Function.identity(), id -> "요약-" + id)));
+        given(vectorDBService.searchSimilarMissionsIdsForBatch(anyString(), eq(3), anyList())).willReturn(List.of(5L));
+        given(cloverMissionRepository.findAllById(List.of(5L))).willReturn(List.of(mission(5L)));
+        // 청크 전체 저장과 1번 회원의 할당 저장만 실패
+        given(preassignWriter.write(eq(JOB_NAME), anyLong(), anyLong(), anyList())).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            long lastMemberId = invocation.getArgument(2);
+            List<CloverMissionRecord> written = invocation.getArgument(3);
+            if (afterId == 0L && (lastMemberId == 2L || !written.isEmpty())) {
+                throw new IllegalStateException("poisoned");
+            }
+            return written.size();
+        });
+
+        job.run();
+
+        verify(preassignWriter).write(JOB_NAME, 0L, 1L, List.of());
+        verify(preassignWriter).write(eq(JOB_NAME), eq(1L), eq(2L), records.capture());
+        assertThat(records.getValue())
+                .singleElement()
+                .satisfies(record -> assertThat(record.getMember().getId()).isEqualTo(2L));
+        verify(preassignRepository).findActiveMemberIds(TODAY.minusDays(30), 2L, 2);
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder()
+                .oauthId("oauth-" + id)
+                .email("member" + id + "@example.com")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    private static CloverMission mission(Long id) {
+        CloverMission mission = new TimerMission(300);
+        ReflectionTestUtils.setField(mission, "id", id);
+        ReflectionTestUtils.setField(mission, "title", "5분 명상하기");
+        return mission;
+    }
+}
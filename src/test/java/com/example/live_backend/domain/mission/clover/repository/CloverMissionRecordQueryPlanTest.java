@@ -0,0 +1,180 @@
+package com.example.live_backend.domain.mission.clover.repository;
+
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.infra.strategy.UpperSnakeNamingStrategy;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.boot.model.naming.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CLOVER_MISSION_RECORDS 조회 쿼리의 실행 계획 회귀 테스트
+ * QUERY_PLAN_MYSQL_URL(과 QUERY_PLAN_MYSQL_USERNAME / QUERY_PLAN_MYSQL_PASSWORD)이 설정된 경우에만 실행되며,
+ * 임시 스키마에 테이블을 만들고 CloverMissionRecordRepository 쿼리와 같은 조건의 SQL을 EXPLAIN 합니다.
+ * 인덱스는 엔티티의 @Table 선언에서, 테이블 이름은 그 이름에 UpperSnakeNamingStrategy 를 적용한 물리 이름으로 가져옵니다.
+ * 컬럼 정의와 SQL은 직접 작성한 것이라 Hibernate 가 생성한 스키마나 SQL 자체를 검증하지는 않습니다 (리포지토리 쿼리 조건이 바뀌면 여기 SQL도 맞춰야 함).
+ * 예) QUERY_PLAN_MYSQL_URL=jdbc:mysql://localhost:3306 ./gradlew test --tests '*QueryPlanTest'
+ */
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_MYSQL_URL", matches = ".+")
+@DisplayName("CloverMissionRecordRepository 실행 계획 테스트 (MySQL)")
+class CloverMissionRecordQueryPlanTest {
+
+    private static final Table TABLE = CloverMissionRecord.class.getAnnotation(Table.class);
+    // Hibernate 가 실제로 만드는 테이블 이름 (JpaConfig 의 명명 전략 적용)
+    private static final String TABLE_NAME = new UpperSnakeNamingStrategy()
+            .toPhysicalTableName(Identifier.toIdentifier(TABLE.name()), null)
+            .getText();
+    private static final String MEMBER_DATE_INDEX = "uk_clover_mission_records_member_date_mission";
+    private static final String MEMBER_STATUS_COMPLETED_INDEX = "idx_clover_mission_records_member_status_completed";
+
+    private static final int MEMBERS = 200;
+    private static final int DAYS = 60;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private String schema;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getenv("QUERY_PLAN_MYSQL_URL"),
+                System.getenv().getOrDefault("QUERY_PLAN_MYSQL_USERNAME", "root"),
+                System.getenv().getOrDefault("QUERY_PLAN_MYSQL_PASSWORD", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schema = "query_plan_" + System.nanoTime();
+        jdbcTemplate.execute("CREATE DATABASE " + schema);
+        jdbcTemplate.execute("USE " + schema);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE_NAME + " (" +
+                "ID BIGINT AUTO_INCREMENT PRIMARY KEY, MEMBER_ID BIGINT NOT NULL, MISSION_ID BIGINT NOT NULL, " +
+                "MISSION_TITLE VARCHAR(100) NOT NULL, MISSION_STATUS VARCHAR(20) NOT NULL, " +
+                "MISSION_CATEGORY VARCHAR(30), ASSIGNED_DATE DATE, COMPLETED_AT DATETIME(6)" + entityIndexes() + ")");
+        seed();
+        jdbcTemplate.execute("ANALYZE TABLE " + TABLE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + schema);
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("오늘 할당된 미션 조회는 회원+할당일 인덱스를 사용한다")
+    void findCloverMissionsList_UsesMemberDateIndex() {
+        Map<String, Object> plan = explain(
+                "SELECT * FROM " + TABLE_NAME + " WHERE MEMBER_ID = ? AND ASSIGNED_DATE = ?",
+                7L, Date.valueOf(FIRST_DATE.plusDays(30)));
+
+        assertIndexUsed(plan, MEMBER_DATE_INDEX);
+    }
+
+    @Test
+    @DisplayName("기간 내 할당 수 조회는 회원+할당일 인덱스 범위 검색을 사용한다")
+    void countAssignedInPeriod_UsesMemberDateIndex() {
+        Map<String, Object> plan = explain(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE MEMBER_ID = ? AND ASSIGNED_DATE BETWEEN ? AND ?",
+                7L, Date.valueOf(FIRST_DATE), Date.valueOf(FIRST_DATE.plusDays(6)));
+
+        assertIndexUsed(plan, MEMBER_DATE_INDEX);
+    }
+
+    @Test
+    @DisplayName("기간 내 완료 미션 조회는 회원+상태+완료시각 인덱스를 사용하고 정렬을 따로 하지 않는다")
+    void findCompletedInPeriod_UsesMemberStatusCompletedIndex() {
+        Map<String, Object> plan = explain(
+                "SELECT * FROM " + TABLE_NAME + " WHERE MEMBER_ID = ? AND MISSION_STATUS = ? " +
+                "AND COMPLETED_AT >= ? AND COMPLETED_AT < ? ORDER BY COMPLETED_AT ASC",
+                7L, "COMPLETED", startOf(FIRST_DATE.plusDays(10)), startOf(FIRST_DATE.plusDays(11)));
+
+        assertIndexUsed(plan, MEMBER_STATUS_COMPLETED_INDEX);
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    @Test
+    @DisplayName("기간 내 완료 수와 카테고리별 완료 수 조회도 같은 인덱스를 사용한다")
+    void completedAggregates_UseMemberStatusCompletedIndex() {
+        Object[] args = {7L, "COMPLETED", startOf(FIRST_DATE), startOf(FIRST_DATE.plusMonths(1))};
+
+        assertIndexUsed(explain(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE MEMBER_ID = ? AND MISSION_STATUS = ? " +
+                "AND COMPLETED_AT >= ? AND COMPLETED_AT < ?", args), MEMBER_STATUS_COMPLETED_INDEX);
+        assertIndexUsed(explain(
+                "SELECT MISSION_CATEGORY, COUNT(*) FROM " + TABLE_NAME + " WHERE MEMBER_ID = ? " +
+                "AND MISSION_STATUS = ? AND COMPLETED_AT >= ? AND COMPLETED_AT < ? GROUP BY MISSION_CATEGORY", args),
+                MEMBER_STATUS_COMPLETED_INDEX);
+    }
+
+    /**
+     * 엔티티 @Table 의 유니크 제약과 인덱스를 DDL 로 변환
+     */
+    private static String entityIndexes() {
+        StringBuilder ddl = new StringBuilder();
+        for (UniqueConstraint constraint : TABLE.uniqueConstraints()) {
+            ddl.append(", CONSTRAINT ").append(constraint.name())
+                    .append(" UNIQUE (").append(String.join(", ", constraint.columnNames())).append(")");
+        }
+        for (Index index : TABLE.indexes()) {
+            ddl.append(", INDEX ").append(index.name()).append(" (").append(index.columnList()).append(")");
+        }
+        return ddl.toString();
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(rows).isNotEmpty();
+        return rows.get(0);
+    }
+
+    private static void assertIndexUsed(Map<String, Object> plan, String index) {
+        assertThat(String.valueOf(plan.get("key"))).as("plan: %s", plan).isEqualToIgnoringCase(index);
+        assertThat(String.valueOf(plan.get("type"))).as("plan: %s", plan).isNotEqualTo("ALL");
+    }
+
+    private static Timestamp startOf(LocalDate date) {
+        return Timestamp.valueOf(date.atStartOfDay());
+    }
+
+    private void seed() {
+        String[] statuses = {"ASSIGNED", "STARTED", "COMPLETED"};
+        String[] categories = {"RELATIONSHIP", "ENVIRONMENT", "HEALTH"};
+        List<Object[]> rows = new ArrayList<>();
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            for (int day = 0; day < DAYS; day++) {
+                LocalDate assignedDate = FIRST_DATE.plusDays(day);
+                for (int slot = 0; slot < 3; slot++) {
+                    String status = statuses[(int)((memberId + day + slot) % statuses.length)];
+                    LocalDateTime completedAt = "COMPLETED".equals(status) ? assignedDate.atTime(9 + slot * 4, 0) : null;
+                    rows.add(new Object[]{memberId, (long)(day * 3 + slot + 1), "미션", status, categories[slot],
+                            Date.valueOf(assignedDate), completedAt != null ? Timestamp.valueOf(completedAt) : null});
+                }
+            }
+            if (rows.size() >= 5_000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO " + TABLE_NAME + " (MEMBER_ID, MISSION_ID, MISSION_TITLE, " +
+                "MISSION_STATUS, MISSION_CATEGORY, ASSIGNED_DATE, COMPLETED_AT) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
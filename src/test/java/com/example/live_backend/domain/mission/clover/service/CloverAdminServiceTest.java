@@ -4,26 +4,34 @@ import com.example.live_backend.domain.mission.clover.Enum.CloverType;
 import com.example.live_backend.domain.mission.clover.Enum.MissionCategory;
 import com.example.live_backend.domain.mission.clover.Enum.MissionDifficulty;
 import com.example.live_backend.domain.mission.clover.Enum.TargetUserType;
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionProgressDto;
+import com.example.live_backend.domain.mission.clover.dto.AdminBulkRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.AdminRegisterCloverMissionResponseDto;
 import com.example.live_backend.domain.mission.clover.dto.CloverMissionCreateRequestDto;
 import com.example.live_backend.domain.mission.clover.dto.CloverMissionVectorDataDto;
 import com.example.live_backend.domain.mission.clover.entity.CloverMission;
 import com.example.live_backend.domain.mission.clover.repository.CloverMissionRepository;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -41,9 +49,17 @@ class CloverAdminServiceTest {
     @Mock
     private VectorStore vectorStore;
 
-    @InjectMocks
+    @Mock
+    private CloverMissionBulkWriter cloverMissionBulkWriter;
+
     private CloverAdminService cloverAdminService;
 
+    @BeforeEach
+    void setUp() {
+        cloverAdminService = new CloverAdminService(cloverMissionRepository, vectorStore, cloverMissionBulkWriter,
+                new ObjectMapper(), 2);
+    }
+
     private AdminRegisterCloverMissionRequestDto buildRequest(CloverType type) {
         CloverMissionCreateRequestDto create = new CloverMissionCreateRequestDto();
         ReflectionTestUtils.setField(create, "missionTitle", "걷기 미션");
@@ -174,6 +190,102 @@ class CloverAdminServiceTest {
             verify(vectorStore, never()).add(anyList());
         }
     }
-}
 
+    @Nested
+    @DisplayName("클로버 미션 일괄 등록")
+    class BulkRegister {
+
+        private final AtomicLong nextId = new AtomicLong(100L);
+
+        private void givenWriterAssignsIds() {
+            given(cloverMissionBulkWriter.write(anyList(), anyList())).willAnswer(invocation -> {
+                List<CloverMission> missions = invocation.getArgument(0);
+                return missions.stream().map(mission -> nextId.getAndIncrement()).toList();
+            });
+        }
+
+        @Test
+        @DisplayName("청크 크기만큼 나눠 저장하고, 잘못된 미션은 위치와 사유를 남긴 채 나머지를 등록한다")
+        void registerBulk_ChunksAndReportsFailures() {
+            // Given
+            givenWriterAssignsIds();
+            List<AdminRegisterCloverMissionRequestDto> requests = List.of(
+                    buildRequest(CloverType.TIMER),
+                    buildRequest(null),
+                    buildRequest(CloverType.DISTANCE),
+                    buildRequest(CloverType.PHOTO));
+
+            // When
+            AdminBulkRegisterCloverMissionResponseDto response = cloverAdminService.registerCloverMissions(requests);
+
+            // Then
+            verify(cloverMissionBulkWriter, times(2)).write(anyList(), anyList());
+            verify(cloverMissionRepository, never()).save(any());
+            assertThat(response.getTotal()).isEqualTo(4);
+            assertThat(response.getSucceeded()).isEqualTo(3);
+            assertThat(response.getCloverMissionIds()).containsExactly(100L, 101L, 102L);
+            assertThat(response.getFailures()).singleElement().satisfies(failure -> {
+                assertThat(failure.getIndex()).isEqualTo(1);
+                assertThat(failure.getMissionTitle()).isEqualTo("걷기 미션");
+                assertThat(failure.getReason()).isEqualTo(ErrorCode.INVALID_CLOVER_TYPE.getDetail());
+            });
+        }
+
+        @Test
+        @DisplayName("청크 저장에 실패하면 그 청크의 미션만 실패로 기록하고 다음 청크를 계속 등록한다")
+        void registerBulk_ContinuesAfterChunkFailure() {
+            // Given
+            given(cloverMissionBulkWriter.write(anyList(), anyList()))
+                    .willThrow(new RuntimeException("Vector error"))
+                    .willReturn(List.of(200L));
+            List<AdminRegisterCloverMissionRequestDto> requests = List.of(
+                    buildRequest(CloverType.TIMER),
+                    buildRequest(CloverType.TIMER),
+                    buildRequest(CloverType.VISIT));
+
+            // When
+            AdminBulkRegisterCloverMissionResponseDto response = cloverAdminService.registerCloverMissions(requests);
 
+            // Then
+            assertThat(response.getCloverMissionIds()).containsExactly(200L);
+            assertThat(response.getFailed()).isEqualTo(2);
+            assertThat(response.getFailures()).extracting(failure -> failure.getIndex()).containsExactly(0, 1);
+        }
+
+        @Test
+        @DisplayName("NDJSON 은 줄 단위로 읽어 청크마다 진행 상황을 알리고, 해석할 수 없는 줄은 실패로 기록한다")
+        void registerBulk_NdjsonReportsProgress() throws Exception {
+            // Given
+            givenWriterAssignsIds();
+            ObjectMapper objectMapper = new ObjectMapper();
+            String line = objectMapper.writeValueAsString(Map.of(
+                    "cloverMissionCreateRequestDto", Map.of(
+                            "missionTitle", "걷기 미션",
+                            "missionCategory", MissionCategory.HEALTH.name(),
+                            "missionDifficulty", MissionDifficulty.EASY.name(),
+                            "cloverType", CloverType.TIMER.name(),
+                            "requiredSeconds", 600),
+                    "cloverMissionVectorDataDto", Map.of(
+                            "targetUserType", TargetUserType.HEALTH_VULNERABLE.name(),
+                            "activityDescription", "도보 활동을 장려")));
+            String ndjson = line + "\n\n{not json}\n" + line + "\n" + line + "\n";
+            List<AdminBulkRegisterCloverMissionProgressDto> progress = new ArrayList<>();
+
+            // When
+            AdminBulkRegisterCloverMissionResponseDto response = cloverAdminService.registerCloverMissions(
+                    new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), progress::add);
+
+            // Then
+            assertThat(progress).extracting(AdminBulkRegisterCloverMissionProgressDto::getProcessed)
+                    .containsExactly(2, 4);
+            assertThat(progress.get(0).getFailures()).extracting(failure -> failure.getIndex()).containsExactly(1);
+            assertThat(response.getTotal()).isEqualTo(4);
+            assertThat(response.getCloverMissionIds()).containsExactly(100L, 101L, 102L);
+
+            ArgumentCaptor<List<CloverMission>> missionsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(cloverMissionBulkWriter, times(2)).write(missionsCaptor.capture(), anyList());
+            assertThat(missionsCaptor.getAllValues().get(0)).singleElement()
+                    .satisfies(mission -> assertThat(mission.getTitle()).isEqualTo("걷기 미션"));
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.memeber.Role;
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.mission.clover.entity.CloverMissionRecord;
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CloverDailyMissionAssigner 동시성 테스트")
+class CloverDailyMissionAssignerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 17);
+    private static final List<Long> RECOMMENDED = List.of(101L, 102L, 103L);
+    private static final int REQUESTS = 200;
+
+    private ExecutorService executor;
+    private RecordTable table;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(32);
+        table = new RecordTable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에 같은 회원의 요청이 동시에 몰려도 벡터 검색과 저장은 한 번만 수행된다")
+    void assign_SingleFlightWithinInstance() throws Exception {
+        CloverDailyMissionAssigner assigner = assigner(new FakeAssignWriter(table, 50));
+        Member member = member(1L);
+
+        List<List<CloverMissionRecord>> results = runConcurrently(REQUESTS, i -> assigner.assign(member, TODAY));
+
+        assertThat(table.searches).hasValue(1);
+        assertThat(table.rowsOf(1L, TODAY)).hasSize(3);
+        assertThat(results).allSatisfy(records ->
+                assertThat(records).extracting(CloverMissionRecord::getMissionId).containsExactlyElementsOf(RECOMMENDED));
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 할당해도 유니크 제약으로 하루 할당은 한 번만 저장된다")
+    void assign_UniqueGuardAcrossInstances() throws Exception {
+        List<CloverDailyMissionAssigner> instances = List.of(
+                assigner(new FakeAssignWriter(table, 50)),
+                assigner(new FakeAssignWriter(table, 50)),
+                assigner(new FakeAssignWriter(table, 50)));
+        Member member = member(1L);
+
+        List<List<CloverMissionRecord>> results = runConcurrently(REQUESTS,
+                i -> instances.get(i % instances.size()).assign(member, TODAY));
+
+        assertThat(table.rowsOf(1L, TODAY)).hasSize(3);
+        assertThat(table.searches.get()).isBetween(1, instances.size());
+        assertThat(results).allSatisfy(records ->
+                assertThat(records).extracting(CloverMissionRecord::getMissionId).containsExactlyElementsOf(RECOMMENDED));
+    }
+
+    @Test
+    @DisplayName("여러 회원이 동시에 요청하면 회원마다 정확히 한 번씩 할당된다")
+    void assign_OncePerMember() throws Exception {
+        CloverDailyMissionAssigner assigner = assigner(new FakeAssignWriter(table, 20));
+        List<Member> members = List.of(member(1L), member(2L), member(3L), member(4L));
+
+        runConcurrently(REQUESTS, i -> assigner.assign(members.get(i % members.size()), TODAY));
+
+        assertThat(table.searches).hasValue(members.size());
+        for (Member member : members) {
+            assertThat(table.rowsOf(member.getId(), TODAY)).hasSize(3);
+        }
+    }
+
+    @Test
+    @DisplayName("날짜가 다르면 별도로 할당된다")
+    void assign_OncePerDate() {
+        CloverDailyMissionAssigner assigner = assigner(new FakeAssignWriter(table, 0));
+        Member member = member(1L);
+
+        assigner.assign(member, TODAY);
+        assigner.assign(member, TODAY.plusDays(1));
+        assigner.assign(member, TODAY);
+
+        assertThat(table.searches).hasValue(2);
+        assertThat(table.rowsOf(1L, TODAY)).hasSize(3);
+        assertThat(table.rowsOf(1L, TODAY.plusDays(1))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("할당이 실패하면 기다리던 요청도 같은 예외를 받고, 이후 요청은 다시 시도한다")
+    void assign_PropagatesFailureThenRetries() throws Exception {
+        FakeAssignWriter writer = new FakeAssignWriter(table, 50);
+        CloverDailyMissionAssigner assigner = assigner(writer);
+        Member member = member(1L);
+        writer.failing = true;
+
+        List<Future<List<CloverMissionRecord>>> futures = submitConcurrently(20, i -> assigner.assign(member, TODAY));
+        for (Future<List<CloverMissionRecord>> future : futures) {
+            assertThatThrownBy(future::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(CustomException.class);
+        }
+        assertThat(table.rowsOf(1L, TODAY)).isEmpty();
+
+        writer.failing = false;
+        assertThat(assigner.assign(member, TODAY)).hasSize(3);
+        assertThat(table.rowsOf(1L, TODAY)).hasSize(3);
+    }
+
+    private CloverDailyMissionAssigner assigner(FakeAssignWriter writer) {
+        return new CloverDailyMissionAssigner(writer, new SimpleMeterRegistry());
+    }
+
+    private <T> List<T> runConcurrently(int count, IndexedTask<T> task) throws Exception {
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : submitConcurrently(count, task)) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private <T> List<Future<T>> submitConcurrently(int count, IndexedTask<T> task) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            Callable<T> callable = () -> {
+                ready.countDown();
+                start.await();
+                return task.run(index);
+            };
+            futures.add(executor.submit(callable));
+        }
+        ready.await();
+        start.countDown();
+        return futures;
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder()
+                .oauthId("oauth-" + id)
+                .email("member" + id + "@example.com")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask<T> {
+        T run(int index);
+    }
+
+    /**
+     * (member_id, assigned_date, mission_id) 유니크 제약이 있는 clover_mission_records 대역
+     */
+    private static class RecordTable {
+
+        private final Map<List<Object>, CloverMissionRecord> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger searches = new AtomicInteger();
+
+        List<CloverMissionRecord> rowsOf(Long memberId, LocalDate assignedDate) {
+            return rows.values().stream()
+                    .filter(row -> row.getMember().getId().equals(memberId) && row.getAssignedDate().equals(assignedDate))
+                    .sorted((a, b) -> Long.compare(a.getMissionId(), b.getMissionId()))
+                    .toList();
+        }
+
+        synchronized void insertAll(List<CloverMissionRecord> records) {
+            for (CloverMissionRecord record : records) {
+                if (rows.containsKey(keyOf(record))) {
+                    throw new DataIntegrityViolationException("Duplicate entry for uk_clover_mission_records_member_date_mission");
+                }
+            }
+            records.forEach(record -> rows.put(keyOf(record), record));
+        }
+
+        private static List<Object> keyOf(CloverMissionRecord record) {
+            return List.of(record.getMember().getId(), record.getAssignedDate(), record.getMissionId());
+        }
+    }
+
+    /**
+     * 조회 → 벡터 검색(지연) → 저장 순서로 동작하는 CloverMissionAssignWriter 대역
+     * 조회와 저장 사이에 잠금이 없으므로 인스턴스 간 경합은 RecordTable 의 유니크 제약으로만 막힙니다.
+     */
+    private static class FakeAssignWriter extends CloverMissionAssignWriter {
+
+        private final RecordTable table;
+        private final long searchLatencyMillis;
+        private volatile boolean failing;
+
+        FakeAssignWriter(RecordTable table, long searchLatencyMillis) {
+            super(null, null, null, null, null, null);
+            this.table = table;
+            this.searchLatencyMillis = searchLatencyMillis;
+        }
+
+        @Override
+        public List<CloverMissionRecord> assignIfAbsent(Member member, LocalDate assignedDate) {
+            List<CloverMissionRecord> assigned = table.rowsOf(member.getId(), assignedDate);
+            if (!assigned.isEmpty()) {
+                return assigned;
+            }
+
+            table.searches.incrementAndGet();
+            sleep(searchLatencyMillis);
+            if (failing) {
+                throw new CustomException(ErrorCode.MISSION_RECOMMENDATION_BUSY);
+            }
+
+            List<CloverMissionRecord> records = RECOMMENDED.stream()
+                    .map(missionId -> CloverMissionRecord.builder()
+                            .member(member)
+                            .missionId(missionId)
+                            .assignedDate(assignedDate)
+                            .build())
+                    .toList();
+            table.insertAll(records);
+            return records;
+        }
+
+        @Override
+        public List<CloverMissionRecord> findAssigned(Long memberId, LocalDate assignedDate) {
+            return table.rowsOf(memberId, assignedDate);
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.mission.clover.Enum.MissionCategory;
+import com.example.live_backend.domain.mission.clover.Enum.MissionDifficulty;
+import com.example.live_backend.domain.mission.clover.Enum.TargetUserType;
+import com.example.live_backend.domain.mission.clover.dto.CloverMissionVectorDataDto;
+import com.example.live_backend.domain.mission.clover.entity.CloverMission;
+import com.example.live_backend.domain.mission.clover.entity.DistanceMission;
+import com.example.live_backend.domain.mission.clover.repository.CloverMissionBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloverMissionBulkWriter 테스트")
+class CloverMissionBulkWriterTest {
+
+    @Mock
+    private CloverMissionBulkRepository cloverMissionBulkRepository;
+
+    @Mock
+    private VectorStore vectorStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CloverMissionBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new CloverMissionBulkWriter(cloverMissionBulkRepository, vectorStore, transactionManager);
+    }
+
+    @Test
+    @DisplayName("미션 INSERT 를 커밋한 뒤 벡터를 저장한다")
+    void write_AddsVectorsAfterCommit() {
+        List<CloverMission> missions = List.of(mission("걷기"), mission("산책"));
+        given(cloverMissionBulkRepository.insertAll(missions)).willReturn(List.of(1L, 2L));
+
+        List<Long> missionIds = writer.write(missions, List.of(vectorData(), vectorData()));
+
+        assertThat(missionIds).containsExactly(1L, 2L);
+        InOrder inOrder = inOrder(cloverMissionBulkRepository, transactionManager, vectorStore);
+        inOrder.verify(cloverMissionBulkRepository).insertAll(missions);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(vectorStore).add(anyList());
+        verify(cloverMissionBulkRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("벡터 저장에 실패하면 커밋된 미션과 문서를 지우고 예외를 전달한다")
+    void write_DeletesMissionsWhenVectorAddFails() {
+        List<CloverMission> missions = List.of(mission("걷기"));
+        given(cloverMissionBulkRepository.insertAll(missions)).willReturn(List.of(1L));
+        willThrow(new RuntimeException("Vector error")).given(vectorStore).add(anyList());
+
+        assertThatThrownBy(() -> writer.write(missions, List.of(vectorData())))
+                .hasMessage("Vector error");
+
+        verify(vectorStore).delete(anyList());
+        verify(cloverMissionBulkRepository).deleteAll(List.of(1L));
+    }
+
+    private static CloverMission mission(String title) {
+        CloverMission mission = new DistanceMission(1000);
+        ReflectionTestUtils.setField(mission, "title", title);
+        ReflectionTestUtils.setField(mission, "category", MissionCategory.HEALTH);
+        ReflectionTestUtils.setField(mission, "difficulty", MissionDifficulty.EASY);
+        return mission;
+    }
+
+    private static CloverMissionVectorDataDto vectorData() {
+        CloverMissionVectorDataDto vectorData = new CloverMissionVectorDataDto();
+        ReflectionTestUtils.setField(vectorData, "targetUserType", TargetUserType.HEALTH_VULNERABLE);
+        ReflectionTestUtils.setField(vectorData, "relatedFeature", "건강 취약층");
+        ReflectionTestUtils.setField(vectorData, "activityDescription", "도보 활동을 장려");
+        ReflectionTestUtils.setField(vectorData, "expectedEffect", "심폐지구력 향상");
+        return vectorData;
+    }
+}
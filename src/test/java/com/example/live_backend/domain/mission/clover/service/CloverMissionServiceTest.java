@@ -60,6 +60,12 @@ class CloverMissionServiceTest {
     @Mock
     private CloverMissionRepository cloverMissionRepository;
 
+    @Mock
+    private CloverDailyMissionAssigner cloverDailyMissionAssigner;
+
+    @Mock
+    private CloverSurveySummary cloverSurveySummary;
+
     private Member mockMember;
     private final Long TEST_MEMBER_ID = 1L;
     private final Long TEST_USER_MISSION_ID = 10L;
@@ -119,10 +125,6 @@ class CloverMissionServiceTest {
             given(cloverMissionRecordRepository.findCloverMissionsList(eq(TEST_MEMBER_ID), any(LocalDate.class)))
                     .willReturn(Collections.emptyList());
 
-            List<Long> missionIdsFromVectorDB = List.of(1L, 10L, 20L);
-            given(vectorDBService.searchSimilarMissionsIds(anyString(), anyInt(), anyList()))
-                    .willReturn(missionIdsFromVectorDB);
-
             DistanceMission mission1 = new DistanceMission(1000);
             ReflectionTestUtils.setField(mission1, "id", 1L);
             ReflectionTestUtils.setField(mission1, "title", "공원 1km 걷기");
@@ -142,13 +144,11 @@ class CloverMissionServiceTest {
             ReflectionTestUtils.setField(mission2, "difficulty", MissionDifficulty.NORMAL);
 
             List<CloverMission> foundMissions = List.of(mission1, mission2, mission3);
-            given(cloverMissionRepository.findAllById(missionIdsFromVectorDB))
-                    .willReturn(foundMissions);
 
             List<CloverMissionRecord> savedMissions = foundMissions.stream()
                     .map(mission -> CloverMissionRecord.from(mission, mockMember))
                     .toList();
-            given(cloverMissionRecordRepository.saveAll(anyList())).willReturn(savedMissions);
+            given(cloverDailyMissionAssigner.assign(eq(mockMember), any(LocalDate.class))).willReturn(savedMissions);
 
             // --- When ---
             CloverMissionListResponseDto result = cloverMissionService.getCloverMissionList(TEST_MEMBER_ID);
@@ -158,9 +158,8 @@ class CloverMissionServiceTest {
             assertThat(result.getUserId()).isEqualTo(TEST_MEMBER_ID);
             assertThat(result.getMissions().size()).isEqualTo(3);
 
-            verify(vectorDBService, times(1)).searchSimilarMissionsIds(anyString(), eq(3), anyList());
-            verify(cloverMissionRepository, times(1)).findAllById(missionIdsFromVectorDB);
-            verify(cloverMissionRecordRepository, times(1)).saveAll(anyList());
+            verify(cloverDailyMissionAssigner, times(1)).assign(eq(mockMember), any(LocalDate.class));
+            verify(vectorDBService, never()).searchSimilarMissionsIds(anyString(), anyInt(), anyList());
         }
 
         @Test
@@ -172,7 +171,7 @@ class CloverMissionServiceTest {
             given(cloverMissionRecordRepository.findCloverMissionsList(eq(TEST_MEMBER_ID), any(LocalDate.class)))
                     .willReturn(Collections.emptyList());
 
-            given(vectorDBService.searchSimilarMissionsIds(anyString(), eq(3), anyList()))
+            given(cloverDailyMissionAssigner.assign(eq(mockMember), any(LocalDate.class)))
                     .willThrow(new CustomException(ErrorCode.MISSION_NOT_FOUND));
 
             // --- When & Then ---
@@ -180,7 +179,6 @@ class CloverMissionServiceTest {
                     cloverMissionService.getCloverMissionList(TEST_MEMBER_ID));
 
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.MISSION_NOT_FOUND);
-            verify(cloverMissionRepository, never()).findAllById(any());
             verify(cloverMissionRecordRepository, never()).saveAll(anyList());
         }
 
@@ -564,6 +562,7 @@ class CloverMissionServiceTest {
 
             List<Long> excludedIds = List.of(101L, 102L);
             List<Long> newMissionIds = List.of(103L, 104L);
+            given(cloverSurveySummary.of(TEST_MEMBER_ID)).willReturn("산책을 좋아해요");
             given(vectorDBService.searchSimilarMissionsIds(anyString(), anyInt(), eq(excludedIds)))
                     .willReturn(newMissionIds);
 
@@ -631,6 +630,7 @@ class CloverMissionServiceTest {
                     .map(CloverMissionRecord::getMissionId)
                     .toList();
 
+            given(cloverSurveySummary.of(TEST_MEMBER_ID)).willReturn("산책을 좋아해요");
             given(vectorDBService.searchSimilarMissionsIds(anyString(), anyInt(), eq(excludedMissionIds)))
                     .willThrow(new CustomException(ErrorCode.MISSION_NOT_FOUND));
 
@@ -0,0 +1,78 @@
+package com.example.live_backend.domain.mission.clover.service;
+
+import com.example.live_backend.domain.memeber.Role;
+import com.example.live_backend.domain.memeber.entity.Member;
+import com.example.live_backend.domain.survey.entity.SurveyAnswer;
+import com.example.live_backend.domain.survey.entity.SurveyQuestion;
+import com.example.live_backend.domain.survey.entity.SurveyQuestionOption;
+import com.example.live_backend.domain.survey.entity.SurveyResponse;
+import com.example.live_backend.domain.survey.repository.SurveyResponseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloverSurveySummary 테스트")
+class CloverSurveySummaryTest {
+
+    @Mock
+    private SurveyResponseRepository surveyResponseRepository;
+
+    @InjectMocks
+    private CloverSurveySummary cloverSurveySummary;
+
+    @Test
+    @DisplayName("최근 설문 응답을 문항 순서대로 요약하고, 설문이 없는 회원은 기본 요약문을 쓴다")
+    void ofAll_SummarizesLatestResponse() {
+        SurveyResponse response = SurveyResponse.builder().member(member(1L)).build();
+        response.addAnswer(answer(2, "요즘 가장 하고 싶은 활동은?", "산책"));
+        response.addAnswer(answer(1, "오늘 기분은 어떤가요?", "답답해요"));
+        given(surveyResponseRepository.findLatestByMemberIdIn(Set.of(1L, 2L))).willReturn(List.of(response));
+
+        Map<Long, String> summaries = cloverSurveySummary.ofAll(List.of(1L, 2L));
+
+        assertThat(summaries).containsExactlyInAnyOrderEntriesOf(Map.of(
+                1L, "오늘 기분은 어떤가요?: 답답해요, 요즘 가장 하고 싶은 활동은?: 산책",
+                2L, CloverSurveySummary.DEFAULT_SUMMARY));
+    }
+
+    private static SurveyAnswer answer(int questionNumber, String questionText, String optionText) {
+        SurveyQuestion question = SurveyQuestion.builder()
+                .questionNumber(questionNumber)
+                .questionText(questionText)
+                .isRequired(true)
+                .isActive(true)
+                .build();
+        SurveyQuestionOption option = SurveyQuestionOption.builder()
+                .surveyQuestion(question)
+                .optionNumber(1)
+                .optionText(optionText)
+                .isActive(true)
+                .build();
+        return SurveyAnswer.builder()
+                .surveyQuestion(question)
+                .selectedOption(option)
+                .build();
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder()
+                .oauthId("oauth-" + id)
+                .email("member" + id + "@example.com")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.live_backend.global.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("CachingEmbeddingModel 테스트")
+class CachingEmbeddingModelTest {
+
+    private QueryEmbeddingRepository queryEmbeddingRepository;
+    private FakeEmbeddingModel fakeModel;
+
+    @BeforeEach
+    void setUp() {
+        queryEmbeddingRepository = mock(QueryEmbeddingRepository.class);
+        fakeModel = new FakeEmbeddingModel();
+    }
+
+    @Test
+    @DisplayName("같은 텍스트는 한 번만 외부 모델로 임베딩한다")
+    void embed_CachesInMemory() {
+        CachingEmbeddingModel model = cachingModel(false);
+
+        float[] first = model.embed("산책하고 싶어요");
+        float[] second = model.embed("산책하고 싶어요");
+
+        assertThat(second).containsExactly(first);
+        assertThat(fakeModel.requestedTexts).containsExactly("산책하고 싶어요");
+        verify(queryEmbeddingRepository, never()).findByContentHashIn(any());
+    }
+
+    @Test
+    @DisplayName("목록 임베딩은 캐시에 없는 텍스트만 중복 없이 한 번에 요청하고 입력 순서대로 반환한다")
+    void embedAll_RequestsOnlyMissing() {
+        CachingEmbeddingModel model = cachingModel(false);
+        model.embed("b");
+
+        List<float[]> vectors = model.embed(List.of("a", "b", "a", "c"));
+
+        assertThat(fakeModel.requestedTexts).containsExactly("b", "a", "c");
+        assertThat(vectors).hasSize(4);
+        assertThat(vectors.get(0)).containsExactly(FakeEmbeddingModel.vectorOf("a"));
+        assertThat(vectors.get(1)).containsExactly(FakeEmbeddingModel.vectorOf("b"));
+        assertThat(vectors.get(2)).containsExactly(FakeEmbeddingModel.vectorOf("a"));
+        assertThat(vectors.get(3)).containsExactly(FakeEmbeddingModel.vectorOf("c"));
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 DB에 저장된 벡터를 사용하고 외부 모델을 호출하지 않는다")
+    void embed_UsesPersistedVector() {
+        EmbeddingCache cache = new EmbeddingCache(queryEmbeddingRepository, "test-model", 100, true,
+                new SimpleMeterRegistry());
+        float[] stored = {0.5f, -1.25f, 3.0f};
+        given(queryEmbeddingRepository.findByContentHashIn(any())).willReturn(
+                List.of(persisted(cache.keyOf("하늘 보기"), stored)));
+        CachingEmbeddingModel model = new CachingEmbeddingModel(fakeModel, cache);
+
+        assertThat(model.embed("하늘 보기")).containsExactly(stored);
+        assertThat(fakeModel.requestedTexts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새로 계산한 벡터는 DB에 저장한다")
+    void embed_PersistsNewVector() {
+        EmbeddingCache cache = new EmbeddingCache(queryEmbeddingRepository, "test-model", 100, true,
+                new SimpleMeterRegistry());
+        given(queryEmbeddingRepository.findByContentHashIn(any())).willReturn(List.of());
+        CachingEmbeddingModel model = new CachingEmbeddingModel(fakeModel, cache);
+
+        model.embed("하늘 보기");
+
+        verify(queryEmbeddingRepository).insertIfAbsent(eq(cache.keyOf("하늘 보기")), eq("test-model"),
+                anyInt(), eq(QueryEmbedding.encode(FakeEmbeddingModel.vectorOf("하늘 보기"))), any());
+    }
+
+    @Test
+    @DisplayName("DB 저장에 실패해도 계산한 벡터를 반환한다")
+    void embed_IgnoresPersistFailure() {
+        EmbeddingCache cache = new EmbeddingCache(queryEmbeddingRepository, "test-model", 100, true,
+                new SimpleMeterRegistry());
+        given(queryEmbeddingRepository.findByContentHashIn(any())).willThrow(new IllegalStateException("db down"));
+        given(queryEmbeddingRepository.insertIfAbsent(anyString(), anyString(), anyInt(), any(), any()))
+                .willThrow(new IllegalStateException("db down"));
+        CachingEmbeddingModel model = new CachingEmbeddingModel(fakeModel, cache);
+
+        assertThat(model.embed("하늘 보기")).containsExactly(FakeEmbeddingModel.vectorOf("하늘 보기"));
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 같은 텍스트도 다른 키를 사용한다")
+    void keyOf_DependsOnModel() {
+        EmbeddingCache small = new EmbeddingCache(queryEmbeddingRepository, "small", 10, false, new SimpleMeterRegistry());
+        EmbeddingCache large = new EmbeddingCache(queryEmbeddingRepository, "large", 10, false, new SimpleMeterRegistry());
+
+        assertThat(small.keyOf("산책")).hasSize(64).isNotEqualTo(large.keyOf("산책"));
+    }
+
+    private CachingEmbeddingModel cachingModel(boolean persistent) {
+        EmbeddingCache cache = new EmbeddingCache(queryEmbeddingRepository, "test-model", 100, persistent,
+                new SimpleMeterRegistry());
+        return new CachingEmbeddingModel(fakeModel, cache);
+    }
+
+    private static QueryEmbedding persisted(String contentHash, float[] vector) {
+        QueryEmbedding embedding = BeanUtils.instantiateClass(QueryEmbedding.class);
+        ReflectionTestUtils.setField(embedding, "contentHash", contentHash);
+        ReflectionTestUtils.setField(embedding, "dimensions", vector.length);
+        ReflectionTestUtils.setField(embedding, "vector", QueryEmbedding.encode(vector));
+        return embedding;
+    }
+
+    /**
+     * 외부 호출 없이 텍스트마다 결정적인 벡터를 돌려주는 EmbeddingModel
+     */
+    private static class FakeEmbeddingModel implements EmbeddingModel {
+
+        private final List<String> requestedTexts = new ArrayList<>();
+
+        static float[] vectorOf(String text) {
+            return new float[]{text.length(), text.hashCode(), 1.0f};
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<String> texts = request.getInstructions();
+            requestedTexts.addAll(texts);
+            return new EmbeddingResponse(IntStream.range(0, texts.size())
+                    .mapToObj(i -> new Embedding(vectorOf(texts.get(i)), i))
+                    .toList());
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embed(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.live_backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LruCache 테스트")
+class LruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다")
+    void put_EvictsLeastRecentlyUsed() {
+        LruCache<Long, String> cache = new LruCache<>(2);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+
+        cache.put(3L, "c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.getAll(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("무효화된 항목은 조회되지 않는다")
+    void invalidate_RemovesEntry() {
+        LruCache<Long, String> cache = new LruCache<>(10);
+        cache.put(1L, "a");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기는 양수여야 한다")
+    void constructor_RejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new LruCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
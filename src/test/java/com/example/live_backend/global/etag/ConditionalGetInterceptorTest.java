@@ -0,0 +1,126 @@
+package com.example.live_backend.global.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConditionalGetInterceptor 테스트")
+class ConditionalGetInterceptorTest {
+
+    private BeanFactory beanFactory;
+    private ConditionalGetInterceptor interceptor;
+    private FixedVersionResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = mock(BeanFactory.class);
+        resolver = new FixedVersionResolver("v1");
+        when(beanFactory.getBean(FixedVersionResolver.class)).thenReturn(resolver);
+        interceptor = new ConditionalGetInterceptor(beanFactory);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 없으면 ETag 를 붙이고 컨트롤러를 실행한다")
+    void preHandle_SetsETag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest("GET", "/"), response, handler("annotated"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("ETag")).startsWith("W/\"");
+        assertThat(resolver.notModifiedCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 컨트롤러를 실행하지 않고 304로 응답한다")
+    void preHandle_NotModified() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/"), first, handler("annotated"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", "\"other\", " + first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, handler("annotated"));
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+        assertThat(resolver.notModifiedCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 새 ETag 로 컨트롤러를 실행한다")
+    void preHandle_Modified() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/"), first, handler("annotated"));
+
+        resolver.version = "v2";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, handler("annotated"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("ETag")).isNotEqualTo(first.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("어노테이션이 없는 핸들러는 계산기를 찾지 않는다")
+    void preHandle_IgnoresPlainHandler() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest("GET", "/"), response, handler("plain"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("ETag")).isNull();
+        verifyNoInteractions(beanFactory);
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    static class SampleController {
+
+        @ConditionalGet(FixedVersionResolver.class)
+        public String annotated() {
+            return "annotated";
+        }
+
+        public String plain() {
+            return "plain";
+        }
+    }
+
+    static class FixedVersionResolver implements ETagResolver {
+
+        private final AtomicInteger notModifiedCount = new AtomicInteger();
+        private String version;
+
+        FixedVersionResolver(String version) {
+            this.version = version;
+        }
+
+        @Override
+        public String resolve(HttpServletRequest request) {
+            return version;
+        }
+
+        @Override
+        public void onNotModified(HttpServletRequest request) {
+            notModifiedCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.live_backend.global.page;
+
+import com.example.live_backend.global.error.exception.CustomException;
+import com.example.live_backend.global.error.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorCodec 테스트")
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 복합 키를 그대로 복원한다")
+    void encodeAndDecode_RoundTrip() {
+        String cursor = CursorCodec.encode('V', 1_234L, 987_654_321L);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor, 'V', 2)).containsExactly(1_234L, 987_654_321L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 보고 null 을 반환한다")
+    void decode_EmptyCursor() {
+        assertThat(CursorCodec.decode(null, 'V', 2)).isNull();
+        assertThat(CursorCodec.decode("", 'V', 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서는 거부한다")
+    void decode_RejectsOtherSortType() {
+        String cursor = CursorCodec.encode('L', 10L);
+
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 'V', 2))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 거부한다")
+    void decode_RejectsMalformedCursor() {
+        assertThatThrownBy(() -> CursorCodec.decode("12345", 'L', 1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+}
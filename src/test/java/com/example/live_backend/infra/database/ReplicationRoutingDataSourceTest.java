@@ -0,0 +1,164 @@
+package com.example.live_backend.infra.database;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicationRoutingDataSource 테스트 (H2 대역)")
+class ReplicationRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("primary");
+        replica = node("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 primary 로 보낸다")
+    void routesByTransactionReadOnly() {
+        ReplicaLagMonitor monitor = monitor("SELECT 0");
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+        assertThat(currentNode(dataSource, false)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.connections").tag("route", "replica").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 대체한다")
+    void fallsBackToPrimaryWhenLagging() {
+        ReplicaLagMonitor monitor = monitor("SELECT 30");
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.replica_fallbacks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지연 확인에 실패하면 레플리카를 사용하지 않는다")
+    void fallsBackToPrimaryWhenCheckFails() {
+        ReplicaLagMonitor monitor = monitor("SELECT * FROM NOT_EXISTS");
+        monitor.check();
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(currentNode(routing(monitor), true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("마지막 지연 확인이 확인 주기의 2배보다 오래되면 레플리카를 사용하지 않는다")
+    void fallsBackToPrimaryWhenCheckIsStale() {
+        ReplicaLagMonitor monitor = monitor("SELECT 0");
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        clock.advanceMillis(10_000);
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+
+        clock.advanceMillis(1);
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+
+        monitor.check();
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("PrimaryReads 로 감싼 조회는 읽기 전용 트랜잭션 안에서도 primary 에서 읽는다")
+    void primaryReadsInsideReadOnlyTransaction() {
+        ReplicaLagMonitor monitor = monitor("SELECT 0");
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        PrimaryReads primaryReads = new PrimaryReads(transactionManager, monitor);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        String[] nodes = readOnly.execute(status -> new String[] {
+                jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class),
+                primaryReads.read(() -> jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class)),
+                jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class)
+        });
+
+        assertThat(nodes).containsExactly("replica", "primary", "replica");
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery) {
+        return new ReplicaLagMonitor(replica, lagQuery, 5, 5_000, meterRegistry, clock);
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primary, replica, monitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource.lazyProxy(true);
+    }
+
+    private String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT NAME FROM NODE", String.class));
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS NODE (NAME VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM NODE");
+        jdbcTemplate.update("INSERT INTO NODE (NAME) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.live_backend.infra.vector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HnswVectorStore 테스트")
+class HnswVectorStoreTest {
+
+    private static final int DIMENSIONS = 16;
+
+    @TempDir
+    Path tempDir;
+
+    private final FakeEmbeddingModel embeddingModel = new FakeEmbeddingModel();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("질의와 가장 비슷한 미션부터 반환한다")
+    void similaritySearch_ReturnsNearest() {
+        HnswVectorStore store = store(null);
+        store.add(missions(50));
+
+        List<Document> results = store.similaritySearch(SearchRequest.builder().query("mission-7").topK(3).build());
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getMetadata()).containsEntry("clover_mission_id", "7");
+        assertThat(results.get(0).getScore()).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("clover_mission_id not in 필터로 제외한 미션은 결과에 포함하지 않는다")
+    void similaritySearch_AppliesNotInFilter() {
+        HnswVectorStore store = store(null);
+        store.add(missions(50));
+
+        List<Document> results = store.similaritySearch(SearchRequest.builder()
+                .query("mission-7")
+                .topK(3)
+                .filterExpression("clover_mission_id not in ['7', '8', '9']")
+                .build());
+
+        assertThat(results).hasSize(3);
+        assertThat(results).extracting(document -> document.getMetadata().get("clover_mission_id"))
+                .doesNotContain("7", "8", "9");
+    }
+
+    @Test
+    @DisplayName("필터가 대부분을 제외해도 남은 미션으로 topK 를 채운다")
+    void similaritySearch_FillsTopKUnderSelectiveFilter() {
+        HnswVectorStore store = store(null);
+        store.add(missions(50));
+        List<String> excluded = IntStream.rangeClosed(1, 46).mapToObj(id -> "'" + id + "'").toList();
+
+        List<Document> results = store.similaritySearch(SearchRequest.builder()
+                .query("mission-1")
+                .topK(10)
+                .filterExpression("clover_mission_id not in [" + String.join(", ", excluded) + "]")
+                .build());
+
+        assertThat(results).extracting(document -> document.getMetadata().get("clover_mission_id"))
+                .containsExactlyInAnyOrder("47", "48", "49", "50");
+    }
+
+    @Test
+    @DisplayName("파일에 저장한 문서를 다시 열어도 같은 결과를 검색하고, 삭제한 문서는 남지 않는다")
+    void reload_RestoresFromFile() {
+        Path path = tempDir.resolve("missions-clover.vec");
+        HnswVectorStore store = store(path);
+        store.add(missions(30));
+        store.delete(List.of("mission-3"));
+        SearchRequest request = SearchRequest.builder().query("mission-5").topK(5).build();
+        List<Document> before = store.similaritySearch(request);
+        store.close();
+
+        HnswVectorStore reopened = store(path);
+
+        assertThat(reopened.similaritySearch(request))
+                .extracting(Document::getId)
+                .containsExactlyElementsOf(before.stream().map(Document::getId).toList())
+                .doesNotContain("mission-3");
+        assertThat(reopened.similaritySearch(request).get(0).getText()).isEqualTo("mission-5");
+    }
+
+    @Test
+    @DisplayName("다른 저장소가 열고 있는 파일은 열 수 없다")
+    void open_RejectsFileInUse() {
+        Path path = tempDir.resolve("missions-clover.vec");
+        HnswVectorStore store = store(path);
+
+        assertThatThrownBy(() -> store(path)).isInstanceOf(IllegalStateException.class);
+
+        store.close();
+        store(path).close();
+    }
+
+    @Test
+    @DisplayName("HNSW 검색 결과는 전체 비교 결과와 90% 이상 일치한다")
+    void search_RecallAgainstExact() {
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 200, 42L);
+        for (int i = 0; i < 2_000; i++) {
+            index.add("v" + i, randomVector(random));
+        }
+
+        int hits = 0;
+        int total = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomVector(random);
+            List<String> exact = index.exactSearch(query, 10, id -> true).stream().map(HnswIndex.Match::id).toList();
+            List<String> approximate = index.search(query, 10, 64, id -> true).stream()
+                    .map(HnswIndex.Match::id).toList();
+            hits += (int)approximate.stream().filter(exact::contains).count();
+            total += exact.size();
+        }
+
+        assertThat((double)hits / total).isGreaterThanOrEqualTo(0.9);
+    }
+
+    private HnswVectorStore store(Path path) {
+        return new HnswVectorStore(embeddingModel, objectMapper, path, 16, 200, 64);
+    }
+
+    private static List<Document> missions(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> new Document("mission-" + id, "mission-" + id,
+                        Map.of("clover_mission_id", String.valueOf(id), "mission_category", "WALK")))
+                .toList();
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float)random.nextGaussian();
+        }
+        return vector;
+    }
+
+    /**
+     * 외부 호출 없이 텍스트마다 결정적인 벡터를 돌려주는 EmbeddingModel
+     */
+    private static class FakeEmbeddingModel implements EmbeddingModel {
+
+        static float[] vectorOf(String text) {
+            return randomVector(new Random(text.hashCode()));
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<String> texts = request.getInstructions();
+            return new EmbeddingResponse(IntStream.range(0, texts.size())
+                    .mapToObj(i -> new Embedding(vectorOf(texts.get(i)), i))
+                    .toList());
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embed(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+    }
+}